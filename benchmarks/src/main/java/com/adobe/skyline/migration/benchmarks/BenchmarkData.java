@@ -0,0 +1,136 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+package com.adobe.skyline.migration.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the single files and workflow modules that the benchmarks run against.  Everything is derived from the
+ * parameters alone, so the same parameters always produce the same files.  Whole customer projects are written by the
+ * {@link com.adobe.skyline.migration.testutils.SyntheticProjectGenerator} that the tool's own tests use.
+ */
+final class BenchmarkData {
+
+    static final String MATCH_PROPERTY = "sling:resourceType";
+    static final String MATCH_VALUE = "benchmark/components/match";
+
+    static final String UPDATE_ASSET_MODEL = "/conf/global/settings/workflow/models/dam/update_asset";
+
+    private static final String PATH_TO_JCR_ROOT = "src/main/content/jcr_root";
+
+    //The processing steps of the archetype DAM Update Asset model, one for each profile mapper
+    private static final String[] MODEL_STEPS = {
+            "<metaData jcr:primaryType=\"nt:unstructured\" PROCESS=\"com.day.cq.dam.video.FFMpegThumbnailProcess\" "
+                    + "PROCESS_ARGS=\"count:4,index:2,[140:100],[48:48],[319:319]\" PROCESS_AUTO_ADVANCE=\"true\"/>",
+            "<metaData jcr:primaryType=\"nt:unstructured\" PROCESS=\"com.day.cq.dam.video.FFMpegTranscodeProcess\" "
+                    + "PROCESS_ARGS=\"profile:format_ogg,profile:format_hp\" PROCESS_AUTO_ADVANCE=\"true\"/>",
+            "<metaData jcr:primaryType=\"nt:unstructured\" PROCESS=\"com.day.cq.dam.core.process.CreatePdfPreviewProcess\" "
+                    + "MAX_HEIGHT=\"2048\" MAX_WIDTH=\"2048\" MIME_TYPES=\"[application/pdf,application/postscript,application/illustrator]\" "
+                    + "PROCESS_AUTO_ADVANCE=\"true\" RESOLUTION=\"72\"/>",
+            "<metaData jcr:primaryType=\"nt:unstructured\" PROCESS=\"com.day.cq.dam.core.process.ThumbnailProcess\" "
+                    + "CONFIGS=\"[140:100:false,48:48:false,319:319:false]\" CREATE_FPO_MIMETYPES=\"[image/pjpeg,image/jpeg,image/png]\" "
+                    + "FPO_QUALITY=\"10\" HEIGHT=\"1280\" MIME_TYPE=\"image/jpeg\" QUALITY=\"90\" SKIP=\"[audio/mpeg,video/(.*)]\" "
+                    + "WIDTH=\"1280\" PROCESS_AUTO_ADVANCE=\"true\"/>",
+            "<metaData jcr:primaryType=\"nt:unstructured\" PROCESS=\"com.day.cq.dam.core.process.CreateWebEnabledImageProcess\" "
+                    + "HEIGHT=\"1280\" WIDTH=\"1280\" QUALITY=\"90\" MIME_TYPE=\"image/jpeg\" KEEP_FORMAT_LIST=\"image/pjpeg,image/jpeg,image/png\" "
+                    + "SKIP=\"audio/mpeg,video/(.*)\" PROCESS_AUTO_ADVANCE=\"true\"/>",
+            "<metaData jcr:primaryType=\"nt:unstructured\" PROCESS=\"com.adobe.test.workflow.AddNewMetaDataProcess\" "
+                    + "PROCESS_AUTO_ADVANCE=\"true\"/>"
+    };
+
+    private static final String[][] VIDEO_PROFILES = {
+            {"format_ogg", "ogg", "theora"},
+            {"format_hp", "mp4", "h264"}
+    };
+
+    private BenchmarkData() {}
+
+    static File createTempDirectory() throws IOException {
+        return Files.createTempDirectory("wf-migrator-benchmark").toFile();
+    }
+
+    static void deleteRecursively(File root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Writes a single .content.xml, padded to roughly the given size with ordinary properties.  The match property is
+     * written last, so that a search has to read through the whole file to find it.
+     */
+    static void writeContentXml(File file, int fileSize, boolean match) throws IOException {
+        StringBuilder xml = new StringBuilder(fileSize + 512);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<jcr:root xmlns:sling=\"http://sling.apache.org/jcr/sling/1.0\" xmlns:jcr=\"http://www.jcp.org/jcr/1.0\" ");
+        xml.append("xmlns:nt=\"http://www.jcp.org/jcr/nt/1.0\"\n    jcr:primaryType=\"nt:unstructured\">\n");
+
+        for (int child = 0; xml.length() < fileSize; child++) {
+            xml.append("    <child").append(child).append(" jcr:primaryType=\"nt:unstructured\" jcr:title=\"Child ")
+                    .append(child).append("\" value=\"").append(Integer.toHexString(child * 31)).append("\"/>\n");
+        }
+
+        xml.append("    <jcr:content jcr:primaryType=\"nt:unstructured\" ");
+        xml.append(MATCH_PROPERTY).append("=\"").append(match ? MATCH_VALUE : "benchmark/components/other").append("\"/>\n");
+        xml.append("</jcr:root>\n");
+
+        Files.write(file.toPath(), xml.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a content package module holding a DAM Update Asset model with the given number of steps, cycling through
+     * the processing steps of the archetype model, and the video profiles its transcoding step refers to.
+     *
+     * @return the root of the module
+     */
+    static File createUpdateAssetModule(File root, int steps) throws IOException {
+        File jcrRoot = new File(root, PATH_TO_JCR_ROOT);
+
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<jcr:root xmlns:sling=\"http://sling.apache.org/jcr/sling/1.0\" xmlns:cq=\"http://www.day.com/jcr/cq/1.0\" ");
+        xml.append("xmlns:jcr=\"http://www.jcp.org/jcr/1.0\" xmlns:nt=\"http://www.jcp.org/jcr/nt/1.0\"\n    jcr:primaryType=\"cq:Page\">\n");
+        xml.append("    <jcr:content jcr:primaryType=\"cq:PageContent\" jcr:title=\"DAM Update Asset\" ");
+        xml.append("sling:resourceType=\"cq/workflow/components/pages/model\">\n");
+        xml.append("        <flow jcr:primaryType=\"nt:unstructured\" sling:resourceType=\"foundation/components/parsys\">\n");
+        for (int i = 0; i < steps; i++) {
+            xml.append("            <process").append(i).append(" jcr:primaryType=\"nt:unstructured\" jcr:title=\"Step ").append(i)
+                    .append("\" sling:resourceType=\"cq/workflow/components/model/process\">\n");
+            xml.append("                ").append(MODEL_STEPS[i % MODEL_STEPS.length]).append("\n");
+            xml.append("            </process").append(i).append(">\n");
+        }
+        xml.append("        </flow>\n    </jcr:content>\n</jcr:root>\n");
+        write(new File(jcrRoot, UPDATE_ASSET_MODEL + "/.content.xml"), xml.toString());
+
+        for (String[] profile : VIDEO_PROFILES) {
+            write(new File(jcrRoot, "conf/global/settings/dam/video/" + profile[0] + "/.content.xml"),
+                    "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                    + "<jcr:root xmlns:jcr=\"http://www.jcp.org/jcr/1.0\" jcr:primaryType=\"cq:Page\">\n"
+                    + "    <jcr:content jcr:primaryType=\"nt:unstructured\" width=\"320\" height=\"240\" extension=\""
+                    + profile[1] + "\" videoCodec=\"" + profile[2] + "\" videoBitrate=\"4096\"/>\n"
+                    + "</jcr:root>\n");
+        }
+
+        return root;
+    }
+
+    private static void write(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
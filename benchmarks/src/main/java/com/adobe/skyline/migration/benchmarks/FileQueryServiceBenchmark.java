@@ -0,0 +1,96 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+package com.adobe.skyline.migration.benchmarks;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.testutils.SyntheticProjectGenerator;
+import com.adobe.skyline.migration.util.file.FileMatcher;
+import com.adobe.skyline.migration.util.file.FileQueryService;
+import com.adobe.skyline.migration.util.file.matchers.XmlContentMatcher;
+
+/**
+ * Searching a generated customer project for the launchers and models, as the project loader does.  Most of the
+ * project is non-workflow noise under /conf and /content, which every search has to read through.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class FileQueryServiceBenchmark {
+
+    @Param({"1", "8"})
+    public int modules;
+
+    @Param({"1000", "10000"})
+    public int noiseFilesPerModule;
+
+    private File root;
+    private FileQueryService queryService;
+    private List<FileMatcher> matchers;
+
+    @Setup
+    public void setUp() throws Exception {
+        root = BenchmarkData.createTempDirectory();
+
+        SyntheticProjectGenerator generator = new SyntheticProjectGenerator();
+        generator.setModules(modules);
+        generator.setLaunchersPerModule(10);
+        generator.setModelsPerModule(10);
+        generator.setNoiseFilesPerModule(noiseFilesPerModule);
+        generator.setBinaryFilesPerModule(noiseFilesPerModule / 10);
+        generator.setDepth(4);
+        generator.generate(root);
+
+        queryService = new FileQueryService();
+        matchers = Arrays.asList(new XmlContentMatcher(MigrationConstants.JCR_PRIMARY_TYPE_PROP,
+                        MigrationConstants.WORKFLOW_LAUNCHER_TYPE_VALUE),
+                new XmlContentMatcher(MigrationConstants.SLING_RESOURCE_TYPE_PROP,
+                        MigrationConstants.WORKFLOW_MODEL_RESOURCE_TYPE_VALUE));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkData.deleteRecursively(root);
+    }
+
+    @Benchmark
+    public List<String> findFilesByNodeProperty() {
+        return queryService.findFilesByNodeProperty(MigrationConstants.JCR_PRIMARY_TYPE_PROP,
+                MigrationConstants.WORKFLOW_LAUNCHER_TYPE_VALUE, root);
+    }
+
+    @Benchmark
+    public Map<FileMatcher, List<String>> findFilesMatching() {
+        return queryService.findFilesMatching(matchers, root);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+package com.adobe.skyline.migration.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.adobe.skyline.migration.model.ProcessingProfile;
+import com.adobe.skyline.migration.model.RenditionConfig;
+import com.adobe.skyline.migration.model.workflow.Workflow;
+import com.adobe.skyline.migration.model.workflow.WorkflowLauncher;
+import com.adobe.skyline.migration.transformer.processingprofile.MimeTypeMerger;
+import com.adobe.skyline.migration.transformer.processingprofile.mappers.RenditionBuilder;
+
+/**
+ * Merging the mimetype conditions of a workflow's launchers into the renditions of its processing profile.  Merging
+ * modifies the profile, so each invocation merges into a fresh profile.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class MimeTypeMergerBenchmark {
+
+    private static final String[] CONDITIONS = {
+            "jcr:content/jcr:mimeType==image/jpeg",
+            "jcr:content/jcr:mimeType!=video/.*",
+            "jcr:content/jcr:mimeType==[image/png,image/gif]",
+            "jcr:content/jcr:mimeType!=application/pdf",
+            "jcr:content/cq:tags==marketing"
+    };
+
+    private static final List<List<String>> RENDITION_MIMETYPES = Arrays.asList(
+            Arrays.asList("image/.*"),
+            Arrays.asList("image/jpeg", "image/png", "image/gif"),
+            Arrays.asList("video/.*"),
+            Arrays.asList("application/pdf", "application/postscript")
+    );
+
+    @Param({"1", "10", "100"})
+    public int launchers;
+
+    @Param({"10", "100"})
+    public int renditions;
+
+    private Workflow workflow;
+
+    @Setup
+    public void setUp() {
+        workflow = new Workflow();
+        for (int i = 0; i < launchers; i++) {
+            WorkflowLauncher launcher = new WorkflowLauncher();
+            launcher.setName("launcher" + i);
+            launcher.setConditions(Arrays.asList(CONDITIONS[i % CONDITIONS.length], CONDITIONS[(i + 1) % CONDITIONS.length]));
+            workflow.addLauncher(launcher);
+        }
+    }
+
+    @Benchmark
+    public ProcessingProfile mergeRenditionMimetypes() {
+        ProcessingProfile profile = createProfile();
+        new MimeTypeMerger(workflow).mergeRenditionMimetypes(profile);
+        return profile;
+    }
+
+    private ProcessingProfile createProfile() {
+        ProcessingProfile profile = new ProcessingProfile();
+        List<RenditionConfig> configs = new ArrayList<>(renditions);
+        for (int i = 0; i < renditions; i++) {
+            configs.add(RenditionBuilder.buildRendition(48 + i, 48 + i, "thumbnail", "cq5dam",
+                    new HashSet<>(RENDITION_MIMETYPES.get(i % RENDITION_MIMETYPES.size())), new HashSet<>()));
+        }
+        profile.setRenditions(configs);
+        return profile;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+package com.adobe.skyline.migration.benchmarks;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.adobe.skyline.migration.dao.WorkflowModelDAO;
+import com.adobe.skyline.migration.model.ChangeTrackingService;
+import com.adobe.skyline.migration.model.RenditionConfig;
+import com.adobe.skyline.migration.model.workflow.WorkflowModel;
+import com.adobe.skyline.migration.model.workflow.WorkflowStep;
+import com.adobe.skyline.migration.transformer.processingprofile.ProfileMapper;
+import com.adobe.skyline.migration.transformer.processingprofile.ProfileMapperFactoryImpl;
+
+/**
+ * Mapping a single workflow step to renditions, for each of the profile mappers.  The steps are those of the archetype
+ * DAM Update Asset model, within a model of the given number of steps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ProfileMapperBenchmark {
+
+    @Param({
+            "com.day.cq.dam.core.process.ThumbnailProcess",
+            "com.day.cq.dam.core.process.CreateWebEnabledImageProcess",
+            "com.day.cq.dam.core.process.CreatePdfPreviewProcess",
+            "com.day.cq.dam.video.FFMpegThumbnailProcess",
+            "com.day.cq.dam.video.FFMpegTranscodeProcess"
+    })
+    public String process;
+
+    @Param({"6", "600"})
+    public int steps;
+
+    private File module;
+    private WorkflowModel model;
+    private WorkflowStep step;
+    private ProfileMapper mapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        module = BenchmarkData.createUpdateAssetModule(BenchmarkData.createTempDirectory(), steps);
+        model = new WorkflowModelDAO().loadWorkflowModel(module.getPath(), BenchmarkData.UPDATE_ASSET_MODEL);
+
+        for (WorkflowStep candidate : model.getWorkflowSteps()) {
+            if (process.equals(candidate.getProcess())) {
+                step = candidate;
+                break;
+            }
+        }
+        mapper = new ProfileMapperFactoryImpl(new ChangeTrackingService()).getMapper(step);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkData.deleteRecursively(module);
+    }
+
+    @Benchmark
+    public List<RenditionConfig> mapToRenditions() {
+        return mapper.mapToRenditions(model, step);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+package com.adobe.skyline.migration.benchmarks;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.adobe.skyline.migration.dao.WorkflowModelDAO;
+import com.adobe.skyline.migration.model.workflow.WorkflowModel;
+import com.adobe.skyline.migration.testutils.SyntheticProjectGenerator;
+
+/**
+ * Loading the DAM Update Asset model of a generated module.  Without the cache every load parses the model, as the
+ * first load in a migration does; with it, repeated loads are served from the DAO's document cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class WorkflowModelDAOBenchmark {
+
+    @Param({"6", "60", "600"})
+    public int steps;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private File root;
+    private File module;
+    private WorkflowModelDAO cachingDAO;
+
+    @Setup
+    public void setUp() throws Exception {
+        root = BenchmarkData.createTempDirectory();
+
+        SyntheticProjectGenerator generator = new SyntheticProjectGenerator();
+        generator.setModelsPerModule(1);
+        generator.setStepsPerModel(steps);
+        generator.setNoiseFilesPerModule(0);
+        generator.setBinaryFilesPerModule(0);
+        generator.generate(root);
+
+        module = new File(root, generator.getModuleNames().get(0));
+        cachingDAO = new WorkflowModelDAO();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkData.deleteRecursively(root);
+    }
+
+    @Benchmark
+    public WorkflowModel loadWorkflowModel() throws Exception {
+        WorkflowModelDAO dao = cached ? cachingDAO : new WorkflowModelDAO();
+        return dao.loadWorkflowModel(module.getPath(), SyntheticProjectGenerator.UPDATE_ASSET_MODEL_PATH);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+package com.adobe.skyline.migration.benchmarks;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.adobe.skyline.migration.util.file.matchers.XmlContentMatcher;
+
+/**
+ * Testing a single .content.xml for a property.  The property is at the end of the file when it matches, so both
+ * cases read the whole file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class XmlContentMatcherBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    public int fileSize;
+
+    @Param({"true", "false"})
+    public boolean match;
+
+    private File directory;
+    private File file;
+    private XmlContentMatcher matcher;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = BenchmarkData.createTempDirectory();
+        file = new File(directory, ".content.xml");
+        BenchmarkData.writeContentXml(file, fileSize, match);
+        matcher = new XmlContentMatcher(BenchmarkData.MATCH_PROPERTY, BenchmarkData.MATCH_VALUE);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkData.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return matcher.matches(file);
+    }
+}
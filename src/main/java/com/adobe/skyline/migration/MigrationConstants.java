@@ -63,6 +63,11 @@ public class MigrationConstants {
     public static final String FILTER_TAG_NAME = "filter";
     public static final String ROOT_PROPERTY = "root";
 
+    //Content Package Constants
+    public static final String PACKAGE_EXTENSION = ".zip";
+    public static final String PACKAGE_PROPERTIES_XML = "properties.xml";
+    public static final String MIGRATION_PACKAGE_GROUP = "aem-cloud-migration";
+
     //Maven Constants
     public static final String SRC = "src";
     public static final String MAIN = "main";
@@ -129,14 +134,20 @@ public class MigrationConstants {
     public static final String REPORT_EXTENSION = "md";
     public static final String REPORT_FILENAME = REPORT_NAME + "." + REPORT_EXTENSION;
     public static final String REPORT_TEMPLATE_FILENAME = "report-template.md";
+    public static final String PLAN_NAME = "migration-plan";
+    public static final String PLAN_EXTENSION = "json";
     public static final String NO_LAUNCHER_MSG = "No workflow launchers were disabled.";
     public static final String NO_RUNNER_CFG_MSG = "No workflow runner configurations were created.";
     public static final String NO_MODEL_UPDATE_MSG = "No workflow models were modified.";
     public static final String NO_PATHS_DELETED_MSG = "No paths were deleted.";
     public static final String NO_PROFILE_MSG = "No processing profiles were created.";
+    public static final String NO_RENDITION_ELIMINATED_MSG = "No duplicate renditions were eliminated.";
     public static final String NO_FAILURE_MSG = "No issues were encountered.";
     public static final String NO_PROJECT_MSG = "No Maven projects were created.";
 
+    //Incremental Migration Constants
+    public static final String MANIFEST_FILENAME = ".wf-migrator-manifest";
+
     //Filetype Constants
     public static final String PNG_EXTENSION = "png";
     public static final String JPEG_EXTENSION = "jpeg";
@@ -14,10 +14,8 @@ package com.adobe.skyline.migration.dao;
 
 import java.io.File;
 
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -26,23 +24,27 @@ import org.w3c.dom.NodeList;
 
 import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.exception.MigrationRuntimeException;
-import com.adobe.skyline.migration.util.XmlUtil;
+import com.adobe.skyline.migration.util.DocumentCache;
+import com.adobe.skyline.migration.util.XmlFactoryPool;
 
 public class ContainerProjectDAO {
 
-    private XPath xPath;
-
     private File allPomFile;
     private Document allPomXml;
     private FilterFileDAO filterDAO;
+    private DocumentCache documentCache;
 
     public ContainerProjectDAO(String projectRoot) {
-        this.xPath = XPathFactory.newInstance().newXPath();
+        this(projectRoot, new DocumentCache());
+    }
+
+    public ContainerProjectDAO(String projectRoot, DocumentCache documentCache) {
+        this.documentCache = documentCache;
 
         try {
             this.allPomFile = new File(projectRoot, MigrationConstants.POM_XML);
-            this.allPomXml = XmlUtil.loadXml(this.allPomFile);
-            this.filterDAO = new FilterFileDAO(projectRoot);
+            this.allPomXml = documentCache.load(this.allPomFile);
+            this.filterDAO = new FilterFileDAO(projectRoot, documentCache);
         } catch (Exception e) {
             throw new MigrationRuntimeException("Failed to initialize ContainerProjectDAO.", e);
         }
@@ -52,7 +54,7 @@ public class ContainerProjectDAO {
         try {
             addProjectToEmbeddeds(groupId, projectName);
             addProjectToDependencies(groupId, projectName);
-            XmlUtil.writeXml(allPomXml, allPomFile);
+            documentCache.write(allPomXml, allPomFile);
             filterDAO.addPath(MigrationConstants.MIGRATION_PACKAGE_PATH); //FilterFileDAO checks for dupes, so no need to get fancy here
         } catch (Exception e) {
             throw new MigrationRuntimeException("Exception occurred when adding a new project to the container project POM.", e);
@@ -60,8 +62,7 @@ public class ContainerProjectDAO {
     }
 
     private void addProjectToEmbeddeds(String groupId, String projectName) throws XPathExpressionException {
-        String expression = "//embeddeds";
-        NodeList nodeList = (NodeList) xPath.compile(expression).evaluate(allPomXml, XPathConstants.NODESET);
+        NodeList nodeList = (NodeList) XmlFactoryPool.getXPathExpression("//embeddeds").evaluate(allPomXml, XPathConstants.NODESET);
         Node embeddedNode = nodeList.item(0);
 
         Element projectEmbed = allPomXml.createElement("embedded");
@@ -92,8 +93,7 @@ public class ContainerProjectDAO {
     }
 
     private void addProjectToDependencies(String groupId, String projectName) throws XPathExpressionException {
-        String expression = "/project/dependencies";
-        NodeList nodeList = (NodeList) xPath.compile(expression).evaluate(allPomXml, XPathConstants.NODESET);
+        NodeList nodeList = (NodeList) XmlFactoryPool.getXPathExpression("/project/dependencies").evaluate(allPomXml, XPathConstants.NODESET);
         Node dependenciesNode = nodeList.item(0);
 
         Element dependency = allPomXml.createElement("dependency");
@@ -0,0 +1,258 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.dao;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.exception.CustomerDataException;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+
+/**
+ * An object to abstract reading content packages from and writing them to ZIP files.  A package is opened as a zip file
+ * system, which reads the ZIP's central directory once and then looks entries up by path, so only the entries the
+ * migration reads are ever decompressed.
+ *
+ * The migration reads the package's filter and the files below the roots holding workflow launchers, models, video
+ * profiles and processing profiles.  Those files are copied into a content directory laid out like the
+ * <code>src/main/content</code> directory of a content package module, where the DAOs find them as usual.  Every file
+ * below those roots is copied, not only the <code>.content.xml</code> files, so that a node the migration moves or
+ * deletes takes its binaries and other files with it.  Everything else in the package, such as DAM binaries, stays in
+ * the ZIP.
+ */
+public class ContentPackageDAO {
+
+    private static final String JCR_ROOT_PREFIX = MigrationConstants.JCR_ROOT_ON_DISK + "/";
+    private static final String FILTER_ENTRY = MigrationConstants.META_INF + "/" + MigrationConstants.VAULT + "/" + MigrationConstants.FILTER_XML;
+    private static final String PROPERTIES_ENTRY = MigrationConstants.META_INF + "/" + MigrationConstants.VAULT + "/" + MigrationConstants.PACKAGE_PROPERTIES_XML;
+
+    //Below jcr_root, the trees that may hold files the migration reads or changes
+    private static final List<String> MIGRATED_ROOTS = Arrays.asList(
+            MigrationConstants.CONF,
+            MigrationConstants.ETC + "/" + MigrationConstants.WORKFLOW,
+            MigrationConstants.ETC + "/" + MigrationConstants.DAM + "/" + MigrationConstants.VIDEO,
+            MigrationConstants.VAR + "/" + MigrationConstants.WORKFLOW);
+
+    /**
+     * Copies the entries of the package that the migration reads into the content directory.
+     *
+     * @return the paths of the copied files and of the directories containing them, relative to the content directory
+     * and separated by <code>/</code>.
+     */
+    public Set<String> copyWorkflowContent(File packageFile, File contentDirectory) throws CustomerDataException {
+        Set<String> copiedPaths = new TreeSet<>();
+
+        try (FileSystem pkg = openPackage(packageFile)) {
+            Path root = pkg.getPath("/");
+
+            Path filter = root.resolve(FILTER_ENTRY);
+            if (!Files.isRegularFile(filter)) {
+                throw new CustomerDataException("The content package at " + packageFile.getPath() + " has no " + FILTER_ENTRY + " file.");
+            }
+            copyEntry(root, filter, contentDirectory, copiedPaths);
+
+            for (String migratedRoot : MIGRATED_ROOTS) {
+                Path dir = root.resolve(JCR_ROOT_PREFIX + migratedRoot);
+                if (!Files.isDirectory(dir)) {
+                    continue;
+                }
+
+                //The nodes above the root are copied too, so that a directory holding other nodes never looks empty
+                for (String parent = getParentPath(migratedRoot); parent != null; parent = getParentPath(parent)) {
+                    Path parentNode = root.resolve(JCR_ROOT_PREFIX + parent + "/" + MigrationConstants.CONTENT_XML);
+                    if (Files.isRegularFile(parentNode)) {
+                        copyEntry(root, parentNode, contentDirectory, copiedPaths);
+                    }
+                }
+
+                List<Path> files;
+                try (Stream<Path> entries = Files.walk(dir)) {
+                    files = entries.filter(Files::isRegularFile).collect(Collectors.toList());
+                }
+                for (Path file : files) {
+                    copyEntry(root, file, contentDirectory, copiedPaths);
+                }
+            }
+        } catch (IOException e) {
+            throw new CustomerDataException("Unable to read the content package at " + packageFile.getPath(), e);
+        }
+
+        return copiedPaths;
+    }
+
+    /**
+     * Writes a copy of the package with the migration's changes to the copied files.  Copied files that were changed
+     * replace their entries, new files below the content directory are added, and every entry below a copied file or
+     * directory that the migration deleted is dropped.  The remaining entries are carried over without being
+     * decompressed.
+     */
+    public void writeMigratedPackage(File packageFile, File contentDirectory, Set<String> copiedPaths, File target) {
+        try {
+            Files.copy(packageFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            try (FileSystem pkg = openPackage(target)) {
+                Path root = pkg.getPath("/");
+
+                for (String path : listFiles(contentDirectory)) {
+                    byte[] content = Files.readAllBytes(new File(contentDirectory, path).toPath());
+                    Path entry = root.resolve(path);
+                    if (!Files.isRegularFile(entry) || !Arrays.equals(content, Files.readAllBytes(entry))) {
+                        Files.createDirectories(entry.getParent());
+                        Files.write(entry, content);
+                    }
+                }
+
+                List<Path> deletedEntries = new ArrayList<>();
+                try (Stream<Path> entries = Files.walk(root)) {
+                    entries.filter(entry -> !entry.equals(root))
+                            .filter(entry -> isDeleted(root.relativize(entry).toString(), contentDirectory, copiedPaths))
+                            .forEach(deletedEntries::add);
+                }
+                //Delete the deepest entries first, so that every directory is empty by the time it is deleted
+                deletedEntries.sort(Collections.reverseOrder());
+                for (Path entry : deletedEntries) {
+                    try {
+                        Files.delete(entry);
+                    } catch (DirectoryNotEmptyException e) {
+                        //Keeps entries that were never copied, so the directory stays
+                    }
+                }
+            }
+        } catch (IOException e) {
+            target.delete();
+            throw new MigrationRuntimeException("Unable to write the migrated content package to " + target.getPath(), e);
+        }
+    }
+
+    /**
+     * Packs the files below the content directory of a module created by the migration into a new package.
+     */
+    public void writeNewPackage(File contentDirectory, String name, String version, File target) {
+        try {
+            Files.deleteIfExists(target.toPath());
+
+            Map<String, String> env = new HashMap<>();
+            env.put("create", "true");
+            try (FileSystem pkg = FileSystems.newFileSystem(URI.create("jar:" + target.toURI()), env)) {
+                Path root = pkg.getPath("/");
+
+                for (String path : listFiles(contentDirectory)) {
+                    Path entry = root.resolve(path);
+                    Files.createDirectories(entry.getParent());
+                    Files.copy(new File(contentDirectory, path).toPath(), entry);
+                }
+
+                Path properties = root.resolve(PROPERTIES_ENTRY);
+                if (!Files.exists(properties)) {
+                    writePackageProperties(properties, name, version);
+                }
+            }
+        } catch (IOException e) {
+            target.delete();
+            throw new MigrationRuntimeException("Unable to write the content package to " + target.getPath(), e);
+        }
+    }
+
+    private static FileSystem openPackage(File packageFile) throws IOException {
+        return FileSystems.newFileSystem(packageFile.toPath(), (ClassLoader) null);
+    }
+
+    private static void copyEntry(Path root, Path entry, File contentDirectory, Set<String> copiedPaths) throws IOException {
+        String path = root.relativize(entry).toString();
+        File file = new File(contentDirectory, path);
+        file.getParentFile().mkdirs();
+        Files.copy(entry, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        for (String copied = path; copied != null; copied = getParentPath(copied)) {
+            if (!copiedPaths.add(copied)) {
+                break;
+            }
+        }
+    }
+
+    /*
+     * An entry is deleted if the deepest copied path containing it no longer exists in the content directory.  Entries
+     * outside every copied path, and entries below a copied directory that was kept, are left alone.  A directory above
+     * the migrated roots, such as /var, was only partly copied, so deleting it only deletes the entries that were copied
+     * and leaves the directory in place if anything else is below it.
+     */
+    private static boolean isDeleted(String path, File contentDirectory, Set<String> copiedPaths) {
+        for (String copied = path; copied != null; copied = getParentPath(copied)) {
+            if (copiedPaths.contains(copied)) {
+                return !new File(contentDirectory, copied).exists() && (copied.equals(path) || isInMigratedRoot(copied));
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInMigratedRoot(String path) {
+        for (String migratedRoot : MIGRATED_ROOTS) {
+            String rootPath = JCR_ROOT_PREFIX + migratedRoot;
+            if (path.equals(rootPath) || path.startsWith(rootPath + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getParentPath(String path) {
+        int separator = path.lastIndexOf('/');
+        return separator < 0 ? null : path.substring(0, separator);
+    }
+
+    private static List<String> listFiles(File contentDirectory) throws IOException {
+        if (!contentDirectory.isDirectory()) {
+            return Collections.emptyList();
+        }
+
+        Path contentRoot = contentDirectory.toPath();
+        try (Stream<Path> files = Files.walk(contentRoot)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> contentRoot.relativize(file).toString().replace(File.separatorChar, '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static void writePackageProperties(Path properties, String name, String version) throws IOException {
+        Properties packageProperties = new Properties();
+        packageProperties.setProperty("group", MigrationConstants.MIGRATION_PACKAGE_GROUP);
+        packageProperties.setProperty("name", name);
+        packageProperties.setProperty("version", version);
+
+        Files.createDirectories(properties.getParent());
+        try (OutputStream out = Files.newOutputStream(properties)) {
+            packageProperties.storeToXML(out, null);
+        }
+    }
+}
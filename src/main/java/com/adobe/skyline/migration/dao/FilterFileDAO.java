@@ -27,6 +27,7 @@ import org.w3c.dom.Node;
 
 import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.util.DocumentCache;
 import com.adobe.skyline.migration.util.XmlUtil;
 
 /**
@@ -35,14 +36,20 @@ import com.adobe.skyline.migration.util.XmlUtil;
 public class FilterFileDAO {
 
     private File filterFile;
+    private DocumentCache documentCache;
 
     public FilterFileDAO(String projectPath) {
+        this(projectPath, new DocumentCache());
+    }
+
+    public FilterFileDAO(String projectPath, DocumentCache documentCache) {
         this.filterFile = new File(Path.of(projectPath, MigrationConstants.PATH_TO_FILTER_XML).toString());
+        this.documentCache = documentCache;
     }
 
     public boolean hasPath(String path) {
         try {
-            Document filterXml = XmlUtil.loadXml(filterFile);
+            Document filterXml = documentCache.load(filterFile);
             Element workspaceFilterElement = filterXml.getDocumentElement();
 
             return hasEntry(workspaceFilterElement, path);
@@ -53,7 +60,7 @@ public class FilterFileDAO {
 
     public void addPath(String path) {
         try {
-            Document filterXml = XmlUtil.loadXml(filterFile);
+            Document filterXml = documentCache.load(filterFile);
             Element workspaceFilterElement = filterXml.getDocumentElement();
 
             if (!hasEntry(workspaceFilterElement, path)) {
@@ -66,7 +73,7 @@ public class FilterFileDAO {
 
     public List<String> findPathsWith(Pattern pattern) {
         try {
-            Document filterXml = XmlUtil.loadXml(filterFile);
+            Document filterXml = documentCache.load(filterFile);
             Element workspaceFilterElement = filterXml.getDocumentElement();
 
             return match(workspaceFilterElement, pattern);
@@ -77,19 +84,24 @@ public class FilterFileDAO {
 
     public void removePath(String entry) {
         try {
-            Document filterXml = XmlUtil.loadXml(filterFile);
+            Document filterXml = documentCache.load(filterFile);
             Element workspaceFilterElement = filterXml.getDocumentElement();
 
             List<Node> filterNodes = XmlUtil.getChildElementNodes(workspaceFilterElement);
 
+            boolean removed = false;
             for (Node currNode : filterNodes) {
                 String path = ((Element) currNode).getAttribute(MigrationConstants.ROOT_PROPERTY);
                 if (entry.equals(path)) {
                     workspaceFilterElement.removeChild(currNode);
-                    XmlUtil.writeXml(filterXml, filterFile);
+                    removed = true;
                 }
             }
 
+            if (removed) {
+                documentCache.write(filterXml, filterFile);
+            }
+
         } catch (Exception e) {
             throw new MigrationRuntimeException(e);
         }
@@ -130,6 +142,6 @@ public class FilterFileDAO {
         Element filterNode = filterXml.createElement(MigrationConstants.FILTER_TAG_NAME);
         filterNode.setAttribute(MigrationConstants.ROOT_PROPERTY, path);
         workspaceFilterElement.appendChild(filterNode);
-        XmlUtil.writeXml(filterXml, filterFile);
+        documentCache.write(filterXml, filterFile);
     }
 }
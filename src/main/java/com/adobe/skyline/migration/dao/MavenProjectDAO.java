@@ -15,7 +15,8 @@ package com.adobe.skyline.migration.dao;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.jar.JarFile;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
@@ -27,16 +28,21 @@ import org.xml.sax.SAXException;
 
 import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.exception.CustomerDataException;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
 import com.adobe.skyline.migration.exception.ProjectCreationException;
 import com.adobe.skyline.migration.model.ChangeTrackingService;
-import com.adobe.skyline.migration.util.XmlUtil;
-import com.adobe.skyline.migration.util.file.FileUtil;
+import com.adobe.skyline.migration.util.DocumentCache;
 
 public class MavenProjectDAO {
 
+    private static final String PARENT_GROUPID_PROPERTY = "PARENT-GROUPID";
+    private static final String PARENT_ARTIFACTID_PROPERTY = "PARENT-ARTIFACTID";
+    private static final String PARENT_VERSION_PROPERTY = "PARENT-VERSION";
+
     private String existingProjectPath;
     private ChangeTrackingService changeTracker;
     private ContainerProjectDAO containerProjectDAO;
+    private DocumentCache documentCache;
 
     private File reactorPomFile;
     private Document reactorPomXml;
@@ -44,17 +50,24 @@ public class MavenProjectDAO {
     private String reactorGroupId;
     private String reactorArtifactId;
     private String reactorVersion;
+    private Map<String, String> parentProperties;
 
     /**
      * Overloaded constructor to support use cases where the customer has already migrated to the new cloud service
      * structure for their content packages as well as cases where they haven't.
      */
     public MavenProjectDAO(String existingProjectPath, ChangeTrackingService changeTracker, ContainerProjectDAO containerProjectDao) throws CustomerDataException {
-        this.containerProjectDAO = containerProjectDao;
-        init(existingProjectPath, changeTracker);
+        this(existingProjectPath, changeTracker, containerProjectDao, new DocumentCache());
     }
 
     public MavenProjectDAO(String existingProjectPath, ChangeTrackingService changeTracker) throws CustomerDataException {
+        this(existingProjectPath, changeTracker, null, new DocumentCache());
+    }
+
+    public MavenProjectDAO(String existingProjectPath, ChangeTrackingService changeTracker, ContainerProjectDAO containerProjectDao,
+                           DocumentCache documentCache) throws CustomerDataException {
+        this.containerProjectDAO = containerProjectDao;
+        this.documentCache = documentCache;
         init(existingProjectPath, changeTracker);
     }
 
@@ -62,8 +75,11 @@ public class MavenProjectDAO {
      * Check to see if a project already exists.  This is used to determine whether it should be created.
      */
     public boolean projectExists(String projectName) {
-        String fullPath = Path.of(this.existingProjectPath, projectName).toString();
-        return (new File(fullPath)).exists();
+        try {
+            return documentCache.exists(Path.of(this.existingProjectPath, projectName).toFile());
+        } catch (IOException e) {
+            throw new MigrationRuntimeException(e);
+        }
     }
 
     /**
@@ -97,41 +113,34 @@ public class MavenProjectDAO {
             this.existingProjectPath = existingProjectPath;
             this.changeTracker = changeTracker;
             this.reactorPomFile = new File(existingProjectPath, MigrationConstants.POM_XML);
-            this.reactorPomXml = XmlUtil.loadXml(this.reactorPomFile);
+            this.reactorPomXml = documentCache.load(this.reactorPomFile);
 
             Element projectTag = reactorPomXml.getDocumentElement();
             this.reactorGroupId = projectTag.getElementsByTagName(MigrationConstants.GROUPID_TAG_NAME).item(0).getTextContent();
             this.reactorArtifactId = projectTag.getElementsByTagName(MigrationConstants.ARTIFACTID_TAG_NAME).item(0).getTextContent();
             this.reactorVersion = projectTag.getElementsByTagName(MigrationConstants.VERSION_TAG_NAME).item(0).getTextContent();
+
+            this.parentProperties = new HashMap<>();
+            parentProperties.put(PARENT_GROUPID_PROPERTY, reactorGroupId);
+            parentProperties.put(PARENT_ARTIFACTID_PROPERTY, reactorArtifactId);
+            parentProperties.put(PARENT_VERSION_PROPERTY, reactorVersion);
         } catch (IOException | SAXException | ParserConfigurationException e) {
             throw new CustomerDataException("Unable to parse reactor POM file.", e);
         }
     }
 
+    /*
+     * The template files are written through the document cache, like every other output, so that they are only
+     * created on disk when the cache is flushed.
+     */
     private void copyProject(String templatePath, String destPath) throws IOException {
-        String filePath = this.getClass().getResource(templatePath).getFile();
-        File destination = new File(destPath);
-
-        if (filePath.startsWith("file")) {
-            //We are running from the jar file
-            String jarPath = filePath.substring(5, filePath.indexOf("!")); //Trim "file: from the beginning of the string"
-            jarPath = jarPath.replaceAll("%20", " "); //Unencode the URL String that was returned by getResource()
-            JarFile source = new JarFile(jarPath);
-            FileUtil.copyDirectoryFromJar(source, templatePath, destPath);
-        } else {
-            //We are running in the IDE or through unit tests
-            File source = new File(filePath);
-            FileUtil.copyDirectoryRecursively(source, destination);
+        for (Map.Entry<String, byte[]> templateFile : ProjectTemplates.getTemplate(templatePath).entrySet()) {
+            byte[] content = templateFile.getValue();
+            if (templateFile.getKey().equals(MigrationConstants.POM_XML)) {
+                content = ProjectTemplates.fillIn(content, parentProperties);
+            }
+            documentCache.write(content, new File(destPath, templateFile.getKey()));
         }
-
-        File pom = new File(destination, MigrationConstants.POM_XML);
-        replaceParentProperties(pom);
-    }
-
-    private void replaceParentProperties(File pom) throws IOException {
-        FileUtil.findAndReplaceInFile(pom, "\\$\\{PARENT-GROUPID\\}", reactorGroupId);
-        FileUtil.findAndReplaceInFile(pom, "\\$\\{PARENT-ARTIFACTID\\}", reactorArtifactId);
-        FileUtil.findAndReplaceInFile(pom, "\\$\\{PARENT-VERSION\\}", reactorVersion);
     }
 
     private void addProjectToReactor(String projectName) throws TransformerException, IOException {
@@ -141,7 +150,7 @@ public class MavenProjectDAO {
         contentModule.setTextContent(projectName);
         modulesNode.appendChild(contentModule);
 
-        XmlUtil.writeXml(reactorPomXml, reactorPomFile);
+        documentCache.write(reactorPomXml, reactorPomFile);
     }
 
 }
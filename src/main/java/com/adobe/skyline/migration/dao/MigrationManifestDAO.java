@@ -0,0 +1,154 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.dao;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.model.MigrationManifest;
+import com.adobe.skyline.migration.model.MigrationManifest.FileRecord;
+import com.adobe.skyline.migration.model.MigrationManifest.WorkflowRecord;
+import com.adobe.skyline.migration.util.file.FileUtil;
+
+/**
+ * An object to abstract reading the incremental migration manifest from and writing it to the root of the customer
+ * project.  The manifest is a tab separated text file with one record per line:
+ *
+ * <pre>
+ * F  path  lastModified  size  hash  matcher=result,...
+ * W  modelPath  runtimeComponent
+ * I  modelPath  inputPath  hash
+ * P  modelPath  profileDirectory
+ * </pre>
+ *
+ * Input (I) and profile (P) lines belong to the workflow (W) line for the same model path, which precedes them.  A
+ * manifest that cannot be read is treated as empty, which makes the next run a full migration.
+ */
+public class MigrationManifestDAO {
+
+    private static final String HEADER = "# Workflow migration manifest, maintained by --incremental.  Do not edit.";
+    private static final String SEPARATOR = "\t";
+    private static final String FILE_RECORD = "F";
+    private static final String WORKFLOW_RECORD = "W";
+    private static final String INPUT_RECORD = "I";
+    private static final String PROFILE_RECORD = "P";
+
+    private Path projectRoot;
+    private File manifestFile;
+
+    public MigrationManifestDAO(String projectPath) {
+        this.projectRoot = Paths.get(projectPath);
+        this.manifestFile = projectRoot.resolve(MigrationConstants.MANIFEST_FILENAME).toFile();
+    }
+
+    public MigrationManifest load() {
+        MigrationManifest manifest = new MigrationManifest(projectRoot);
+
+        if (!manifestFile.exists()) {
+            return manifest;
+        }
+
+        try {
+            for (String line : Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] fields = line.split(SEPARATOR, -1);
+                switch (fields[0]) {
+                    case FILE_RECORD:
+                        FileRecord fileRecord = new FileRecord(Long.parseLong(fields[2]), Long.parseLong(fields[3]), fields[4]);
+                        if (!fields[5].isEmpty()) {
+                            for (String match : fields[5].split(",")) {
+                                String[] result = match.split("=");
+                                fileRecord.putMatch(result[0], Boolean.parseBoolean(result[1]));
+                            }
+                        }
+                        manifest.restoreFileRecord(fields[1], fileRecord);
+                        break;
+                    case WORKFLOW_RECORD:
+                        manifest.putWorkflowRecord(fields[1], new WorkflowRecord(fields[2]));
+                        break;
+                    case INPUT_RECORD:
+                        manifest.getWorkflowRecord(fields[1]).putInputHash(fields[2], fields[3]);
+                        break;
+                    case PROFILE_RECORD:
+                        manifest.getWorkflowRecord(fields[1]).addProfileDirectory(fields[2]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown record type " + fields[0]);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            //An unreadable manifest only costs a full migration
+            return new MigrationManifest(projectRoot);
+        }
+
+        return manifest;
+    }
+
+    public void save(MigrationManifest manifest) {
+        try {
+            Path tempFile = FileUtil.createSiblingTempFile(manifestFile);
+            try {
+                try (BufferedWriter out = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                    out.write(HEADER);
+                    out.newLine();
+
+                    for (Map.Entry<String, FileRecord> entry : manifest.getSeenFileRecords().entrySet()) {
+                        FileRecord record = entry.getValue();
+                        StringBuilder matches = new StringBuilder();
+                        for (Map.Entry<String, Boolean> match : record.getMatches().entrySet()) {
+                            if (matches.length() > 0) {
+                                matches.append(",");
+                            }
+                            matches.append(match.getKey()).append("=").append(match.getValue());
+                        }
+                        writeLine(out, FILE_RECORD, entry.getKey(), String.valueOf(record.getLastModified()),
+                                String.valueOf(record.getSize()), record.getHash(), matches.toString());
+                    }
+
+                    for (Map.Entry<String, WorkflowRecord> entry : manifest.getWorkflowRecords().entrySet()) {
+                        String modelPath = entry.getKey();
+                        WorkflowRecord record = entry.getValue();
+                        writeLine(out, WORKFLOW_RECORD, modelPath, record.getRuntimeComponent());
+                        for (Map.Entry<String, String> input : record.getInputHashes().entrySet()) {
+                            writeLine(out, INPUT_RECORD, modelPath, input.getKey(), input.getValue());
+                        }
+                        for (String profileDirectory : record.getProfileDirectories()) {
+                            writeLine(out, PROFILE_RECORD, modelPath, profileDirectory);
+                        }
+                    }
+                }
+                FileUtil.moveAtomically(tempFile, manifestFile);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new MigrationRuntimeException("Unable to write the migration manifest at " + manifestFile.getPath(), e);
+        }
+    }
+
+    private static void writeLine(BufferedWriter out, String... fields) throws IOException {
+        out.write(String.join(SEPARATOR, fields));
+        out.newLine();
+    }
+}
@@ -14,6 +14,12 @@ package com.adobe.skyline.migration.dao;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
@@ -27,40 +33,79 @@ import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.exception.MigrationRuntimeException;
 import com.adobe.skyline.migration.model.ProcessingProfile;
 import com.adobe.skyline.migration.model.RenditionConfig;
+import com.adobe.skyline.migration.util.DocumentCache;
 import com.adobe.skyline.migration.util.JcrUtil;
 import com.adobe.skyline.migration.util.StringUtil;
 import com.adobe.skyline.migration.util.XmlUtil;
 
 /**
  * An object to abstract reading processing profiles from and writing them to disk.
+ *
+ * The node names in use below each parent are listed once and then tracked in memory, so that finding a free name for
+ * a profile or rendition does not probe the disk.  The tool is the only writer of these directories while it runs.
  */
 public class ProcessingProfileDAO {
 
     private File rootPage;
+    private DocumentCache documentCache;
+    private final Map<String, NodeNames> nodeNamesByParent = new HashMap<>();
 
     public ProcessingProfileDAO(String projectPath) {
+        this(projectPath, new DocumentCache());
+    }
+
+    public ProcessingProfileDAO(String projectPath, DocumentCache documentCache) {
         this.rootPage = new File(projectPath + "/" + MigrationConstants.PROCESSING_PROFILE_DISK_PATH + "/" + MigrationConstants.CONTENT_XML);
+        this.documentCache = documentCache;
     }
 
     public void addProfile(ProcessingProfile profile) {
         try {
+            Map<File, Document> batch = new LinkedHashMap<>();
+
             //Only create the config file if this method has been called.  We don't want to create an empty configuration in the constructor.
-            if (!rootPage.exists()) {
-                initConfig();
+            if (!documentCache.exists(rootPage)) {
+                batch.put(rootPage, createConfig());
             }
 
-            File profileFile = createProfileFile(profile);
+            File profileFile = addProfileFile(profile, batch);
 
             for (RenditionConfig rendition : profile.getRenditions()) {
-                createRenditionFile(profileFile, rendition);
+                addRenditionFile(profileFile, rendition, batch);
             }
 
+            //The profile and its renditions are only written once all of them have been generated
+            for (Map.Entry<File, Document> file : batch.entrySet()) {
+                createXml(file.getValue(), file.getKey());
+            }
+            profile.setProfileDirectory(profileFile.getParentFile());
+
         } catch (Exception e) {
             throw new MigrationRuntimeException(e);
         }
     }
 
-    private void initConfig() throws ParserConfigurationException, TransformerException, IOException {
+    /**
+     * Deletes a profile that was previously added to the project, along with its renditions.
+     */
+    public void removeProfile(File profileDirectory) {
+        try {
+            documentCache.delete(profileDirectory);
+
+            synchronized (nodeNamesByParent) {
+                NodeNames siblings = nodeNamesByParent.get(profileDirectory.getParent());
+                if (siblings != null) {
+                    siblings.release(profileDirectory.getName());
+                }
+                nodeNamesByParent.keySet().removeIf(parent -> parent.equals(profileDirectory.getPath())
+                        || parent.startsWith(profileDirectory.getPath() + File.separator));
+            }
+        } catch (IOException e) {
+            throw new MigrationRuntimeException(e);
+        }
+    }
+
+    private Document createConfig() throws ParserConfigurationException {
         Document pageDoc = XmlUtil.createXml();
 
         Element rootEl = createRootElement(pageDoc);
@@ -68,10 +113,10 @@ public class ProcessingProfileDAO {
         Element jcrContentNode = addJcrContentNode(pageDoc, rootEl);
         jcrContentNode.setAttribute(MigrationConstants.MERGE_LIST_PROPERTY, MigrationConstants.TRUE_VALUE);
 
-        createXml(pageDoc, rootPage);
+        return pageDoc;
     }
 
-    private File createProfileFile(ProcessingProfile profile) throws ParserConfigurationException, IOException, TransformerException {
+    private File addProfileFile(ProcessingProfile profile, Map<File, Document> batch) throws ParserConfigurationException, IOException {
         Document profileXml = XmlUtil.createXml();
 
         Element rootEl = createRootElement(profileXml);
@@ -84,11 +129,15 @@ public class ProcessingProfileDAO {
         String safeName = getUniqueNodeName(profile.getName(), rootPage.getParent());
 
         File profileFile = new File(rootPage.getParent() + "/" + safeName + "/" + MigrationConstants.CONTENT_XML);
-        createXml(profileXml, profileFile);
+        synchronized (nodeNamesByParent) {
+            //The name was free, so nothing exists below the new profile yet
+            nodeNamesByParent.put(profileFile.getParent(), new NodeNames(Collections.emptySet()));
+        }
+        batch.put(profileFile, profileXml);
         return profileFile;
     }
 
-    private void createRenditionFile(File profileFile, RenditionConfig rendition) throws ParserConfigurationException, IOException, TransformerException {
+    private void addRenditionFile(File profileFile, RenditionConfig rendition, Map<File, Document> batch) throws ParserConfigurationException, IOException {
         Document renditionXml = XmlUtil.createXml();
 
         Element rootEl = createRootElement(renditionXml);
@@ -116,7 +165,7 @@ public class ProcessingProfileDAO {
         String safeName = getUniqueNodeName(rendition.getNodeName(), profileFile.getParent());
 
         File renditionFile = new File(profileFile.getParent() + "/" + safeName + "/" + MigrationConstants.CONTENT_XML);
-        createXml(renditionXml, renditionFile);
+        batch.put(renditionFile, renditionXml);
     }
 
     private Element createRootElement(Document doc) {
@@ -172,29 +221,55 @@ public class ProcessingProfileDAO {
         return jcrContentNode;
     }
 
-    private String getUniqueNodeName(String name, String path) {
+    private String getUniqueNodeName(String name, String path) throws IOException {
         String safeName = JcrUtil.getJcrSafeNodeName(name);
 
         //Handle duplicate names
-        int idx = 1;
-        String currName = safeName;
-        while (true) {
-            File profileRoot = new File(path + "/" + currName);
-            if (profileRoot.exists()) {
-                currName = safeName + "-" + idx;
-                idx++;
-            } else {
-                safeName = currName;
-                break;
+        synchronized (nodeNamesByParent) {
+            NodeNames siblings = nodeNamesByParent.get(path);
+            if (siblings == null) {
+                siblings = new NodeNames(documentCache.list(new File(path)));
+                nodeNamesByParent.put(path, siblings);
             }
+            return siblings.allocate(safeName);
         }
-
-        return safeName;
     }
 
     private void createXml(Document xml, File file) throws IOException, TransformerException {
-        file.getParentFile().mkdirs();
-        file.createNewFile();
-        XmlUtil.writeXml(xml, file);
+        documentCache.write(xml, file);
+    }
+
+    /**
+     * The node names in use below one parent.  Each base name remembers the suffix that it was last given, so that
+     * allocating many nodes of the same name does not test every suffix again.
+     */
+    private static class NodeNames {
+
+        private final Set<String> names;
+        private final Map<String, Integer> nextSuffixes = new HashMap<>();
+
+        NodeNames(Set<String> names) {
+            this.names = new HashSet<>(names);
+        }
+
+        String allocate(String name) {
+            if (names.add(name)) {
+                return name;
+            }
+
+            int idx = nextSuffixes.getOrDefault(name, 1);
+            String currName = name + "-" + idx;
+            while (!names.add(currName)) {
+                idx++;
+                currName = name + "-" + idx;
+            }
+            nextSuffixes.put(name, idx + 1);
+            return currName;
+        }
+
+        void release(String name) {
+            names.remove(name);
+            nextSuffixes.clear(); //A lower suffix may be free again
+        }
     }
 }
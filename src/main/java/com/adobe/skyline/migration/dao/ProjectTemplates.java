@@ -0,0 +1,153 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.dao;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.util.file.FileUtil;
+
+/**
+ * The files of the project templates that the migration copies into a customer project.  Every template is read once
+ * per JVM, in a single pass over the jar's entries when running from the jar, and the files are then shared by every
+ * {@link MavenProjectDAO}.  The shared content must not be modified.
+ *
+ * The files are kept in memory rather than streamed from the jar, since a filled-in template is handed to the
+ * {@link com.adobe.skyline.migration.util.DocumentCache}, which holds every change in memory until it is flushed.
+ */
+final class ProjectTemplates {
+
+    private static final byte[] PLACEHOLDER_START = "${".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PLACEHOLDER_END = "}".getBytes(StandardCharsets.UTF_8);
+
+    private static volatile NavigableMap<String, byte[]> sharedFiles;
+
+    private ProjectTemplates() {}
+
+    /**
+     * @return the content of each file of the template, keyed by its path relative to the template, using / as the
+     * separator.
+     */
+    static Map<String, byte[]> getTemplate(String templatePath) throws IOException {
+        String prefix = templatePath.substring(MigrationConstants.TEMPLATE_ROOT.length()) + "/";
+
+        Map<String, byte[]> template = new TreeMap<>();
+        for (Map.Entry<String, byte[]> file : getFiles().subMap(prefix, prefix + Character.MAX_VALUE).entrySet()) {
+            template.put(file.getKey().substring(prefix.length()), file.getValue());
+        }
+        return template;
+    }
+
+    /**
+     * Replaces every <code>${NAME}</code> placeholder with its value, in a single pass over the content.  Placeholders
+     * without a value are left as they are.
+     */
+    static byte[] fillIn(byte[] content, Map<String, String> values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length);
+
+        int copied = 0;
+        int start = indexOf(content, PLACEHOLDER_START, 0);
+        while (start >= 0) {
+            int end = indexOf(content, PLACEHOLDER_END, start + PLACEHOLDER_START.length);
+            if (end < 0) {
+                break;
+            }
+
+            String name = new String(content, start + PLACEHOLDER_START.length, end - start - PLACEHOLDER_START.length, StandardCharsets.UTF_8);
+            String value = values.get(name);
+            if (value != null) {
+                out.write(content, copied, start - copied);
+                out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                copied = end + PLACEHOLDER_END.length;
+            }
+            start = indexOf(content, PLACEHOLDER_START, end + PLACEHOLDER_END.length);
+        }
+        out.write(content, copied, content.length - copied);
+
+        return out.toByteArray();
+    }
+
+    private static NavigableMap<String, byte[]> getFiles() throws IOException {
+        NavigableMap<String, byte[]> files = sharedFiles;
+        if (files == null) {
+            synchronized (ProjectTemplates.class) {
+                files = sharedFiles;
+                if (files == null) {
+                    files = Collections.unmodifiableNavigableMap(readFiles());
+                    sharedFiles = files;
+                }
+            }
+        }
+        return files;
+    }
+
+    private static NavigableMap<String, byte[]> readFiles() throws IOException {
+        URL templateRoot = ProjectTemplates.class.getResource(MigrationConstants.TEMPLATE_ROOT);
+        String filePath = templateRoot.getFile();
+
+        if (filePath.startsWith("file")) {
+            //We are running from the jar file
+            File jarFile = new File(URI.create(filePath.substring(0, filePath.indexOf("!"))));
+            try (JarFile jar = new JarFile(jarFile)) {
+                return readFiles(jar);
+            }
+        } else {
+            //We are running in the IDE or through unit tests
+            return new TreeMap<>(FileUtil.readDirectoryRecursively(new File(URI.create(templateRoot.toString()))));
+        }
+    }
+
+    private static NavigableMap<String, byte[]> readFiles(JarFile jar) throws IOException {
+        //The root directory of the jar does not begin with a slash
+        String prefix = MigrationConstants.TEMPLATE_ROOT.substring(1);
+        NavigableMap<String, byte[]> files = new TreeMap<>();
+
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            if (entry.getName().startsWith(prefix) && !entry.isDirectory()) {
+                try (InputStream in = jar.getInputStream(entry)) {
+                    files.put(entry.getName().substring(prefix.length()), in.readAllBytes());
+                }
+            }
+        }
+
+        return files;
+    }
+
+    private static int indexOf(byte[] content, byte[] pattern, int from) {
+        for (int i = from; i <= content.length - pattern.length; i++) {
+            int j = 0;
+            while (j < pattern.length && content[i + j] == pattern[j]) {
+                j++;
+            }
+            if (j == pattern.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -13,16 +13,18 @@
 package com.adobe.skyline.migration.dao;
 
 import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
 
 import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.exception.CustomerDataException;
 import com.adobe.skyline.migration.model.workflow.WorkflowLauncher;
 import com.adobe.skyline.migration.util.StringUtil;
+import com.adobe.skyline.migration.util.DocumentCache;
 import com.adobe.skyline.migration.util.XmlUtil;
 
 /**
@@ -30,43 +32,43 @@ import com.adobe.skyline.migration.util.XmlUtil;
  */
 public class WorkflowLauncherDAO {
 
+    private DocumentCache documentCache;
+
+    public WorkflowLauncherDAO() {
+        this(new DocumentCache());
+    }
+
+    public WorkflowLauncherDAO(DocumentCache documentCache) {
+        this.documentCache = documentCache;
+    }
+
+    /**
+     * Reads a launcher from the attributes of the root element of its configuration, which are all that is needed, so
+     * the configuration is streamed rather than parsed into a document.
+     */
     public WorkflowLauncher getWorkflowLauncher(String moduleAbsoluteRoot, String launcherConfigPath) throws CustomerDataException {
         try {
             File launcherFile = new File(launcherConfigPath);
-            NamedNodeMap launcherProperties = XmlUtil.loadXml(launcherFile).getFirstChild().getAttributes();
+            Map<String, String> launcherProperties = readLauncherProperties(launcherFile);
 
             String launcherName = launcherFile.getParentFile().getName();
             String relativePath = getlauncherRelativePath(moduleAbsoluteRoot, launcherFile);
 
-            String glob = "";
-            if (launcherProperties.getNamedItem(MigrationConstants.GLOB_PROP) != null) {
-                glob = launcherProperties.getNamedItem(MigrationConstants.GLOB_PROP).getTextContent();
-            }
-
-            String excludeList = "";
-            if (launcherProperties.getNamedItem(MigrationConstants.EXCLUDE_LIST_PROP) != null) {
-                excludeList = launcherProperties.getNamedItem(MigrationConstants.EXCLUDE_LIST_PROP).getTextContent();
-            }
+            String glob = launcherProperties.getOrDefault(MigrationConstants.GLOB_PROP, "");
+            String excludeList = launcherProperties.getOrDefault(MigrationConstants.EXCLUDE_LIST_PROP, "");
+            String modelPath = launcherProperties.getOrDefault(MigrationConstants.WORKFLOW_MODEL_PROP, "");
 
-            String modelPath = "";
-            if (launcherProperties.getNamedItem(MigrationConstants.WORKFLOW_MODEL_PROP) != null) {
-                modelPath = launcherProperties.getNamedItem(MigrationConstants.WORKFLOW_MODEL_PROP).getTextContent();
-            }
-
-            String conditions;
-            if (launcherProperties.getNamedItem(MigrationConstants.CONDITIONS_PROP) != null) {
-                conditions = launcherProperties.getNamedItem(MigrationConstants.CONDITIONS_PROP).getTextContent();
-            } else {
+            String conditions = launcherProperties.get(MigrationConstants.CONDITIONS_PROP);
+            if (conditions == null) {
                 //In older launchers, this property was named "condition" with no 's'
-                conditions = launcherProperties.getNamedItem(MigrationConstants.CONDITION_PROP).getTextContent();
+                conditions = launcherProperties.get(MigrationConstants.CONDITION_PROP);
             }
-
-            boolean enabled = false;
-            Node enabledNode = launcherProperties.getNamedItem(MigrationConstants.ENABLED_PROP);
-            if (enabledNode != null && enabledNode.getTextContent().equals(MigrationConstants.TRUE_VALUE)) {
-                enabled = true;
+            if (conditions == null) {
+                throw new CustomerDataException("Unable to parse workflow launcher.  The launcher at " + launcherConfigPath + " has no conditions.");
             }
 
+            boolean enabled = MigrationConstants.TRUE_VALUE.equals(launcherProperties.get(MigrationConstants.ENABLED_PROP));
+
             List<String> conditionsList = StringUtil.getListFromString(conditions);
 
             WorkflowLauncher launcher = new WorkflowLauncher();
@@ -80,6 +82,8 @@ public class WorkflowLauncherDAO {
             launcher.setModelPath(modelPath);
 
             return launcher;
+        } catch (CustomerDataException e) {
+            throw e;
         } catch (Exception e) {
             throw new CustomerDataException("Unable to parse workflow launcher.", e);
         }
@@ -88,15 +92,29 @@ public class WorkflowLauncherDAO {
     public void disableLauncher(WorkflowLauncher launcher) throws CustomerDataException {
         try {
             File launcherFile = launcher.getLauncherFile();
-            Document xml = XmlUtil.loadXml(launcherFile);
+            Document xml = documentCache.load(launcherFile);
             xml.getFirstChild().getAttributes().getNamedItem(MigrationConstants.ENABLED_PROP).setTextContent(MigrationConstants.FALSE_VALUE);
-            XmlUtil.writeXml(xml, launcherFile);
+            documentCache.write(xml, launcherFile);
         } catch (Exception e) {
             throw new CustomerDataException("Unable to disable workflow launcher.", e);
         }
 
     }
 
+    private Map<String, String> readLauncherProperties(File launcherFile) throws Exception {
+        if (!documentCache.hasPendingWrite(launcherFile)) {
+            return XmlUtil.readRootAttributes(launcherFile);
+        }
+
+        //The launcher has been changed in memory, so the document is more recent than the file
+        NamedNodeMap attributes = documentCache.load(launcherFile).getDocumentElement().getAttributes();
+        Map<String, String> launcherProperties = new HashMap<>();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            launcherProperties.put(attributes.item(i).getNodeName(), attributes.item(i).getNodeValue());
+        }
+        return launcherProperties;
+    }
+
     private String getlauncherRelativePath(String moduleAbsoluteRoot, File launcherFile) {
         int projectPathLength = moduleAbsoluteRoot.length();
         String launcherAbsolutePath = launcherFile.getPath();
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
@@ -36,6 +37,7 @@ import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.exception.CustomerDataException;
 import com.adobe.skyline.migration.model.workflow.WorkflowModel;
 import com.adobe.skyline.migration.model.workflow.WorkflowStep;
+import com.adobe.skyline.migration.util.DocumentCache;
 import com.adobe.skyline.migration.util.Logger;
 import com.adobe.skyline.migration.util.XmlUtil;
 
@@ -47,6 +49,19 @@ import static com.adobe.skyline.migration.MigrationConstants.PATH_TO_ETC_VIDEO_P
  */
 public class WorkflowModelDAO {
 
+    private DocumentCache documentCache;
+
+    //Every update_asset model of a module shares the module's video profiles, so their location is only looked up once
+    private final Map<String, String> videoProfilePaths = new ConcurrentHashMap<>();
+
+    public WorkflowModelDAO() {
+        this(new DocumentCache());
+    }
+
+    public WorkflowModelDAO(DocumentCache documentCache) {
+        this.documentCache = documentCache;
+    }
+
     public WorkflowModel loadWorkflowModel(String moduleAbsoluteRoot, String workflowModelPath) throws CustomerDataException {
         Logger.DEBUG("workflowModelPath: " + workflowModelPath);
 
@@ -120,9 +135,14 @@ public class WorkflowModelDAO {
             model.setRuntimeComponent(varPath);
 
             try {
-                Document workflowDocument = XmlUtil.loadXml(confFile);
-                List<WorkflowStep> workflowSteps = extractWorkflowSteps(workflowDocument);
-                model.setWorkflowSteps(workflowSteps);
+                //The model is only parsed into a document if it has to be edited, unless it has been edited already
+                List<WorkflowStep> workflowSteps;
+                if (documentCache.hasPendingWrite(confFile)) {
+                    workflowSteps = extractWorkflowSteps(documentCache.load(confFile));
+                } else {
+                    workflowSteps = WorkflowStepReader.readSteps(confFile);
+                }
+                model.setWorkflowSteps(getMappableSteps(workflowSteps, confFile.toURI().toASCIIString()));
             } catch (Exception e) {
                 throw new CustomerDataException("Unable to parse workflow model XML.", e);
             }
@@ -133,6 +153,10 @@ public class WorkflowModelDAO {
     }
 
     private String getVideoProfilePath(String modulePath) {
+        return videoProfilePaths.computeIfAbsent(modulePath, WorkflowModelDAO::findVideoProfilePath);
+    }
+
+    private static String findVideoProfilePath(String modulePath) {
         File videoFile = new File(Paths.get(modulePath, PATH_TO_CONF_VIDEO_PROFILE).toString());
         if (!videoFile.exists()) {
             videoFile = new File(Paths.get(modulePath, PATH_TO_ETC_VIDEO_PROFILE).toString());
@@ -151,10 +175,17 @@ public class WorkflowModelDAO {
 
         List<WorkflowStep> steps = new ArrayList<>();
         for (Node stepNode : stepNodes) {
-            WorkflowStep currStep = createWorkflowStep(stepNode);
+            steps.add(createWorkflowStep(stepNode));
+        }
 
+        return steps;
+    }
+
+    private List<WorkflowStep> getMappableSteps(List<WorkflowStep> workflowSteps, String modelUri) {
+        List<WorkflowStep> steps = new ArrayList<>();
+        for (WorkflowStep currStep : workflowSteps) {
             if (currStep.getProcess() == null || currStep.getProcess().isEmpty()) {
-                Logger.WARN("Unable to map a workflow step in " + modelXml.getDocumentURI() + " because it does not " +
+                Logger.WARN("Unable to map a workflow step in " + modelUri + " because it does not " +
                         "contain a PROCESS or EXTERNAL_PROCESS value.  Other workflow steps, such as OR splits, are not " +
                         "supported at this time.");
 
@@ -193,7 +224,7 @@ public class WorkflowModelDAO {
     }
 
     private void removeStepFromConfigFile(String workflowStep, WorkflowModel model) throws IOException, SAXException, ParserConfigurationException, TransformerException {
-        Document modelXml = XmlUtil.loadXml(model.getConfigurationFile());
+        Document modelXml = documentCache.load(model.getConfigurationFile());
 
         //Each workflow model should have exactly one flow tag
         List<Node> stepNodes = XmlUtil.getChildElementNodes(modelXml.getElementsByTagName(MigrationConstants.FLOW_NODE).item(0));
@@ -211,7 +242,7 @@ public class WorkflowModelDAO {
             }
         }
 
-        XmlUtil.writeXml(modelXml, model.getConfigurationFile());
+        documentCache.write(modelXml, model.getConfigurationFile());
     }
 
     private String extractProcessValue(Node metadataNode){
@@ -232,7 +263,7 @@ public class WorkflowModelDAO {
     }
 
     private void addStepToConfigFile(WorkflowStep workflowStep, WorkflowModel model) throws IOException, SAXException, ParserConfigurationException, TransformerException {
-        Document modelXml = XmlUtil.loadXml(model.getConfigurationFile());
+        Document modelXml = documentCache.load(model.getConfigurationFile());
 
         Element metadataNode = modelXml.createElement(MigrationConstants.METADATA_XML_NODE);
         metadataNode.setAttribute(MigrationConstants.JCR_PRIMARY_TYPE_PROP, MigrationConstants.NT_UNSTRUCTURED_TYPE_VALUE);
@@ -249,6 +280,6 @@ public class WorkflowModelDAO {
         Node flowNode = modelXml.getElementsByTagName(MigrationConstants.FLOW_NODE).item(0);
         flowNode.appendChild(processNode);
 
-        XmlUtil.writeXml(modelXml, model.getConfigurationFile());
+        documentCache.write(modelXml, model.getConfigurationFile());
     }
 }
@@ -13,7 +13,6 @@
 package com.adobe.skyline.migration.dao;
 
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.List;
 
@@ -25,6 +24,7 @@ import org.w3c.dom.Element;
 
 import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.util.DocumentCache;
 import com.adobe.skyline.migration.util.XmlUtil;
 
 /**
@@ -34,10 +34,16 @@ public class WorkflowRunnerConfigDAO {
 
     private File configFile;
     private Document configDoc;
+    private DocumentCache documentCache;
 
     public WorkflowRunnerConfigDAO(String projectPath) {
+        this(projectPath, new DocumentCache());
+    }
+
+    public WorkflowRunnerConfigDAO(String projectPath, DocumentCache documentCache) {
         this.configFile = new File(Paths.get(projectPath, MigrationConstants.PATH_TO_JCR_ROOT,
                 MigrationConstants.WORKFLOW_RUNNER_CONFIG_PATH, MigrationConstants.WORKFLOW_RUNNER_CONFIG_FILENAME).toString());
+        this.documentCache = documentCache;
     }
 
     public void createConfigByExpression(String expression, String model) {
@@ -48,27 +54,65 @@ public class WorkflowRunnerConfigDAO {
         addConfig(MigrationConstants.WORKFLOW_RUNNER_CONFIG_BY_PATH, path, model);
     }
 
+    /**
+     * Removes every configuration, by expression or by path, that runs the given workflow model.
+     */
+    public void removeConfigsForModel(String model) {
+        try {
+            if (!documentCache.exists(configFile)) {
+                return;
+            } else if (configDoc == null) {
+                configDoc = documentCache.load(configFile);
+            }
+
+            Element jcrRoot = configDoc.getDocumentElement();
+            boolean removed = false;
+            for (String configType : new String[]{MigrationConstants.WORKFLOW_RUNNER_CONFIG_BY_EXPRESSION, MigrationConstants.WORKFLOW_RUNNER_CONFIG_BY_PATH}) {
+                if (jcrRoot.hasAttribute(configType)) {
+                    List<String> mappings = XmlUtil.getStringArrayListFromAttribute(jcrRoot, configType);
+                    if (mappings.removeIf(mapping -> mapping.endsWith(":" + model))) {
+                        jcrRoot.setAttribute(configType, XmlUtil.getSerializedArrayValueFromList(mappings));
+                        removed = true;
+                    }
+                }
+            }
+
+            if (removed) {
+                documentCache.write(configDoc, configFile);
+            }
+        } catch (Exception e) {
+            throw new MigrationRuntimeException(e);
+        }
+    }
+
     private void addConfig(String configType, String match, String model) {
         try {
             //Only create the config file if this method has been called.  We don't want to create an empty configuration in the constructor.
-            if (!configFile.exists()) {
-                createEmptyConfig(configFile);
+            if (!documentCache.exists(configFile)) {
+                createEmptyConfig();
+            } else if (configDoc == null) {
+                configDoc = documentCache.load(configFile);
             }
 
             Element jcrRoot = configDoc.getDocumentElement();
             List<String> mappings = XmlUtil.getStringArrayListFromAttribute(jcrRoot, configType);
-            mappings.add(match + ":" + model);
+            String mapping = match + ":" + model;
+            if (mappings.contains(mapping)) {
+                //Already configured by an earlier migration of the same workflow
+                return;
+            }
+            mappings.add(mapping);
             String outputValue = XmlUtil.getSerializedArrayValueFromList(mappings);
             Attr wfByExp = XmlUtil.getOrCreateAttr(jcrRoot, configType);
             wfByExp.setValue(outputValue);
 
-            XmlUtil.writeXml(configDoc, configFile);
+            documentCache.write(configDoc, configFile);
         } catch (Exception e) {
             throw new MigrationRuntimeException(e);
         }
     }
 
-    private void createEmptyConfig(File configFile) throws IOException, ParserConfigurationException {
+    private void createEmptyConfig() throws ParserConfigurationException {
         configDoc = XmlUtil.createXml();
 
         Element rootEl = configDoc.createElement(MigrationConstants.JCR_ROOT_NODE);
@@ -85,9 +129,6 @@ public class WorkflowRunnerConfigDAO {
         Attr primType = configDoc.createAttribute(MigrationConstants.JCR_PRIMARY_TYPE_PROP);
         primType.setValue(MigrationConstants.OSGI_CONFIG_TYPE_VALUE);
         rootEl.setAttributeNode(primType);
-
-        configFile.getParentFile().mkdirs();
-        configFile.createNewFile();
     }
 
 }
@@ -0,0 +1,128 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.dao;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.model.workflow.WorkflowStep;
+import com.adobe.skyline.migration.util.XmlFactoryPool;
+import com.adobe.skyline.migration.util.XmlUtil;
+
+/**
+ * Reads the steps of a workflow model in a single forward pass over its configuration, without building a document.
+ * Only the step being read is held in memory, along with the steps already read.
+ *
+ * The steps are read in the same way as from a parsed document: every child element of the model's flow element is a
+ * step, and its first child element named metadata holds the process and the step's metadata.  A model should have
+ * exactly one flow element, so if any other is found, the model is treated as having no steps.
+ */
+class WorkflowStepReader {
+
+    private WorkflowStepReader() {}
+
+    /**
+     * @return every step of the model, including those without a process, in document order.
+     */
+    static List<WorkflowStep> readSteps(File modelFile) throws IOException, XMLStreamException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(modelFile.toPath()))) {
+            XMLStreamReader reader = XmlFactoryPool.getInputFactory().createXMLStreamReader(in);
+            try {
+                return readSteps(reader);
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private static List<WorkflowStep> readSteps(XMLStreamReader reader) throws XMLStreamException {
+        List<WorkflowStep> steps = new ArrayList<>();
+
+        int depth = 0;
+        int flowCount = 0;
+        int flowDepth = -1; //Depth of the first flow element while it is being read
+        WorkflowStep currentStep = null;
+        String currentStepName = null;
+        boolean metadataRead = false;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                String name = XmlUtil.getQualifiedName(reader.getPrefix(), reader.getLocalName());
+
+                if (flowDepth > 0 && depth == flowDepth + 1) {
+                    currentStep = new WorkflowStep();
+                    currentStepName = name;
+                    metadataRead = false;
+                    steps.add(currentStep);
+                } else if (flowDepth > 0 && depth == flowDepth + 2 && !metadataRead
+                        && name.equalsIgnoreCase(MigrationConstants.METADATA_XML_NODE)) {
+                    //Steps without metadata have no node name, as when read from a document
+                    currentStep.setNodeName(currentStepName);
+                    readMetadata(reader, currentStep);
+                    metadataRead = true;
+                }
+
+                if (name.equals(MigrationConstants.FLOW_NODE)) {
+                    flowCount++;
+                    if (flowCount > 1) {
+                        return Collections.emptyList();
+                    }
+                    flowDepth = depth;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == flowDepth) {
+                    flowDepth = -1;
+                }
+                depth--;
+            }
+        }
+
+        return steps;
+    }
+
+    private static void readMetadata(XMLStreamReader reader, WorkflowStep step) {
+        Map<String, String> metadata = new HashMap<>();
+
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String prefix = reader.getNamespacePrefix(i);
+            metadata.put(prefix == null || prefix.isEmpty() ? "xmlns" : "xmlns:" + prefix, reader.getNamespaceURI(i));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            metadata.put(XmlUtil.getQualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)), reader.getAttributeValue(i));
+        }
+
+        String process = metadata.get(MigrationConstants.PROCESS_PROP);
+        if (process == null) {
+            process = metadata.get(MigrationConstants.EXTERNAL_PROCESS_PROP);
+        }
+
+        step.setProcess(process);
+        step.setMetadata(metadata);
+    }
+}
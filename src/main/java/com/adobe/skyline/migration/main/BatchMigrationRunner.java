@@ -0,0 +1,204 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.exception.CustomerDataException;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.exception.ProjectCreationException;
+import com.adobe.skyline.migration.util.Logger;
+
+/**
+ * Migrates a batch of customer projects in a single JVM, running a {@link MigrationOrchestrator} for each project on a
+ * pool of threads.  Every orchestrator transforms models and writes files on a second pool shared by the whole batch,
+ * so the batch never uses more than concurrency + threads threads.  The step configuration is loaded once and shared
+ * by every project, as are the per-thread XML parsers and the report template, so only the first projects pay for
+ * loading classes and warming up the JIT.
+ *
+ * Each project writes its report to its own directory below the report output directory, named after the project.  A
+ * project that fails to migrate is logged and does not stop the rest of the batch.
+ */
+class BatchMigrationRunner {
+
+    private static final String MANIFEST_COMMENT = "#";
+    private static final String DEFAULT_PROJECT_NAME = "project";
+
+    private WorkflowStepConfiguration config;
+    private String reportOutputDirectory;
+    private int concurrency;
+    private int threads;
+    private boolean incremental;
+    private boolean dryRun;
+
+    BatchMigrationRunner(WorkflowStepConfiguration config, String reportOutputDirectory, int concurrency, int threads) {
+        this(config, reportOutputDirectory, concurrency, threads, false, false);
+    }
+
+    /**
+     * @param concurrency the number of projects migrated at the same time.
+     * @param threads     the number of threads shared by all projects to transform models and write files, as for
+     *                    {@link MigrationOrchestrator}.
+     * @param incremental whether each project is migrated incrementally, as for {@link MigrationOrchestrator}.
+     * @param dryRun      whether each project's migration is only planned, as for {@link MigrationOrchestrator}.
+     */
+    BatchMigrationRunner(WorkflowStepConfiguration config, String reportOutputDirectory, int concurrency, int threads,
+                         boolean incremental, boolean dryRun) {
+        this.config = config;
+        this.reportOutputDirectory = reportOutputDirectory;
+        this.concurrency = concurrency;
+        this.threads = threads;
+        this.incremental = incremental;
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * Lists the projects to migrate.  A manifest file lists one project path per line, where blank lines and lines
+     * starting with # are ignored and relative paths are resolved against the manifest's directory.  For a directory,
+     * every immediate subdirectory containing a reactor POM is a project, in name order.
+     */
+    static List<String> findProjects(File batchSource) throws IOException {
+        List<String> projectPaths = new ArrayList<>();
+
+        if (batchSource.isDirectory()) {
+            File[] children = batchSource.listFiles();
+            if (children != null) {
+                Arrays.sort(children);
+                for (File child : children) {
+                    if (new File(child, MigrationConstants.POM_XML).isFile()) {
+                        projectPaths.add(child.getPath());
+                    }
+                }
+            }
+        } else {
+            File manifestDir = batchSource.getAbsoluteFile().getParentFile();
+            for (String line : Files.readAllLines(batchSource.toPath(), StandardCharsets.UTF_8)) {
+                String projectPath = line.trim();
+                if (!projectPath.isEmpty() && !projectPath.startsWith(MANIFEST_COMMENT)) {
+                    File project = new File(projectPath);
+                    projectPaths.add(project.isAbsolute() ? project.getPath() : new File(manifestDir, projectPath).getPath());
+                }
+            }
+        }
+
+        return projectPaths;
+    }
+
+    /**
+     * Migrates each of the given projects.
+     *
+     * @return the number of projects that could not be migrated.
+     */
+    int run(List<String> projectPaths) {
+        List<File> reportDirs = getReportDirectories(projectPaths);
+
+        //Projects wait on the workers, so the two are kept in separate pools to avoid starving the workers
+        ExecutorService executor = concurrency > 1 ? Executors.newFixedThreadPool(concurrency) : null;
+        ExecutorService workers = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+        try {
+            int failures = 0;
+
+            if (executor == null) {
+                for (int i = 0; i < projectPaths.size(); i++) {
+                    if (!migrate(projectPaths.get(i), reportDirs.get(i), workers)) {
+                        failures++;
+                    }
+                }
+                return failures;
+            }
+
+            List<Future<Boolean>> migrations = new ArrayList<>(projectPaths.size());
+            for (int i = 0; i < projectPaths.size(); i++) {
+                String projectPath = projectPaths.get(i);
+                File reportDir = reportDirs.get(i);
+                migrations.add(executor.submit(() -> migrate(projectPath, reportDir, workers)));
+            }
+            for (Future<Boolean> migration : migrations) {
+                try {
+                    if (!migration.get()) {
+                        failures++;
+                    }
+                } catch (ExecutionException e) {
+                    throw new MigrationRuntimeException(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MigrationRuntimeException("Interrupted while migrating the batch of projects.", e);
+                }
+            }
+            return failures;
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            if (workers != null) {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    private boolean migrate(String projectPath, File reportDir, ExecutorService workers) {
+        try {
+            reportDir.mkdirs();
+            new MigrationOrchestrator(projectPath, config, reportDir.getPath(), threads, incremental, dryRun).exec(workers);
+            return true;
+        } catch (CustomerDataException | ProjectCreationException | RuntimeException e) {
+            Logger.ERROR("Unable to migrate the project at " + projectPath + ": " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    //Name each report directory after its project, adding a numeric suffix when two projects share a name
+    private List<File> getReportDirectories(List<String> projectPaths) {
+        List<File> reportDirs = new ArrayList<>(projectPaths.size());
+        Set<String> usedNames = new HashSet<>();
+
+        for (String projectPath : projectPaths) {
+            String projectName = getProjectName(projectPath);
+            String name = projectName;
+            int index = 1;
+            while (!usedNames.add(name)) {
+                name = projectName + "-" + ++index;
+            }
+            reportDirs.add(new File(reportOutputDirectory, name));
+        }
+
+        return reportDirs;
+    }
+
+    //A file system root has no file name, so its report directory is named after the root itself
+    static String getProjectName(String projectPath) {
+        Path path = new File(projectPath).getAbsoluteFile().toPath().normalize();
+        Path fileName = path.getFileName();
+        if (fileName != null) {
+            return fileName.toString();
+        }
+
+        String rootName = path.toString().replaceAll("[^A-Za-z0-9]", "");
+        return rootName.isEmpty() ? DEFAULT_PROJECT_NAME : rootName;
+    }
+}
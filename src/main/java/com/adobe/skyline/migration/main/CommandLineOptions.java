@@ -0,0 +1,140 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.main;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the command line arguments passed to {@link Main}.  Options start with <code>--</code> and may appear
+ * anywhere; everything else is treated as a positional argument.
+ */
+class CommandLineOptions {
+
+    static final String THREADS_OPTION = "--threads";
+    static final String BATCH_OPTION = "--batch";
+    static final String CONCURRENCY_OPTION = "--concurrency";
+    static final String INCREMENTAL_OPTION = "--incremental";
+    static final String DRY_RUN_OPTION = "--dry-run";
+    static final String PACKAGE_OPTION = "--package";
+
+    private List<String> positionalArgs = new ArrayList<>();
+    private int threads = 1;
+    private String batchSource;
+    private int concurrency = 1;
+    private boolean incremental = false;
+    private boolean dryRun = false;
+    private List<String> packages = new ArrayList<>();
+
+    CommandLineOptions(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+
+            if (arg.equals(THREADS_OPTION)) {
+                threads = parsePositiveInt(arg, valueOf(args, ++i, arg));
+            } else if (arg.equals(BATCH_OPTION)) {
+                batchSource = valueOf(args, ++i, arg);
+            } else if (arg.equals(CONCURRENCY_OPTION)) {
+                concurrency = parsePositiveInt(arg, valueOf(args, ++i, arg));
+            } else if (arg.equals(INCREMENTAL_OPTION)) {
+                incremental = true;
+            } else if (arg.equals(DRY_RUN_OPTION)) {
+                dryRun = true;
+            } else if (arg.equals(PACKAGE_OPTION)) {
+                packages.add(valueOf(args, ++i, arg));
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown option " + arg);
+            } else {
+                positionalArgs.add(arg);
+            }
+        }
+
+        if (!packages.isEmpty() && (batchSource != null || incremental)) {
+            throw new IllegalArgumentException(PACKAGE_OPTION + " cannot be combined with " + BATCH_OPTION + " or " + INCREMENTAL_OPTION);
+        }
+    }
+
+    List<String> getPositionalArgs() {
+        return positionalArgs;
+    }
+
+    /**
+     * @return the number of threads to migrate with.  A value of 1 runs the migration sequentially.
+     */
+    int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return the manifest file or parent directory listing the projects to migrate in batch mode, or null when a
+     * single project is migrated.
+     */
+    String getBatchSource() {
+        return batchSource;
+    }
+
+    boolean isBatch() {
+        return batchSource != null;
+    }
+
+    /**
+     * @return the number of projects migrated at the same time in batch mode.
+     */
+    int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return whether to migrate only the workflows that changed since the last incremental run.
+     */
+    boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * @return whether to only plan the migration, writing the report and plan without changing the project.
+     */
+    boolean isDryRun() {
+        return dryRun;
+    }
+
+    /**
+     * @return the content package ZIPs to migrate, in the order given, or an empty list when a project is migrated.
+     */
+    List<String> getPackages() {
+        return packages;
+    }
+
+    boolean isPackageMode() {
+        return !packages.isEmpty();
+    }
+
+    private static String valueOf(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for option " + option);
+        }
+        return args[index];
+    }
+
+    private static int parsePositiveInt(String option, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            //Fall through to the error below
+        }
+        throw new IllegalArgumentException("The value of " + option + " must be a positive number, but was " + value);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.dao.ContentPackageDAO;
+import com.adobe.skyline.migration.exception.CustomerDataException;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.exception.ProjectCreationException;
+import com.adobe.skyline.migration.util.Logger;
+import com.adobe.skyline.migration.util.XmlUtil;
+import com.adobe.skyline.migration.util.file.FileUtil;
+
+/**
+ * Migrates content packages that have already been built, such as <code>ui.apps</code> and <code>ui.content</code>
+ * artifacts, without checking out or expanding the project they were built from.
+ *
+ * The files the migration reads are copied out of each package into a scratch project, with one content package
+ * module per package, which is then migrated by a {@link MigrationOrchestrator} like any other project.  Afterwards,
+ * each package is written to the output directory with the migration's changes applied, and each module created by the
+ * migration is written as a new package next to them.  The scratch project is deleted when the migration completes.
+ */
+class ContentPackageMigration {
+
+    private static final String SCRATCH_PROJECT_PREFIX = "wf-migrator-packages";
+    private static final String PROJECT_GROUP_ID = "com.adobe.aem.migration";
+    private static final String PROJECT_ARTIFACT_ID = "migrated-packages";
+    private static final String PROJECT_VERSION = "1.0.0";
+
+    private static final String PROJECT_TAG_NAME = "project";
+    private static final String MODEL_VERSION_TAG_NAME = "modelVersion";
+    private static final String MODEL_VERSION = "4.0.0";
+    private static final String POM_NAMESPACE_ATTRIBUTE = "xmlns";
+    private static final String POM_NAMESPACE = "http://maven.apache.org/POM/4.0.0";
+    private static final String REACTOR_PACKAGING = "pom";
+
+    private WorkflowStepConfiguration config;
+    private String reportOutputDirectory;
+    private int threads;
+    private boolean dryRun;
+    private ContentPackageDAO packageDAO = new ContentPackageDAO();
+
+    /**
+     * @param threads the number of threads to migrate with, as for {@link MigrationOrchestrator}.
+     * @param dryRun  if true, the migration is only planned and no packages are written.
+     */
+    ContentPackageMigration(WorkflowStepConfiguration config, String reportOutputDirectory, int threads, boolean dryRun) {
+        this.config = config;
+        this.reportOutputDirectory = reportOutputDirectory;
+        this.threads = threads;
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * Migrates the given packages, writing the migrated and created packages to the output directory.
+     */
+    void migrate(List<File> packageFiles, File outputDirectory) throws CustomerDataException, ProjectCreationException {
+        for (File packageFile : packageFiles) {
+            if (new File(outputDirectory, packageFile.getName()).getAbsoluteFile().equals(packageFile.getAbsoluteFile())) {
+                throw new CustomerDataException("The migrated package would replace the package at " + packageFile.getPath()
+                        + ".  Please choose a different output directory.");
+            }
+        }
+
+        File scratchProject;
+        try {
+            scratchProject = Files.createTempDirectory(SCRATCH_PROJECT_PREFIX).toFile();
+        } catch (IOException e) {
+            throw new MigrationRuntimeException("Unable to create a scratch project for the content packages.", e);
+        }
+
+        try {
+            List<String> moduleNames = getModuleNames(packageFiles);
+            List<Set<String>> copiedPaths = new ArrayList<>(packageFiles.size());
+            for (int i = 0; i < packageFiles.size(); i++) {
+                File moduleDirectory = new File(scratchProject, moduleNames.get(i));
+                copiedPaths.add(packageDAO.copyWorkflowContent(packageFiles.get(i), getContentDirectory(moduleDirectory)));
+                writePom(moduleDirectory, getModulePom(moduleNames.get(i)));
+            }
+            writePom(scratchProject, getReactorPom(moduleNames));
+
+            new MigrationOrchestrator(scratchProject.getPath(), config, reportOutputDirectory, threads, false, dryRun).exec();
+
+            if (!dryRun) {
+                writePackages(packageFiles, moduleNames, copiedPaths, scratchProject, outputDirectory);
+            }
+        } finally {
+            FileUtil.deleteRecursively(scratchProject);
+        }
+    }
+
+    private void writePackages(List<File> packageFiles, List<String> moduleNames, List<Set<String>> copiedPaths,
+                               File scratchProject, File outputDirectory) {
+        outputDirectory.mkdirs();
+
+        for (int i = 0; i < packageFiles.size(); i++) {
+            File target = new File(outputDirectory, packageFiles.get(i).getName());
+            packageDAO.writeMigratedPackage(packageFiles.get(i), getContentDirectory(new File(scratchProject, moduleNames.get(i))),
+                    copiedPaths.get(i), target);
+            Logger.INFO("Migrated package written to " + target.getPath());
+        }
+
+        for (String createdModule : Arrays.asList(MigrationConstants.MIGRATION_PROJECT_APPS, MigrationConstants.MIGRATION_PROJECT_CONTENT)) {
+            File moduleDirectory = new File(scratchProject, createdModule);
+            if (moduleDirectory.isDirectory()) {
+                File target = new File(outputDirectory, createdModule + MigrationConstants.PACKAGE_EXTENSION);
+                packageDAO.writeNewPackage(getContentDirectory(moduleDirectory), createdModule, PROJECT_VERSION, target);
+                Logger.INFO("New package written to " + target.getPath());
+            }
+        }
+    }
+
+    //Name each module after its package, adding a numeric suffix when two packages share a name or a package is named
+    //like a module that the migration creates
+    private static List<String> getModuleNames(List<File> packageFiles) {
+        List<String> moduleNames = new ArrayList<>(packageFiles.size());
+        Set<String> usedNames = new HashSet<>(Arrays.asList(MigrationConstants.MIGRATION_PROJECT_APPS, MigrationConstants.MIGRATION_PROJECT_CONTENT));
+
+        for (File packageFile : packageFiles) {
+            String packageName = packageFile.getName();
+            if (packageName.endsWith(MigrationConstants.PACKAGE_EXTENSION)) {
+                packageName = packageName.substring(0, packageName.length() - MigrationConstants.PACKAGE_EXTENSION.length());
+            }
+            String name = packageName;
+            int index = 1;
+            while (!usedNames.add(name)) {
+                name = packageName + "-" + ++index;
+            }
+            moduleNames.add(name);
+        }
+
+        return moduleNames;
+    }
+
+    private static File getContentDirectory(File moduleDirectory) {
+        return Paths.get(moduleDirectory.getPath(), MigrationConstants.PATH_TO_CONTENT).toFile();
+    }
+
+    private static Document getModulePom(String moduleName) {
+        Document pom = createPom();
+        Element project = pom.getDocumentElement();
+        appendElement(project, MigrationConstants.ARTIFACTID_TAG_NAME, moduleName);
+        appendElement(project, MigrationConstants.PACKAGING_TAG_NAME, MigrationConstants.CONTENT_PACKAGE_PACKAGING);
+        return pom;
+    }
+
+    private static Document getReactorPom(List<String> moduleNames) {
+        Document pom = createPom();
+        Element project = pom.getDocumentElement();
+        appendElement(project, MigrationConstants.GROUPID_TAG_NAME, PROJECT_GROUP_ID);
+        appendElement(project, MigrationConstants.ARTIFACTID_TAG_NAME, PROJECT_ARTIFACT_ID);
+        appendElement(project, MigrationConstants.VERSION_TAG_NAME, PROJECT_VERSION);
+        appendElement(project, MigrationConstants.PACKAGING_TAG_NAME, REACTOR_PACKAGING);
+
+        Element modules = appendElement(project, MigrationConstants.MODULES_TAG_NAME, null);
+        for (String moduleName : moduleNames) {
+            appendElement(modules, MigrationConstants.MODULE_TAG_NAME, moduleName);
+        }
+        return pom;
+    }
+
+    //Module names come from the package file names, so the POMs are built as documents to have them escaped
+    private static Document createPom() {
+        try {
+            Document pom = XmlUtil.createXml();
+            Element project = pom.createElement(PROJECT_TAG_NAME);
+            project.setAttribute(POM_NAMESPACE_ATTRIBUTE, POM_NAMESPACE);
+            pom.appendChild(project);
+            appendElement(project, MODEL_VERSION_TAG_NAME, MODEL_VERSION);
+            return pom;
+        } catch (ParserConfigurationException e) {
+            throw new MigrationRuntimeException("Unable to write the scratch project for the content packages.", e);
+        }
+    }
+
+    private static Element appendElement(Element parent, String tagName, String text) {
+        Element element = parent.getOwnerDocument().createElement(tagName);
+        if (text != null) {
+            element.setTextContent(text);
+        }
+        parent.appendChild(element);
+        return element;
+    }
+
+    private static void writePom(File directory, Document pom) {
+        try {
+            directory.mkdirs();
+            XmlUtil.writeXml(pom, new File(directory, MigrationConstants.POM_XML));
+        } catch (TransformerException | IOException e) {
+            throw new MigrationRuntimeException("Unable to write the scratch project for the content packages.", e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.main;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.adobe.skyline.migration.dao.ProcessingProfileDAO;
+import com.adobe.skyline.migration.dao.WorkflowRunnerConfigDAO;
+import com.adobe.skyline.migration.model.ChangeTrackingService;
+import com.adobe.skyline.migration.model.MigrationManifest;
+import com.adobe.skyline.migration.model.MigrationManifest.FileRecord;
+import com.adobe.skyline.migration.model.MigrationManifest.WorkflowRecord;
+import com.adobe.skyline.migration.model.ProcessingProfile;
+import com.adobe.skyline.migration.model.workflow.Workflow;
+import com.adobe.skyline.migration.model.workflow.WorkflowLauncher;
+import com.adobe.skyline.migration.model.workflow.WorkflowProject;
+import com.adobe.skyline.migration.util.file.FileUtil;
+
+/**
+ * Limits a migration to the workflows whose launcher or model files have changed since the last incremental run, as
+ * recorded in the {@link MigrationManifest}.  Unchanged workflows are dropped before any transformation, leaving their
+ * earlier outputs in place.
+ *
+ * A changed workflow is migrated again.  Workflow runner configurations that already exist are not added twice, and its
+ * processing profiles, which are derived from model steps that the first migration removed, are only replaced if the
+ * new migration creates profiles of its own.  When a model has been deleted, all of its outputs are removed.
+ */
+class IncrementalMigration {
+
+    private MigrationManifest manifest;
+    private WorkflowRunnerConfigDAO runnerConfigDAO;
+    private ProcessingProfileDAO ppDAO;
+
+    IncrementalMigration(MigrationManifest manifest, WorkflowRunnerConfigDAO runnerConfigDAO, ProcessingProfileDAO ppDAO) {
+        this.manifest = manifest;
+        this.runnerConfigDAO = runnerConfigDAO;
+        this.ppDAO = ppDAO;
+    }
+
+    /**
+     * Removes the unchanged workflows from the projects, and the outputs of workflows whose models have been deleted.
+     *
+     * @return the number of workflows that were skipped.
+     */
+    int skipUnchangedWorkflows(List<WorkflowProject> projects) throws IOException {
+        int skipped = 0;
+        Set<String> loadedModels = new HashSet<>();
+
+        for (WorkflowProject wfProject : projects) {
+            List<Workflow> changedWorkflows = new ArrayList<>();
+
+            for (Workflow workflow : wfProject.getWorkflows()) {
+                if (workflow.getWorkflowModel() == null) {
+                    changedWorkflows.add(workflow);
+                    continue;
+                }
+
+                String modelPath = getModelPath(workflow);
+                loadedModels.add(modelPath);
+
+                WorkflowRecord record = manifest.getWorkflowRecord(modelPath);
+                if (record != null && record.getInputHashes().equals(hashInputs(workflow))) {
+                    skipped++;
+                } else {
+                    changedWorkflows.add(workflow);
+                }
+            }
+
+            wfProject.setWorkflows(changedWorkflows);
+        }
+
+        for (Map.Entry<String, WorkflowRecord> entry : new ArrayList<>(manifest.getWorkflowRecords().entrySet())) {
+            if (!loadedModels.contains(entry.getKey()) && !manifest.getFile(entry.getKey()).exists()) {
+                WorkflowRecord record = entry.getValue();
+                runnerConfigDAO.removeConfigsForModel(record.getRuntimeComponent());
+                removeProfiles(record);
+                manifest.removeWorkflowRecord(entry.getKey());
+            }
+        }
+
+        return skipped;
+    }
+
+    /**
+     * Records the inputs and outputs of the migrated workflows.  This must be called once the migrated files have been
+     * written, so that the next run compares against the files as this run left them.
+     */
+    void recordMigratedWorkflows(List<WorkflowProject> projects, ChangeTrackingService changeTracker) throws IOException {
+        Map<String, List<String>> profilesByModel = new HashMap<>();
+        for (ProcessingProfile profile : changeTracker.getProcessingProfilesCreated()) {
+            if (profile.getModelFile() != null && profile.getProfileDirectory() != null) {
+                profilesByModel.computeIfAbsent(manifest.getRelativePath(profile.getModelFile()), k -> new ArrayList<>())
+                        .add(manifest.getRelativePath(profile.getProfileDirectory()));
+            }
+        }
+
+        for (WorkflowProject wfProject : projects) {
+            for (Workflow workflow : wfProject.getWorkflows()) {
+                if (workflow.getWorkflowModel() == null) {
+                    continue;
+                }
+
+                String modelPath = getModelPath(workflow);
+                WorkflowRecord previous = manifest.getWorkflowRecord(modelPath);
+
+                WorkflowRecord record = new WorkflowRecord(workflow.getWorkflowModel().getRuntimeComponent());
+                for (Map.Entry<String, String> input : hashInputs(workflow).entrySet()) {
+                    record.putInputHash(input.getKey(), input.getValue());
+                }
+
+                List<String> profileDirectories = profilesByModel.get(modelPath);
+                if (profileDirectories != null) {
+                    if (previous != null) {
+                        removeProfiles(previous);
+                    }
+                    profileDirectories.forEach(record::addProfileDirectory);
+                } else if (previous != null) {
+                    previous.getProfileDirectories().forEach(record::addProfileDirectory);
+                }
+
+                manifest.putWorkflowRecord(modelPath, record);
+            }
+        }
+    }
+
+    private void removeProfiles(WorkflowRecord record) {
+        for (String profileDirectory : record.getProfileDirectories()) {
+            File directory = manifest.getFile(profileDirectory);
+            if (directory.isDirectory()) {
+                ppDAO.removeProfile(directory);
+            }
+        }
+    }
+
+    private String getModelPath(Workflow workflow) {
+        return manifest.getRelativePath(workflow.getWorkflowModel().getConfigurationFile());
+    }
+
+    //Hashes the files a workflow is built from, reusing the recorded hash of any file that is unchanged on disk
+    private Map<String, String> hashInputs(Workflow workflow) throws IOException {
+        List<File> inputs = new ArrayList<>();
+        inputs.add(workflow.getWorkflowModel().getConfigurationFile());
+        for (WorkflowLauncher launcher : workflow.getLaunchers()) {
+            if (launcher.getLauncherFile() != null) {
+                inputs.add(launcher.getLauncherFile());
+            }
+        }
+
+        Map<String, String> hashes = new TreeMap<>();
+        for (File input : inputs) {
+            String path = manifest.getRelativePath(input);
+            BasicFileAttributes attributes = Files.readAttributes(input.toPath(), BasicFileAttributes.class);
+            long lastModified = attributes.lastModifiedTime().toMillis();
+
+            FileRecord record = manifest.getFileRecord(path);
+            if (record == null || !record.hasStamp(lastModified, attributes.size())) {
+                record = new FileRecord(lastModified, attributes.size(), FileUtil.hash(input));
+                manifest.putFileRecord(path, record);
+            }
+            hashes.put(path, record.getHash());
+        }
+        return hashes;
+    }
+}
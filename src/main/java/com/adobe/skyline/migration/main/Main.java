@@ -11,7 +11,13 @@
  */
 package com.adobe.skyline.migration.main;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 import com.adobe.skyline.migration.exception.CustomerDataException;
+import com.adobe.skyline.migration.exception.ProjectCreationException;
 import com.adobe.skyline.migration.util.Logger;
 
 /**
@@ -20,17 +26,45 @@ import com.adobe.skyline.migration.util.Logger;
  */
 public class Main {
 
-    private static final String USAGE_INSTRUCTIONS = "Usage: java -jar sky-migrate-x.x.jar path/to/project [path/to/reportOutput]";
+    private static final String USAGE_INSTRUCTIONS = "Usage: java -jar sky-migrate-x.x.jar [--threads N] [--incremental] [--dry-run] path/to/project [path/to/reportOutput]\n"
+            + "   or: java -jar sky-migrate-x.x.jar --batch path/to/manifest|path/to/projects [--concurrency N] [--threads N] [--incremental] [--dry-run] [path/to/reportOutput]\n"
+            + "   or: java -jar sky-migrate-x.x.jar --package path/to/package.zip [--package path/to/other.zip ...] [--threads N] [--dry-run] path/to/packageOutput [path/to/reportOutput]";
 
     public static void main(String[] args) throws Exception {
-        if (args.length < 1) {
+        CommandLineOptions options;
+        try {
+            options = new CommandLineOptions(args);
+        } catch (IllegalArgumentException e) {
+            Logger.ERROR(e.getMessage());
+            Logger.ERROR(USAGE_INSTRUCTIONS);
+            return;
+        }
+
+        List<String> positionalArgs = options.getPositionalArgs();
+        if (options.isBatch()) {
+            if (positionalArgs.size() > 1) {
+                Logger.ERROR(USAGE_INSTRUCTIONS);
+            } else {
+                String reportOutputDir = positionalArgs.size() > 0 ? positionalArgs.get(0) : System.getProperty("user.dir");
+                runBatch(options, reportOutputDir);
+            }
+        } else if (positionalArgs.size() < 1) {
             Logger.ERROR(USAGE_INSTRUCTIONS);
+        } else if (options.isPackageMode()) {
+            try {
+                String reportOutputDir = positionalArgs.size() > 1 ? positionalArgs.get(1) : System.getProperty("user.dir");
+                runPackages(options, positionalArgs.get(0), reportOutputDir);
+            } catch (CustomerDataException e) {
+                Logger.ERROR(e.getMessage());
+                e.printStackTrace();
+            }
         } else {
             try {
                 WorkflowStepConfiguration config = new WorkflowStepConfiguration();
-                String customerProjectPath = args[0];
-                String reportOutputDir = args.length > 1 ? args[1] : System.getProperty("user.dir");
-                MigrationOrchestrator orchestrator = new MigrationOrchestrator(customerProjectPath, config, reportOutputDir);
+                String customerProjectPath = positionalArgs.get(0);
+                String reportOutputDir = positionalArgs.size() > 1 ? positionalArgs.get(1) : System.getProperty("user.dir");
+                MigrationOrchestrator orchestrator = new MigrationOrchestrator(customerProjectPath, config, reportOutputDir, options.getThreads(),
+                        options.isIncremental(), options.isDryRun());
                 orchestrator.exec();
             } catch (CustomerDataException e) {
                 Logger.ERROR(e.getMessage());
@@ -38,4 +72,29 @@ public class Main {
             }
         }
     }
+
+    private static void runPackages(CommandLineOptions options, String packageOutputDir, String reportOutputDir)
+            throws CustomerDataException, ProjectCreationException {
+        List<File> packageFiles = new ArrayList<>();
+        for (String packagePath : options.getPackages()) {
+            packageFiles.add(new File(packagePath));
+        }
+
+        ContentPackageMigration migration = new ContentPackageMigration(new WorkflowStepConfiguration(), reportOutputDir,
+                options.getThreads(), options.isDryRun());
+        migration.migrate(packageFiles, new File(packageOutputDir));
+    }
+
+    private static void runBatch(CommandLineOptions options, String reportOutputDir) throws IOException {
+        List<String> projectPaths = BatchMigrationRunner.findProjects(new File(options.getBatchSource()));
+        BatchMigrationRunner runner = new BatchMigrationRunner(new WorkflowStepConfiguration(), reportOutputDir,
+                options.getConcurrency(), options.getThreads(), options.isIncremental(), options.isDryRun());
+
+        int failures = runner.run(projectPaths);
+        if (failures > 0) {
+            Logger.ERROR("Batch migration complete.  " + failures + " of " + projectPaths.size() + " projects could not be migrated.");
+        } else {
+            Logger.INFO("Batch migration complete.  " + projectPaths.size() + " projects have been migrated.");
+        }
+    }
 }
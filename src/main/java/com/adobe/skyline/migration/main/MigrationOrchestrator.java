@@ -13,24 +13,37 @@
 package com.adobe.skyline.migration.main;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.dao.ContainerProjectDAO;
 import com.adobe.skyline.migration.dao.FilterFileDAO;
 import com.adobe.skyline.migration.dao.MavenProjectDAO;
+import com.adobe.skyline.migration.dao.MigrationManifestDAO;
 import com.adobe.skyline.migration.dao.ProcessingProfileDAO;
 import com.adobe.skyline.migration.dao.WorkflowLauncherDAO;
 import com.adobe.skyline.migration.dao.WorkflowModelDAO;
 import com.adobe.skyline.migration.dao.WorkflowRunnerConfigDAO;
 import com.adobe.skyline.migration.exception.CustomerDataException;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
 import com.adobe.skyline.migration.exception.ProjectCreationException;
 import com.adobe.skyline.migration.model.ChangeTrackingService;
+import com.adobe.skyline.migration.model.MigrationManifest;
 import com.adobe.skyline.migration.model.workflow.Workflow;
 import com.adobe.skyline.migration.model.workflow.WorkflowProject;
 import com.adobe.skyline.migration.parser.CustomerProjectLoader;
 import com.adobe.skyline.migration.transformer.LauncherDisabler;
+import com.adobe.skyline.migration.transformer.MigrationPlanWriter;
 import com.adobe.skyline.migration.transformer.MigrationReportWriter;
 import com.adobe.skyline.migration.transformer.ModelTransformer;
 import com.adobe.skyline.migration.transformer.VarNodeCleaner;
@@ -38,8 +51,10 @@ import com.adobe.skyline.migration.transformer.WorkflowRunnerConfigCreator;
 import com.adobe.skyline.migration.transformer.processingprofile.ProcessingProfileCreator;
 import com.adobe.skyline.migration.transformer.processingprofile.ProfileMapperFactory;
 import com.adobe.skyline.migration.transformer.processingprofile.ProfileMapperFactoryImpl;
+import com.adobe.skyline.migration.util.DocumentCache;
 import com.adobe.skyline.migration.util.Logger;
 import com.adobe.skyline.migration.util.file.FileQueryService;
+import com.adobe.skyline.migration.util.file.FileTransaction;
 
 /**
  * The MigrationOrchestrator manages creating each of the various services, DAOs, parsers, and transformers and then calls
@@ -50,65 +65,277 @@ class MigrationOrchestrator {
     private String customerProjectPath;
     private WorkflowStepConfiguration config;
     private String reportOutputDirectory;
+    private int threads;
+    private boolean incremental;
+    private boolean dryRun;
 
     MigrationOrchestrator(String customerProjectPath, WorkflowStepConfiguration config, String reportOutputDirectory) {
+        this(customerProjectPath, config, reportOutputDirectory, 1);
+    }
+
+    MigrationOrchestrator(String customerProjectPath, WorkflowStepConfiguration config, String reportOutputDirectory, int threads) {
+        this(customerProjectPath, config, reportOutputDirectory, threads, false);
+    }
+
+    MigrationOrchestrator(String customerProjectPath, WorkflowStepConfiguration config, String reportOutputDirectory, int threads,
+                          boolean incremental) {
+        this(customerProjectPath, config, reportOutputDirectory, threads, incremental, false);
+    }
+
+    /**
+     * @param threads the number of threads used to transform workflow models and write the migrated files.  With a
+     *                single thread everything runs on the calling thread.  The output is the same either way.
+     * @param incremental if true, only the workflows that changed since the last incremental run are migrated, and the
+     *                    manifest in the project root is updated for the next one.
+     * @param dryRun if true, the migration is only planned.  Every change is kept in memory and nothing in the project is
+     *               written or deleted; instead, a plan listing the file operations is written next to the report.
+     */
+    MigrationOrchestrator(String customerProjectPath, WorkflowStepConfiguration config, String reportOutputDirectory, int threads,
+                          boolean incremental, boolean dryRun) {
         this.customerProjectPath = customerProjectPath;
         this.config = config;
         this.reportOutputDirectory = reportOutputDirectory;
+        this.threads = threads;
+        this.incremental = incremental;
+        this.dryRun = dryRun;
     }
 
     void exec() throws CustomerDataException, ProjectCreationException {
+        ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+        try {
+            exec(executor);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Migrates the project on the given pool, which may be shared with other migrations and is not shut down.  Only
+     * self-contained units of work are submitted to it, so it may be smaller than the number of callers.
+     *
+     * @param executor the pool to transform models and write files on, or null to do everything on the calling thread.
+     */
+    void exec(ExecutorService executor) throws CustomerDataException, ProjectCreationException {
+        if (!dryRun) {
+            recoverInterruptedMigrations();
+        }
+
         //Initialize General Services
         FileQueryService queryService = new FileQueryService();
         ChangeTrackingService changeTracker = new ChangeTrackingService();
         ProfileMapperFactory mapperFactory = new ProfileMapperFactoryImpl(changeTracker);
+        //Collect all changes and commit them at once, after the transform phase
+        DocumentCache documentCache = new DocumentCache(true, new File(customerProjectPath));
 
         //Initialize Data Access Objects
-        WorkflowLauncherDAO launcherDAO = new WorkflowLauncherDAO();
-        WorkflowModelDAO modelDAO = new WorkflowModelDAO();
-        FilterFileDAO appsFilterDAO = new FilterFileDAO(Paths.get(customerProjectPath, MigrationConstants.MIGRATION_PROJECT_APPS).toString());
-        FilterFileDAO contentFilterDAO = new FilterFileDAO(Paths.get(customerProjectPath, MigrationConstants.MIGRATION_PROJECT_CONTENT).toString());
-        ProcessingProfileDAO ppDAO = new ProcessingProfileDAO(Paths.get(customerProjectPath, MigrationConstants.MIGRATION_PROJECT_CONTENT).toString());
-        WorkflowRunnerConfigDAO runnerConfigDAO = new WorkflowRunnerConfigDAO(Paths.get(customerProjectPath, MigrationConstants.MIGRATION_PROJECT_APPS).toString());
+        WorkflowLauncherDAO launcherDAO = new WorkflowLauncherDAO(documentCache);
+        WorkflowModelDAO modelDAO = new WorkflowModelDAO(documentCache);
+        FilterFileDAO appsFilterDAO = new FilterFileDAO(Paths.get(customerProjectPath, MigrationConstants.MIGRATION_PROJECT_APPS).toString(), documentCache);
+        FilterFileDAO contentFilterDAO = new FilterFileDAO(Paths.get(customerProjectPath, MigrationConstants.MIGRATION_PROJECT_CONTENT).toString(), documentCache);
+        ProcessingProfileDAO ppDAO = new ProcessingProfileDAO(Paths.get(customerProjectPath, MigrationConstants.MIGRATION_PROJECT_CONTENT).toString(), documentCache);
+        WorkflowRunnerConfigDAO runnerConfigDAO = new WorkflowRunnerConfigDAO(Paths.get(customerProjectPath, MigrationConstants.MIGRATION_PROJECT_APPS).toString(), documentCache);
+        MigrationManifestDAO manifestDAO = new MigrationManifestDAO(customerProjectPath);
+        MigrationManifest manifest = incremental ? manifestDAO.load() : null;
 
         //Load customer projects
-        CustomerProjectLoader loader = new CustomerProjectLoader(queryService, launcherDAO, modelDAO);
+        CustomerProjectLoader loader = new CustomerProjectLoader(queryService, launcherDAO, modelDAO, documentCache, manifest);
         List<WorkflowProject> projects = loader.getWorkflowProjects(customerProjectPath);
 
+        IncrementalMigration incrementalMigration = null;
+        if (incremental) {
+            incrementalMigration = new IncrementalMigration(manifest, runnerConfigDAO, ppDAO);
+            int skipped = skipUnchangedWorkflows(incrementalMigration, projects);
+            Logger.INFO(skipped + " workflows are unchanged since the last incremental migration and will be skipped.");
+        }
+
         MavenProjectDAO mavenProjectDAO;
         if (loader.isCloudManagerReady(customerProjectPath)) {
             String containerProjectPath = loader.getContainerProjectPath(customerProjectPath);
-            ContainerProjectDAO containerProjectDAO = new ContainerProjectDAO(containerProjectPath);
-            mavenProjectDAO = new MavenProjectDAO(customerProjectPath, changeTracker, containerProjectDAO);
+            ContainerProjectDAO containerProjectDAO = new ContainerProjectDAO(containerProjectPath, documentCache);
+            mavenProjectDAO = new MavenProjectDAO(customerProjectPath, changeTracker, containerProjectDAO, documentCache);
         } else {
-            mavenProjectDAO = new MavenProjectDAO(customerProjectPath, changeTracker);
+            mavenProjectDAO = new MavenProjectDAO(customerProjectPath, changeTracker, null, documentCache);
         }
 
         //Initialize Transformer Objects
-        LauncherDisabler launcherDisabler = new LauncherDisabler(launcherDAO, changeTracker);
-        ModelTransformer modelTransformer = new ModelTransformer(config, modelDAO, changeTracker);
-        ProcessingProfileCreator ppCreator = new ProcessingProfileCreator(mapperFactory, ppDAO, contentFilterDAO, changeTracker, mavenProjectDAO);
+        //An incremental run only migrates the changed workflows, so it cannot keep a profile shared with unchanged ones
+        ProcessingProfileCreator ppCreator = new ProcessingProfileCreator(mapperFactory, ppDAO, contentFilterDAO, changeTracker, mavenProjectDAO, !incremental);
         WorkflowRunnerConfigCreator runnerConfigCreator = new WorkflowRunnerConfigCreator(runnerConfigDAO, appsFilterDAO, changeTracker, mavenProjectDAO);
         MigrationReportWriter reportWriter = new MigrationReportWriter(changeTracker);
 
         //Execute migration
+        transformModels(projects, modelDAO, changeTracker, executor);
+        cleanUpProjects(projects, launcherDAO, documentCache, changeTracker, executor);
+
+        //Profiles and runner configurations all go into the shared migration project, so they are created in order
         for (WorkflowProject wfProject : projects) {
-            launcherDisabler.disableLaunchers(wfProject);
             ppCreator.createProfiles(wfProject);
 
             for (Workflow workflow : wfProject.getWorkflows()) {
                 if (workflow.getWorkflowModel() != null) {
-                    modelTransformer.transformModel(workflow);
                     runnerConfigCreator.createWorkflowConfigs(workflow);
                 }
             }
+        }
+
+        if (dryRun) {
+            //The pending changes are the plan, so they are listed instead of flushed
+            MigrationPlanWriter planWriter = new MigrationPlanWriter(new File(customerProjectPath), changeTracker, documentCache);
+            planWriter.write(new File(reportOutputDirectory));
+        } else {
+            if (executor != null) {
+                documentCache.flush(executor);
+            } else {
+                documentCache.flush();
+            }
 
-            FilterFileDAO wfProjectFilterDAO = new FilterFileDAO(wfProject.getPath());
-            VarNodeCleaner varNodeCleaner = new VarNodeCleaner(wfProjectFilterDAO, changeTracker);
-            varNodeCleaner.cleanNodes(wfProject);
+            if (incrementalMigration != null) {
+                recordMigratedWorkflows(incrementalMigration, projects, changeTracker);
+                manifestDAO.save(manifest);
+            }
         }
 
         reportWriter.write(new File(reportOutputDirectory));
-        Logger.INFO("Migration complete.  A report file has been created at " + Paths.get(reportOutputDirectory, MigrationConstants.REPORT_FILENAME, ".").toString());
+        if (dryRun) {
+            Logger.INFO("Dry run complete.  No files in the project were changed.  A report and a migration plan have been created in " + reportOutputDirectory);
+        } else {
+            Logger.INFO("Migration complete.  A report file has been created at " + Paths.get(reportOutputDirectory, MigrationConstants.REPORT_FILENAME, ".").toString());
+        }
+    }
+
+    /*
+     * Model transformation only touches the model's own XML file and the steps tracked against it, so models are
+     * transformed independently of each other and of the remaining migration steps.  Workflows sharing a model file are
+     * transformed together, in their original order, and each group tracks its changes separately.  The groups are then
+     * merged back in workflow order, which makes the report the same regardless of which group finished first.
+     */
+    private void transformModels(List<WorkflowProject> projects, WorkflowModelDAO modelDAO, ChangeTrackingService changeTracker,
+                                 ExecutorService executor) throws CustomerDataException {
+        Map<File, List<Workflow>> workflowsByModel = new LinkedHashMap<>();
+        for (WorkflowProject wfProject : projects) {
+            for (Workflow workflow : wfProject.getWorkflows()) {
+                if (workflow.getWorkflowModel() != null) {
+                    File modelFile = workflow.getWorkflowModel().getConfigurationFile().getAbsoluteFile();
+                    workflowsByModel.computeIfAbsent(modelFile, k -> new ArrayList<>()).add(workflow);
+                }
+            }
+        }
+
+        List<Callable<ChangeTrackingService>> transforms = new ArrayList<>();
+        for (List<Workflow> workflows : workflowsByModel.values()) {
+            transforms.add(() -> {
+                ChangeTrackingService modelChanges = new ChangeTrackingService();
+                ModelTransformer modelTransformer = new ModelTransformer(config, modelDAO, modelChanges);
+                for (Workflow workflow : workflows) {
+                    modelTransformer.transformModel(workflow);
+                }
+                return modelChanges;
+            });
+        }
+
+        for (ChangeTrackingService modelChanges : invokeAll(transforms, executor)) {
+            changeTracker.trackAll(modelChanges);
+        }
+    }
+
+    /*
+     * Disabling launchers and removing the workflow nodes below /var only touch files that belong to the workflow
+     * project itself: its launcher files, its filter and its /var tree.  No two projects share any of them, so each
+     * project is cleaned up on its own, after the models are transformed and before anything is written to the shared
+     * migration project.  As with the models, each project tracks its changes separately and they are merged back in
+     * project order.
+     */
+    private void cleanUpProjects(List<WorkflowProject> projects, WorkflowLauncherDAO launcherDAO, DocumentCache documentCache,
+                                 ChangeTrackingService changeTracker, ExecutorService executor) throws CustomerDataException {
+        List<Callable<ChangeTrackingService>> cleanUps = new ArrayList<>();
+        for (WorkflowProject wfProject : projects) {
+            cleanUps.add(() -> {
+                ChangeTrackingService projectChanges = new ChangeTrackingService();
+                LauncherDisabler launcherDisabler = new LauncherDisabler(launcherDAO, projectChanges);
+                launcherDisabler.disableLaunchers(wfProject);
+
+                FilterFileDAO wfProjectFilterDAO = new FilterFileDAO(wfProject.getPath(), documentCache);
+                VarNodeCleaner varNodeCleaner = new VarNodeCleaner(wfProjectFilterDAO, projectChanges, documentCache);
+                varNodeCleaner.cleanNodes(wfProject);
+                return projectChanges;
+            });
+        }
+
+        for (ChangeTrackingService projectChanges : invokeAll(cleanUps, executor)) {
+            changeTracker.trackAll(projectChanges);
+        }
+    }
+
+    //A migration that died while committing its changes is rolled back, so that this one starts from the original project
+    private void recoverInterruptedMigrations() {
+        try {
+            for (File scratchDirectory : FileTransaction.recover(new File(customerProjectPath))) {
+                Logger.WARN("Rolled back the changes of an interrupted migration and removed its staging directory at " + scratchDirectory.getPath());
+            }
+        } catch (IOException e) {
+            throw new MigrationRuntimeException("Unable to roll back the interrupted migration of " + customerProjectPath, e);
+        }
+    }
+
+    private int skipUnchangedWorkflows(IncrementalMigration incrementalMigration, List<WorkflowProject> projects) {
+        try {
+            return incrementalMigration.skipUnchangedWorkflows(projects);
+        } catch (IOException e) {
+            throw new MigrationRuntimeException("Unable to compare the project with the migration manifest.", e);
+        }
+    }
+
+    private void recordMigratedWorkflows(IncrementalMigration incrementalMigration, List<WorkflowProject> projects,
+                                         ChangeTrackingService changeTracker) {
+        try {
+            incrementalMigration.recordMigratedWorkflows(projects, changeTracker);
+        } catch (IOException e) {
+            throw new MigrationRuntimeException("Unable to record the migrated workflows in the migration manifest.", e);
+        }
+    }
+
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks, ExecutorService executor) throws CustomerDataException {
+        List<T> results = new ArrayList<>(tasks.size());
+
+        if (executor == null) {
+            for (Callable<T> task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof CustomerDataException) {
+                    throw (CustomerDataException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new MigrationRuntimeException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MigrationRuntimeException("Interrupted while migrating the workflow models.", e);
+            }
+        }
+        return results;
+    }
+
+    private static <T> T call(Callable<T> task) throws CustomerDataException {
+        try {
+            return task.call();
+        } catch (CustomerDataException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MigrationRuntimeException(e);
+        }
     }
 }
@@ -14,7 +14,16 @@ package com.adobe.skyline.migration.main;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 
 import com.adobe.skyline.migration.exception.MigrationRuntimeException;
 import com.adobe.skyline.migration.model.WorkflowStepSupportStatus;
@@ -22,54 +31,47 @@ import com.adobe.skyline.migration.model.WorkflowStepSupportStatus;
 /**
  * Loads the configuration for the various workflow steps that we may encounter along with their level of support.  The
  * workflow step configurations can be found in src/main/java/resources/workflowSteps.properties.
+ *
+ * The configuration is compiled once per JVM into an immutable table, which every instance shares.  Each configured
+ * process is numbered, and each question about a step is answered with a single lookup of its number.
  */
 public class WorkflowStepConfiguration {
 
-    private Map<WorkflowStepSupportStatus, String[]> stepsByStatus;
-    private Map<String, WorkflowStepSupportStatus> statusByStep;
+    private static final Set<WorkflowStepSupportStatus> ENABLED_STATUSES = Collections.unmodifiableSet(EnumSet.of(
+            WorkflowStepSupportStatus.SUPPORTED, WorkflowStepSupportStatus.OPTIONAL, WorkflowStepSupportStatus.REQUIRED));
+
+    private final StepTable table;
 
     public WorkflowStepConfiguration() {
-        loadWorkflowStepProperties();
+        this.table = Holder.TABLE;
     }
 
     public boolean isStepEnabledOnSkyline(String step) {
-
-        WorkflowStepSupportStatus status = statusByStep.get(step);
+        int id = table.getId(step);
 
         // We allow customer workflow steps to run.
         // Thus, if we have not configured a step to be excluded, we should assume that it is supported.
-        if (status == null) {
-            return true;
-        } else {
-            return (status == WorkflowStepSupportStatus.SUPPORTED
-                    || status == WorkflowStepSupportStatus.OPTIONAL
-                    || status == WorkflowStepSupportStatus.REQUIRED);
-        }
+        return id < 0 || table.enabledSteps.get(id);
     }
 
     // These are workflow steps that we don't want to remove from a workflow if it is one that we plan to run on Skyline,
     // but we wouldn't run a workflow just for the purpose of executing this step.
     public boolean isOptionalStep(String process) {
-        String[] optionalSteps = stepsByStatus.get(WorkflowStepSupportStatus.OPTIONAL);
-        String[] requiredSteps = stepsByStatus.get(WorkflowStepSupportStatus.REQUIRED);
-        return (Arrays.asList(optionalSteps).contains(process) || Arrays.asList(requiredSteps).contains(process));
+        int id = table.getId(process);
+        return id >= 0 && table.optionalSteps.get(id);
     }
 
     public WorkflowStepSupportStatus getStepSupportedStatus(String step) {
-        WorkflowStepSupportStatus status = statusByStep.get(step);
-
-        if (status == null) {
-            status = WorkflowStepSupportStatus.UNKNOWN;
-        }
-
-        return status;
+        int id = table.getId(step);
+        return id < 0 ? WorkflowStepSupportStatus.UNKNOWN : table.statuses[id];
     }
 
-    private void loadWorkflowStepProperties() {
-        stepsByStatus = new HashMap<>();
-        statusByStep = new HashMap<>();
+    private static class Holder {
+        private static final StepTable TABLE = new StepTable(loadWorkflowStepProperties());
+    }
 
-        try (InputStream stream = getClass().getClassLoader().getResourceAsStream("workflowSteps.properties")) {
+    private static Properties loadWorkflowStepProperties() {
+        try (InputStream stream = WorkflowStepConfiguration.class.getClassLoader().getResourceAsStream("workflowSteps.properties")) {
 
             if (stream == null) {
                 throw new MigrationRuntimeException("Unable to load the workflowSteps.properties file.");
@@ -77,23 +79,56 @@ public class WorkflowStepConfiguration {
 
             Properties props = new Properties();
             props.load(stream);
+            return props;
+        } catch (IOException e) {
+            throw new MigrationRuntimeException("Exception occurred when reading properties.", e);
+        }
+    }
 
-            Enumeration keys = props.propertyNames();
-            while(keys.hasMoreElements()) {
-                String key = (String) keys.nextElement();
-                String value = props.getProperty(key);
+    /**
+     * The compiled configuration, which is never modified after it has been built.  Processes are numbered in the
+     * order in which they are first listed, and the number indexes the status and the bit sets.
+     */
+    private static class StepTable {
 
-                WorkflowStepSupportStatus status = WorkflowStepSupportStatus.valueOf(key);
-                String[] steps = value.split(",");
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final WorkflowStepSupportStatus[] statuses;
+        private final BitSet enabledSteps = new BitSet();
+        private final BitSet optionalSteps = new BitSet();
+
+        StepTable(Properties props) {
+            List<WorkflowStepSupportStatus> statusList = new ArrayList<>();
 
-                stepsByStatus.put(status, steps);
+            Enumeration<?> keys = props.propertyNames();
+            while (keys.hasMoreElements()) {
+                String key = (String) keys.nextElement();
+                WorkflowStepSupportStatus status = WorkflowStepSupportStatus.valueOf(key);
 
-                for (String step : steps) {
-                    statusByStep.put(step, status);
+                for (String step : props.getProperty(key).split(",")) {
+                    Integer id = ids.get(step);
+                    if (id == null) {
+                        id = statusList.size();
+                        ids.put(step, id);
+                        statusList.add(status);
+                    } else {
+                        statusList.set(id, status); //A step listed twice takes the status it was given last
+                    }
+
+                    if (status == WorkflowStepSupportStatus.OPTIONAL || status == WorkflowStepSupportStatus.REQUIRED) {
+                        optionalSteps.set(id);
+                    }
                 }
             }
-        } catch (IOException e) {
-            throw new MigrationRuntimeException("Exception occurred when reading properties.", e);
+
+            statuses = statusList.toArray(new WorkflowStepSupportStatus[0]);
+            for (int id = 0; id < statuses.length; id++) {
+                enabledSteps.set(id, ENABLED_STATUSES.contains(statuses[id]));
+            }
+        }
+
+        int getId(String step) {
+            Integer id = ids.get(step);
+            return id == null ? -1 : id;
         }
     }
 }
@@ -13,30 +13,36 @@
 package com.adobe.skyline.migration.model;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * Journal of the changes made during a migration, which is read back by the report writer.  Changes may be tracked
+ * from any number of threads without a global lock: lists are lock-free queues, keyed changes live in concurrent maps,
+ * and the steps of each workflow model are guarded by a lock of their own.
+ *
+ * The getters return immutable snapshots, which are rebuilt from the order in which entries were first tracked.  The
+ * same sequence of changes therefore always produces the same snapshots, and so the same report.  Workers that need a
+ * fixed order regardless of scheduling should track into a service of their own and be merged with
+ * {@link #trackAll(ChangeTrackingService)} in a fixed order.
+ */
 public class ChangeTrackingService {
 
-    private List<String> disabledLaunchers;
-    private Map<String, String> runnerConfigsAdded;
-    private Map<String, Map<String, WorkflowStepSupportStatus>> modelStepsModified;
-    private List<ProcessingProfile> processingProfilesCreated;
-    private List<String> projectsCreated;
-    private List<String> varPathsDeleted;
-    private Map<String, String> failedMappings;
-
-    public ChangeTrackingService() {
-        this.disabledLaunchers = new ArrayList<>();
-        this.runnerConfigsAdded = new HashMap<>();
-        this.modelStepsModified = new HashMap<>();
-        this.processingProfilesCreated = new ArrayList<>();
-        this.projectsCreated = new ArrayList<>();
-        this.varPathsDeleted = new ArrayList<>();
-        this.failedMappings = new HashMap<>();
-    }
+    private final Queue<String> disabledLaunchers = new ConcurrentLinkedQueue<>();
+    private final KeyedJournal<String> runnerConfigsAdded = new KeyedJournal<>();
+    private final KeyedJournal<Map<String, WorkflowStepSupportStatus>> modelStepsModified = new KeyedJournal<>();
+    private final Queue<ProcessingProfile> processingProfilesCreated = new ConcurrentLinkedQueue<>();
+    private final Queue<EliminatedRendition> renditionsEliminated = new ConcurrentLinkedQueue<>();
+    private final Queue<String> projectsCreated = new ConcurrentLinkedQueue<>();
+    private final Queue<String> varPathsDeleted = new ConcurrentLinkedQueue<>();
+    private final KeyedJournal<String> failedMappings = new KeyedJournal<>();
 
     public void trackLauncherDisabled(String launcherName) {
         disabledLaunchers.add(launcherName);
@@ -47,11 +53,11 @@ public class ChangeTrackingService {
     }
 
     public Map<String, String> getFailedMappings() {
-        return failedMappings;
+        return failedMappings.snapshot();
     }
 
     public List<String> getDisabledLaunchers() {
-        return disabledLaunchers;
+        return snapshot(disabledLaunchers);
     }
 
     public void trackWorkflowRunnerConfigAdded(String glob, String workflowModel) {
@@ -59,24 +65,26 @@ public class ChangeTrackingService {
     }
 
     public Map<String, String> getWorkflowRunnerConfigsAdded() {
-        return runnerConfigsAdded;
+        return runnerConfigsAdded.snapshot();
     }
 
     public void trackModifiedWorkflowStep(String modelPath, String workflowStep, WorkflowStepSupportStatus reason) {
-        Map<String, WorkflowStepSupportStatus> valueMap;
+        Map<String, WorkflowStepSupportStatus> valueMap = modelStepsModified.computeIfAbsent(modelPath, k -> new LinkedHashMap<>());
 
-        if (modelStepsModified.get(modelPath) != null) {
-            valueMap = modelStepsModified.get(modelPath);
-        } else {
-            valueMap = new LinkedHashMap<>();
-            modelStepsModified.put(modelPath, valueMap);
+        synchronized (valueMap) {
+            valueMap.put(workflowStep, reason);
         }
-
-        valueMap.put(workflowStep, reason);
     }
 
     public Map<String, Map<String, WorkflowStepSupportStatus>> getModifiedWorkflowSteps() {
-        return modelStepsModified;
+        Map<String, Map<String, WorkflowStepSupportStatus>> snapshot = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, WorkflowStepSupportStatus>> model : modelStepsModified.snapshot().entrySet()) {
+            Map<String, WorkflowStepSupportStatus> valueMap = model.getValue();
+            synchronized (valueMap) {
+                snapshot.put(model.getKey(), Collections.unmodifiableMap(new LinkedHashMap<>(valueMap)));
+            }
+        }
+        return Collections.unmodifiableMap(snapshot);
     }
 
     public void trackCreatedProcessingProfile(ProcessingProfile profile) {
@@ -84,7 +92,15 @@ public class ChangeTrackingService {
     }
 
     public List<ProcessingProfile> getProcessingProfilesCreated() {
-        return processingProfilesCreated;
+        return snapshot(processingProfilesCreated);
+    }
+
+    public void trackEliminatedRendition(EliminatedRendition rendition) {
+        this.renditionsEliminated.add(rendition);
+    }
+
+    public List<EliminatedRendition> getRenditionsEliminated() {
+        return snapshot(renditionsEliminated);
     }
 
     public void trackProjectCreated(String projectName) {
@@ -92,7 +108,7 @@ public class ChangeTrackingService {
     }
 
     public List<String> getProjectsCreated() {
-        return projectsCreated;
+        return snapshot(projectsCreated);
     }
 
     public void trackVarPathDeleted(String path) {
@@ -100,6 +116,66 @@ public class ChangeTrackingService {
     }
 
     public List<String> getVarPathsDeleted() {
-        return varPathsDeleted;
+        return snapshot(varPathsDeleted);
+    }
+
+    /**
+     * Appends everything tracked by another service to this one, as if it had been tracked here in the same order.
+     */
+    public void trackAll(ChangeTrackingService other) {
+        disabledLaunchers.addAll(other.disabledLaunchers);
+        for (String glob : other.runnerConfigsAdded.keys) {
+            trackWorkflowRunnerConfigAdded(glob, other.runnerConfigsAdded.values.get(glob));
+        }
+        for (String modelPath : other.modelStepsModified.keys) {
+            Map<String, WorkflowStepSupportStatus> valueMap = other.modelStepsModified.values.get(modelPath);
+            synchronized (valueMap) {
+                for (Map.Entry<String, WorkflowStepSupportStatus> step : valueMap.entrySet()) {
+                    trackModifiedWorkflowStep(modelPath, step.getKey(), step.getValue());
+                }
+            }
+        }
+        processingProfilesCreated.addAll(other.processingProfilesCreated);
+        renditionsEliminated.addAll(other.renditionsEliminated);
+        projectsCreated.addAll(other.projectsCreated);
+        varPathsDeleted.addAll(other.varPathsDeleted);
+        for (String mapping : other.failedMappings.keys) {
+            trackFailedMappings(mapping, other.failedMappings.values.get(mapping));
+        }
+    }
+
+    private static <T> List<T> snapshot(Collection<T> values) {
+        return Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    /**
+     * A concurrent map that also journals the order in which its keys were first added.  Snapshots replay that order
+     * into a new {@link LinkedHashMap}, so they iterate in the order in which the keys were first tracked.
+     */
+    private static class KeyedJournal<V> {
+
+        private final Map<String, V> values = new ConcurrentHashMap<>();
+        private final Queue<String> keys = new ConcurrentLinkedQueue<>();
+
+        void put(String key, V value) {
+            if (values.put(key, value) == null) {
+                keys.add(key);
+            }
+        }
+
+        V computeIfAbsent(String key, Function<String, V> mappingFunction) {
+            return values.computeIfAbsent(key, k -> {
+                keys.add(k);
+                return mappingFunction.apply(k);
+            });
+        }
+
+        Map<String, V> snapshot() {
+            Map<String, V> snapshot = new LinkedHashMap<>();
+            for (String key : keys) {
+                snapshot.put(key, values.get(key));
+            }
+            return Collections.unmodifiableMap(snapshot);
+        }
     }
 }
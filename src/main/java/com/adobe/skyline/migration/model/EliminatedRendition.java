@@ -0,0 +1,44 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.model;
+
+/**
+ * A rendition that was left out of a processing profile because the profile already generates an identical one.
+ */
+public class EliminatedRendition {
+
+    private final ProcessingProfile profile;
+    private final RenditionConfig rendition;
+    private final RenditionConfig duplicateOf;
+
+    public EliminatedRendition(ProcessingProfile profile, RenditionConfig rendition, RenditionConfig duplicateOf) {
+        this.profile = profile;
+        this.rendition = rendition;
+        this.duplicateOf = duplicateOf;
+    }
+
+    /**
+     * @return the profile that generates the rendition that was kept.
+     */
+    public ProcessingProfile getProfile() {
+        return profile;
+    }
+
+    public RenditionConfig getRendition() {
+        return rendition;
+    }
+
+    public RenditionConfig getDuplicateOf() {
+        return duplicateOf;
+    }
+}
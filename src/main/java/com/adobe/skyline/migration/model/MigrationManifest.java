@@ -0,0 +1,202 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.model;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The record kept between incremental runs of the migration.  For every input file seen while searching for workflow
+ * configurations, it stores the file's modification time, size and content hash along with the results of the
+ * matchers that were run against it.  For every workflow that was migrated, it stores the hashes of the launcher and
+ * model files it was built from, and the outputs that were derived from it.
+ *
+ * Paths are stored relative to the customer project root, with forward slashes.  File records may be read and written
+ * concurrently; workflow records are only touched by the orchestrating thread.
+ */
+public class MigrationManifest {
+
+    private final Path projectRoot;
+    private final Map<String, FileRecord> files = new ConcurrentHashMap<>();
+    private final Set<String> seenFiles = ConcurrentHashMap.newKeySet();
+    private final Map<String, WorkflowRecord> workflows = new TreeMap<>();
+
+    public MigrationManifest(Path projectRoot) {
+        this.projectRoot = projectRoot.toAbsolutePath().normalize();
+    }
+
+    public String getRelativePath(File file) {
+        Path relative = projectRoot.relativize(file.toPath().toAbsolutePath().normalize());
+        return relative.toString().replace(File.separatorChar, '/');
+    }
+
+    public File getFile(String relativePath) {
+        return projectRoot.resolve(relativePath).toFile();
+    }
+
+    public FileRecord getFileRecord(String path) {
+        return files.get(path);
+    }
+
+    /**
+     * Stores the record for a file and marks the file as seen during this run.
+     */
+    public void putFileRecord(String path, FileRecord record) {
+        files.put(path, record);
+        seenFiles.add(path);
+    }
+
+    /**
+     * Stores a record carried over from an earlier run, without marking the file as seen.
+     */
+    public void restoreFileRecord(String path, FileRecord record) {
+        files.put(path, record);
+    }
+
+    public void markFileSeen(String path) {
+        seenFiles.add(path);
+    }
+
+    /**
+     * @return the records of the files seen during this run, sorted by path.  Files that were not seen are left out,
+     * so that deleted files drop out of the manifest.
+     */
+    public Map<String, FileRecord> getSeenFileRecords() {
+        Map<String, FileRecord> seen = new TreeMap<>();
+        for (String path : seenFiles) {
+            FileRecord record = files.get(path);
+            if (record != null) {
+                seen.put(path, record);
+            }
+        }
+        return seen;
+    }
+
+    public WorkflowRecord getWorkflowRecord(String modelPath) {
+        return workflows.get(modelPath);
+    }
+
+    public void putWorkflowRecord(String modelPath, WorkflowRecord record) {
+        workflows.put(modelPath, record);
+    }
+
+    public void removeWorkflowRecord(String modelPath) {
+        workflows.remove(modelPath);
+    }
+
+    /**
+     * @return the workflow records keyed by model file path, in path order.
+     */
+    public Map<String, WorkflowRecord> getWorkflowRecords() {
+        return Collections.unmodifiableMap(workflows);
+    }
+
+    /**
+     * The state of an input file when it was last seen.
+     */
+    public static class FileRecord {
+        private final long lastModified;
+        private final long size;
+        private final String hash;
+        private final Map<String, Boolean> matches = new ConcurrentHashMap<>();
+
+        public FileRecord(long lastModified, long size, String hash) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.hash = hash;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public boolean hasStamp(long lastModified, long size) {
+            return this.lastModified == lastModified && this.size == size;
+        }
+
+        /**
+         * @return the result of the named matcher for this content, or null if it has not been run against it.
+         */
+        public Boolean getMatch(String matcherName) {
+            return matches.get(matcherName);
+        }
+
+        public void putMatch(String matcherName, boolean matched) {
+            matches.put(matcherName, matched);
+        }
+
+        public Map<String, Boolean> getMatches() {
+            return new TreeMap<>(matches);
+        }
+
+        /**
+         * @return a record for the same content with a new modification time, keeping the matcher results.
+         */
+        public FileRecord withLastModified(long lastModified) {
+            FileRecord record = new FileRecord(lastModified, size, hash);
+            record.matches.putAll(matches);
+            return record;
+        }
+    }
+
+    /**
+     * The inputs and outputs of a migrated workflow.
+     */
+    public static class WorkflowRecord {
+        private final String runtimeComponent;
+        private final Map<String, String> inputHashes = new TreeMap<>();
+        private final List<String> profileDirectories = new ArrayList<>();
+
+        public WorkflowRecord(String runtimeComponent) {
+            this.runtimeComponent = runtimeComponent;
+        }
+
+        /**
+         * @return the runtime path of the workflow model, which the workflow runner configurations refer to.
+         */
+        public String getRuntimeComponent() {
+            return runtimeComponent;
+        }
+
+        public Map<String, String> getInputHashes() {
+            return inputHashes;
+        }
+
+        public void putInputHash(String path, String hash) {
+            inputHashes.put(path, hash);
+        }
+
+        public List<String> getProfileDirectories() {
+            return profileDirectories;
+        }
+
+        public void addProfileDirectory(String path) {
+            profileDirectories.add(path);
+        }
+    }
+}
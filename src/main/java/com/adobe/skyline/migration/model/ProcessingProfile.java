@@ -12,6 +12,7 @@
 
 package com.adobe.skyline.migration.model;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -20,6 +21,8 @@ public class ProcessingProfile {
 
     private String name;
     private List<RenditionConfig> renditions;
+    private File modelFile;
+    private File profileDirectory;
 
     public ProcessingProfile() {
         renditions = new ArrayList<>();
@@ -45,4 +48,26 @@ public class ProcessingProfile {
         this.renditions = renditions;
     }
 
+    /**
+     * @return the configuration file of the workflow model this profile was migrated from.
+     */
+    public File getModelFile() {
+        return modelFile;
+    }
+
+    public void setModelFile(File modelFile) {
+        this.modelFile = modelFile;
+    }
+
+    /**
+     * @return the directory the profile was written to, once it has been added to a project.
+     */
+    public File getProfileDirectory() {
+        return profileDirectory;
+    }
+
+    public void setProfileDirectory(File profileDirectory) {
+        this.profileDirectory = profileDirectory;
+    }
+
 }
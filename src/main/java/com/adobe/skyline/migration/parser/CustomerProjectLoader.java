@@ -16,13 +16,13 @@ import java.io.File;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
@@ -32,24 +32,55 @@ import com.adobe.skyline.migration.dao.WorkflowLauncherDAO;
 import com.adobe.skyline.migration.dao.WorkflowModelDAO;
 import com.adobe.skyline.migration.exception.CustomerDataException;
 import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.model.MigrationManifest;
 import com.adobe.skyline.migration.model.workflow.Workflow;
 import com.adobe.skyline.migration.model.workflow.WorkflowProject;
 import com.adobe.skyline.migration.util.Logger;
-import com.adobe.skyline.migration.util.XmlUtil;
+import com.adobe.skyline.migration.util.XmlFactoryPool;
+import com.adobe.skyline.migration.util.DocumentCache;
+import com.adobe.skyline.migration.util.file.FileMatcher;
 import com.adobe.skyline.migration.util.file.FileQueryService;
+import com.adobe.skyline.migration.util.file.matchers.XmlContentMatcher;
 
 /**
  * Loads the customer project from disk and creates various model objects to represent the existing workflows as configured.
  */
 public class CustomerProjectLoader {
 
-    private XPath xPath;
+    private static final String EMBEDDEDS_EXPR = "//plugin[artifactId='filevault-package-maven-plugin']/configuration/embeddeds";
+    private static final String PACKAGE_TYPE_EXPR = "//plugin[artifactId='filevault-package-maven-plugin']/configuration/packageType";
+    private static final String LAUNCHER_MATCHER_NAME = "launcher";
+    private static final String MODEL_MATCHER_NAME = "model";
+
     private FileQueryService queryService;
     private WorkflowLauncherDAO launcherDAO;
     private WorkflowModelDAO modelDAO;
+    private FileMatcher launcherMatcher;
+    private FileMatcher modelMatcher;
+    private DocumentCache documentCache;
 
     public CustomerProjectLoader(FileQueryService queryService, WorkflowLauncherDAO launcherDAO, WorkflowModelDAO modelDAO) {
-        this.xPath = XPathFactory.newInstance().newXPath();
+        this(queryService, launcherDAO, modelDAO, new DocumentCache());
+    }
+
+    public CustomerProjectLoader(FileQueryService queryService, WorkflowLauncherDAO launcherDAO, WorkflowModelDAO modelDAO,
+                                 DocumentCache documentCache) {
+        this(queryService, launcherDAO, modelDAO, documentCache, null);
+    }
+
+    /**
+     * @param manifest if not null, the manifest of an earlier incremental run, which is used to skip reading files that
+     *                 have not changed since that run and is updated with the files seen during this one.
+     */
+    public CustomerProjectLoader(FileQueryService queryService, WorkflowLauncherDAO launcherDAO, WorkflowModelDAO modelDAO,
+                                 DocumentCache documentCache, MigrationManifest manifest) {
+        this.documentCache = documentCache;
+        this.launcherMatcher = new XmlContentMatcher(MigrationConstants.JCR_PRIMARY_TYPE_PROP, MigrationConstants.WORKFLOW_LAUNCHER_TYPE_VALUE);
+        this.modelMatcher = new XmlContentMatcher(MigrationConstants.SLING_RESOURCE_TYPE_PROP, MigrationConstants.WORKFLOW_MODEL_RESOURCE_TYPE_VALUE);
+        if (manifest != null) {
+            this.launcherMatcher = new ManifestFileMatcher(LAUNCHER_MATCHER_NAME, launcherMatcher, manifest);
+            this.modelMatcher = new ManifestFileMatcher(MODEL_MATCHER_NAME, modelMatcher, manifest);
+        }
         this.queryService = queryService;
         this.launcherDAO = launcherDAO;
         this.modelDAO = modelDAO;
@@ -73,8 +104,9 @@ public class CustomerProjectLoader {
             Document moduleXml = tryXmlLoad(new File(Paths.get(modulePath, MigrationConstants.POM_XML).toString()));
 
             if (isContentPackage(moduleXml)) {
-                List<String> wfLauncherPaths = getLauncherPaths(modulePath);
-                List<String> wfModelPaths = getModelPaths(modulePath);
+                Map<FileMatcher, List<String>> workflowFiles = findWorkflowFiles(modulePath);
+                List<String> wfLauncherPaths = workflowFiles.get(launcherMatcher);
+                List<String> wfModelPaths = getRelativeModelPaths(workflowFiles.get(modelMatcher), modulePath);
 
                 if (wfLauncherPaths.size() > 0 || wfModelPaths.size() > 0) {
                     WorkflowProject project = createCustomerProject(modulePath, wfLauncherPaths, wfModelPaths);
@@ -165,45 +197,38 @@ public class CustomerProjectLoader {
         }
     }
 
-    private List<String> getLauncherPaths(String modulePath) throws CustomerDataException {
-        List<String> wfConfigPaths = new ArrayList<>();
+    private Map<FileMatcher, List<String>> findWorkflowFiles(String modulePath) throws CustomerDataException {
+        Logger.DEBUG("Getting launcher and model paths for module at: " + modulePath);
+        Map<FileMatcher, List<String>> workflowFiles = new HashMap<>();
+        workflowFiles.put(launcherMatcher, new ArrayList<>());
+        workflowFiles.put(modelMatcher, new ArrayList<>());
 
         List<String> filterPaths = getFilterPaths(modulePath);
 
         for (String filterPath : filterPaths) {
             if (filterPath.startsWith(MigrationConstants.CONF_ROOT) || filterPath.startsWith(MigrationConstants.ETC_PATH)) {
                 String absolutePath = Paths.get(modulePath, MigrationConstants.PATH_TO_JCR_ROOT, filterPath).toString();
-                List<String> launchers = queryService.findFilesByNodeProperty(MigrationConstants.JCR_PRIMARY_TYPE_PROP, MigrationConstants.WORKFLOW_LAUNCHER_TYPE_VALUE, new File(absolutePath));
-                wfConfigPaths.addAll(launchers);
+                Map<FileMatcher, List<String>> found = queryService.findFilesMatching(Arrays.asList(launcherMatcher, modelMatcher), new File(absolutePath));
+                workflowFiles.get(launcherMatcher).addAll(found.get(launcherMatcher));
+                workflowFiles.get(modelMatcher).addAll(found.get(modelMatcher));
             }
         }
 
-        return wfConfigPaths;
+        return workflowFiles;
     }
 
-    private List<String> getModelPaths(String modulePath) throws CustomerDataException {
-        Logger.DEBUG("Getting model paths for module at: " + modulePath);
-        List<String> wfConfigPaths = new ArrayList<>();
+    private List<String> getRelativeModelPaths(List<String> modelFilePaths, String modulePath) {
+        List<String> relativePaths = new ArrayList<>();
 
-        List<String> filterPaths = getFilterPaths(modulePath);
-
-        for (String filterPath : filterPaths) {
-            if (filterPath.startsWith(MigrationConstants.CONF_ROOT) || filterPath.startsWith(MigrationConstants.ETC_PATH)) {
-                String absolutePath = Paths.get(modulePath, MigrationConstants.PATH_TO_JCR_ROOT, filterPath).toString();
-                List<String> models =  queryService.findFilesByNodeProperty(MigrationConstants.SLING_RESOURCE_TYPE_PROP, MigrationConstants.WORKFLOW_MODEL_RESOURCE_TYPE_VALUE, new File(absolutePath));
-
-                for (String fullPath : models) {
-                    //Store the relative model path, to agree with the launcher configuration
-                    Logger.DEBUG("Getting relative model path for fullPath: " + fullPath);
-                    Logger.DEBUG("Getting relative model path for modulePath: " + modulePath);
-                    String relativePath = getRelativeModelPath(fullPath, modulePath);
-                    Logger.DEBUG("relativePath: " + relativePath);
-                    wfConfigPaths.add(relativePath);
-                }
-            }
+        for (String fullPath : modelFilePaths) {
+            //Store the relative model path, to agree with the launcher configuration
+            Logger.DEBUG("Getting relative model path for fullPath: " + fullPath);
+            String relativePath = getRelativeModelPath(fullPath, modulePath);
+            Logger.DEBUG("relativePath: " + relativePath);
+            relativePaths.add(relativePath);
         }
 
-        return wfConfigPaths;
+        return relativePaths;
     }
 
     private String getRelativeModelPath(String fullPath, String modulePath) {
@@ -236,7 +261,7 @@ public class CustomerProjectLoader {
 
     private Document tryXmlLoad(File xmlFile) throws CustomerDataException {
         try {
-            return XmlUtil.loadXml(xmlFile);
+            return documentCache.load(xmlFile);
         } catch (Exception e) {
             throw new CustomerDataException("Unable to read the xml file at " + xmlFile.getPath(), e);
         }
@@ -258,14 +283,12 @@ public class CustomerProjectLoader {
     }
 
     private boolean hasEmbeddeds(Document moduleXml) throws XPathExpressionException {
-        String embeddedsExpr = "//plugin[artifactId='filevault-package-maven-plugin']/configuration/embeddeds";
-        NodeList embeddedsList = (NodeList) xPath.compile(embeddedsExpr).evaluate(moduleXml, XPathConstants.NODESET);
+        NodeList embeddedsList = (NodeList) XmlFactoryPool.getXPathExpression(EMBEDDEDS_EXPR).evaluate(moduleXml, XPathConstants.NODESET);
        return embeddedsList.getLength() > 0;
     }
 
     private boolean hasPackageType(Document moduleXml) throws XPathExpressionException {
-        String packageTypeExpr = "//plugin[artifactId='filevault-package-maven-plugin']/configuration/packageType";
-        NodeList packageTypeList = (NodeList) xPath.compile(packageTypeExpr).evaluate(moduleXml, XPathConstants.NODESET);
+        NodeList packageTypeList = (NodeList) XmlFactoryPool.getXPathExpression(PACKAGE_TYPE_EXPR).evaluate(moduleXml, XPathConstants.NODESET);
         return packageTypeList.getLength() > 0;
     }
 }
@@ -0,0 +1,137 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.model.MigrationManifest;
+import com.adobe.skyline.migration.model.MigrationManifest.FileRecord;
+import com.adobe.skyline.migration.util.file.FileMatcher;
+import com.adobe.skyline.migration.util.file.FileUtil;
+
+/**
+ * Answers for another matcher from the migration manifest wherever it can.  A file whose modification time and size
+ * are unchanged since the last run is not opened at all.  Otherwise the file is hashed, and the recorded result is
+ * still used if the content turns out to be the same.  Only changed or new content is passed to the wrapped matcher,
+ * and its result is recorded for the next run.  Several of these matchers look a file up once between them and pass
+ * it to their wrapped matchers together.
+ */
+class ManifestFileMatcher implements FileMatcher {
+
+    private final String name;
+    private final FileMatcher delegate;
+    private final MigrationManifest manifest;
+
+    /**
+     * @param name identifies the wrapped matcher's results in the manifest.
+     */
+    ManifestFileMatcher(String name, FileMatcher delegate, MigrationManifest manifest) {
+        this.name = name;
+        this.delegate = delegate;
+        this.manifest = manifest;
+    }
+
+    @Override
+    public boolean matches(File file) {
+        return matchesAll(file, Collections.emptyList())[0];
+    }
+
+    @Override
+    public boolean[] matchesAll(File file, List<FileMatcher> others) {
+        List<ManifestFileMatcher> matchers = new ArrayList<>(others.size() + 1);
+        matchers.add(this);
+        for (FileMatcher other : others) {
+            matchers.add((ManifestFileMatcher) other);
+        }
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            FileRecord record = attributes.isRegularFile() ? getFileRecord(file, attributes) : null;
+
+            boolean[] matches = new boolean[matchers.size()];
+            List<Integer> unknown = new ArrayList<>();
+            for (int i = 0; i < matchers.size(); i++) {
+                Boolean matched = record != null ? record.getMatch(matchers.get(i).name) : null;
+                if (matched != null) {
+                    matches[i] = matched;
+                } else {
+                    unknown.add(i);
+                }
+            }
+
+            boolean[] delegateMatches = matchDelegates(file, matchers, unknown);
+            for (int i = 0; i < unknown.size(); i++) {
+                int index = unknown.get(i);
+                matches[index] = delegateMatches[i];
+                if (record != null) {
+                    record.putMatch(matchers.get(index).name, delegateMatches[i]);
+                }
+            }
+            return matches;
+        } catch (IOException e) {
+            throw new MigrationRuntimeException(e);
+        }
+    }
+
+    private FileRecord getFileRecord(File file, BasicFileAttributes attributes) throws IOException {
+        String path = manifest.getRelativePath(file);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+
+        FileRecord record = manifest.getFileRecord(path);
+        if (record == null || !record.hasStamp(lastModified, size)) {
+            String hash = FileUtil.hash(file);
+            if (record != null && record.getSize() == size && record.getHash().equals(hash)) {
+                record = record.withLastModified(lastModified);
+            } else {
+                record = new FileRecord(lastModified, size, hash);
+            }
+            manifest.putFileRecord(path, record);
+        } else {
+            manifest.markFileSeen(path);
+        }
+        return record;
+    }
+
+    //The wrapped matchers are tested together when they are of the same class, so that the file is read only once
+    private static boolean[] matchDelegates(File file, List<ManifestFileMatcher> matchers, List<Integer> indexes) {
+        if (indexes.isEmpty()) {
+            return new boolean[0];
+        }
+
+        FileMatcher first = matchers.get(indexes.get(0)).delegate;
+        List<FileMatcher> others = new ArrayList<>(indexes.size() - 1);
+        for (int i = 1; i < indexes.size(); i++) {
+            others.add(matchers.get(indexes.get(i)).delegate);
+        }
+
+        for (FileMatcher other : others) {
+            if (other.getClass() != first.getClass()) {
+                boolean[] matches = new boolean[indexes.size()];
+                matches[0] = first.matches(file);
+                for (int i = 0; i < others.size(); i++) {
+                    matches[i + 1] = others.get(i).matches(file);
+                }
+                return matches;
+            }
+        }
+        return others.isEmpty() ? new boolean[] {first.matches(file)} : first.matchesAll(file, others);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.transformer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.model.ChangeTrackingService;
+import com.adobe.skyline.migration.util.DocumentCache;
+
+/**
+ * The MigrationPlanWriter lists the file operations that a dry run has collected in the document cache, as a JSON
+ * document that can be read by other tools.  Each operation is a delete, a create or a modify, with the path relative
+ * to the customer project, in the order in which they would have been applied.
+ */
+public class MigrationPlanWriter {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private File projectRoot;
+    private ChangeTrackingService changeTracker;
+    private DocumentCache documentCache;
+
+    public MigrationPlanWriter(File projectRoot, ChangeTrackingService changeTracker, DocumentCache documentCache) {
+        this.projectRoot = projectRoot.getAbsoluteFile();
+        this.changeTracker = changeTracker;
+        this.documentCache = documentCache;
+    }
+
+    public void write(File outputDir) {
+        try (Writer out = Files.newBufferedWriter(getPlanFile(outputDir).toPath(), StandardCharsets.UTF_8)) {
+            out.write("{" + LINE_SEPARATOR);
+            out.write("  \"projectPath\": " + quote(projectRoot.getPath()) + "," + LINE_SEPARATOR);
+
+            out.write("  \"projectsCreated\": [");
+            List<String> projectsCreated = changeTracker.getProjectsCreated();
+            for (int i = 0; i < projectsCreated.size(); i++) {
+                out.write((i > 0 ? ", " : "") + quote(projectsCreated.get(i)));
+            }
+            out.write("]," + LINE_SEPARATOR);
+
+            out.write("  \"operations\": [");
+            boolean first = true;
+            for (File file : documentCache.getPendingDeletes()) {
+                first = writeOperation(out, "delete", file, first);
+            }
+            for (File file : documentCache.getPendingWrites()) {
+                first = writeOperation(out, file.exists() ? "modify" : "create", file, first);
+            }
+            out.write((first ? "" : LINE_SEPARATOR + "  ") + "]" + LINE_SEPARATOR);
+
+            out.write("}" + LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new MigrationRuntimeException("Unable to output a migration plan.", e);
+        }
+    }
+
+    /**
+     * Find the file to write the plan to in the outputDir, adding a numeric suffix in the same way as the report.
+     */
+    private File getPlanFile(File outputDir) {
+        File planFile = new File(outputDir, MigrationConstants.PLAN_NAME + "." + MigrationConstants.PLAN_EXTENSION);
+
+        int index = 0;
+        while (planFile.exists()) {
+            index++;
+            planFile = new File(outputDir, MigrationConstants.PLAN_NAME + "-" + index + "." + MigrationConstants.PLAN_EXTENSION);
+        }
+
+        return planFile;
+    }
+
+    private boolean writeOperation(Writer out, String action, File file, boolean first) throws IOException {
+        out.write((first ? "" : ",") + LINE_SEPARATOR);
+        out.write("    {\"action\": " + quote(action) + ", \"path\": " + quote(getRelativePath(file)) + "}");
+        return false;
+    }
+
+    private String getRelativePath(File file) throws IOException {
+        Path path = file.getCanonicalFile().toPath();
+        Path root = projectRoot.getCanonicalFile().toPath();
+        String relativePath = path.startsWith(root) ? root.relativize(path).toString() : path.toString();
+        return relativePath.replace(File.separatorChar, '/');
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < ' ') {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
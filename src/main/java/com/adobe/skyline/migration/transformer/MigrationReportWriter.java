@@ -14,26 +14,28 @@ package com.adobe.skyline.migration.transformer;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.exception.MigrationRuntimeException;
 import com.adobe.skyline.migration.model.ChangeTrackingService;
+import com.adobe.skyline.migration.model.EliminatedRendition;
 import com.adobe.skyline.migration.model.ProcessingProfile;
 import com.adobe.skyline.migration.model.WorkflowStepSupportStatus;
-import com.adobe.skyline.migration.util.file.FileUtil;
 
 /**
- * The MigrationReportWriter creates a report of all changes that the tool has made.
+ * The MigrationReportWriter creates a report of all changes that the tool has made.  The report template is rendered
+ * in a single pass, with each section written straight to the report file.
  */
 public class MigrationReportWriter {
 
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
     private ChangeTrackingService changeTracker;
 
     public MigrationReportWriter(ChangeTrackingService changeTracker) {
@@ -41,25 +43,28 @@ public class MigrationReportWriter {
     }
 
     public void write(File outputDir) {
-        try {
-            File reportFile = generateBaselineFile(outputDir);
-            writeLaunchersDisabled(reportFile);
-            writeRunnerConfigs(reportFile);
-            writeModifiedWorkflowSteps(reportFile);
-            writePathsDeleted(reportFile);
-            writeProcessingProfiles(reportFile);
-            writeProjects(reportFile);
-            writeMigrationIssues(reportFile);
+        Map<String, ReportTemplate.Section> sections = new HashMap<>();
+        sections.put("LAUNCHERS_DISABLED", this::writeLaunchersDisabled);
+        sections.put("RUNNER_CONFIGS_CREATED", this::writeRunnerConfigs);
+        sections.put("WORKFLOW_MODELS_TRANSFORMED", this::writeModifiedWorkflowSteps);
+        sections.put("VAR_PATHS_DELETED", this::writePathsDeleted);
+        sections.put("PROCESSING_PROFILES_CREATED", this::writeProcessingProfiles);
+        sections.put("RENDITIONS_ELIMINATED", this::writeRenditionsEliminated);
+        sections.put("PROJECTS_CREATED", this::writeProjects);
+        sections.put("MIGRATION_ISSUES", this::writeMigrationIssues);
+
+        try (Writer out = Files.newBufferedWriter(getReportFile(outputDir).toPath(), StandardCharsets.UTF_8)) {
+            ReportTemplate.getInstance().render(out, sections);
         } catch (IOException e) {
             throw new MigrationRuntimeException("Unable to output a migration report.", e);
         }
     }
 
     /**
-     * Copy the template report to the outputDir.  If the file already exists, append a suffix of -1.  If _that_ file
-     * already exists, use -2, and so on.
+     * Find the file to write the report to in the outputDir.  If the file already exists, append a suffix of -1.  If
+     * _that_ file already exists, use -2, and so on.
      */
-    private File generateBaselineFile(File outputDir) throws IOException {
+    private File getReportFile(File outputDir) {
         File reportFile = new File(outputDir, MigrationConstants.REPORT_FILENAME);
 
         int index = 0;
@@ -68,224 +73,152 @@ public class MigrationReportWriter {
             reportFile = new File(outputDir, MigrationConstants.REPORT_NAME + "-" + index + "." + MigrationConstants.REPORT_EXTENSION);
         }
 
-        try (InputStream template = this.getClass().getResourceAsStream("/" + MigrationConstants.REPORT_TEMPLATE_FILENAME)) {
-            Files.copy(template, reportFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-        }
-
         return reportFile;
     }
 
-    private void writeLaunchersDisabled(File reportFile) throws IOException {
-        StringBuilder launcherMdBuilder = new StringBuilder();
+    private void writeLaunchersDisabled(Writer out) throws IOException {
+        List<String> disabledLaunchers = changeTracker.getDisabledLaunchers();
 
-        if (changeTracker.getDisabledLaunchers().size() > 0) {
-            List<List<String>> tableValues = new LinkedList<>();
+        if (disabledLaunchers.size() > 0) {
+            writeTableRow(out, "Action", "Launcher");
+            writeTableRow(out, "------", "--------");
 
-            List<String> headerValues = new LinkedList<>(Arrays.asList("Action", "Launcher"));
-            tableValues.add(headerValues);
-            List<String> underlineRow = new LinkedList<>(Arrays.asList("------", "--------"));
-            tableValues.add(underlineRow);
-
-            for (String launcher : changeTracker.getDisabledLaunchers()) {
-                List<String> nextRow = new LinkedList<>(Arrays.asList("Disabled", "`" + launcher + "`"));
-                tableValues.add(nextRow);
+            for (String launcher : disabledLaunchers) {
+                writeTableRow(out, "Disabled", "`" + launcher + "`");
             }
-
-            String mdTable = createMarkdownTable(tableValues);
-            launcherMdBuilder.append(mdTable);
-
         } else {
-            launcherMdBuilder.append(MigrationConstants.NO_LAUNCHER_MSG);
-            launcherMdBuilder.append(System.getProperty("line.separator"));
+            writeLine(out, MigrationConstants.NO_LAUNCHER_MSG);
         }
-
-        FileUtil.findAndReplaceInFile(reportFile, "\\$\\{LAUNCHERS_DISABLED\\}", launcherMdBuilder.toString());
     }
 
-    private void writeRunnerConfigs(File reportFile) throws IOException {
-        StringBuilder configMdBuilder = new StringBuilder();
-
+    private void writeRunnerConfigs(Writer out) throws IOException {
         Map<String, String> configsAdded = changeTracker.getWorkflowRunnerConfigsAdded();
 
         if (configsAdded.size() > 0) {
-            List<List<String>> tableValues = new LinkedList<>();
-
-            List<String> headerValues = new LinkedList<>(Arrays.asList("Action", "Glob Pattern", "Workflow Model"));
-            tableValues.add(headerValues);
-            List<String> underlineRow = new LinkedList<>(Arrays.asList("------", "------------", "--------------"));
-            tableValues.add(underlineRow);
+            writeTableRow(out, "Action", "Glob Pattern", "Workflow Model");
+            writeTableRow(out, "------", "------------", "--------------");
 
-            for (String glob : configsAdded.keySet()) {
-                List<String> nextRow = new LinkedList<>(Arrays.asList("Created", "`" + glob + "`", "`" + configsAdded.get(glob) + "`"));
-                tableValues.add(nextRow);
+            for (Map.Entry<String, String> config : configsAdded.entrySet()) {
+                writeTableRow(out, "Created", "`" + config.getKey() + "`", "`" + config.getValue() + "`");
             }
-
-            String mdTable = createMarkdownTable(tableValues);
-            configMdBuilder.append(mdTable);
         } else {
-            configMdBuilder.append(MigrationConstants.NO_RUNNER_CFG_MSG);
-            configMdBuilder.append(System.getProperty("line.separator"));
+            writeLine(out, MigrationConstants.NO_RUNNER_CFG_MSG);
         }
-
-        FileUtil.findAndReplaceInFile(reportFile, "\\$\\{RUNNER_CONFIGS_CREATED\\}", configMdBuilder.toString());
     }
 
-    private void writeModifiedWorkflowSteps(File reportFile) throws IOException {
-        StringBuilder wfStepBuilder = new StringBuilder();
-
+    private void writeModifiedWorkflowSteps(Writer out) throws IOException {
         Map<String, Map<String, WorkflowStepSupportStatus>> modifiedWorkflows = changeTracker.getModifiedWorkflowSteps();
 
         if (modifiedWorkflows.size() > 0) {
-            for (String model : modifiedWorkflows.keySet()) {
-                wfStepBuilder.append("### " + model);
-                wfStepBuilder.append(System.getProperty("line.separator"));
-                wfStepBuilder.append(System.getProperty("line.separator"));
-
-                List<List<String>> tableValues = new LinkedList<>();
-                List<String> headerValues = new LinkedList<>(Arrays.asList("Action", "Step", "Reason"));
-                tableValues.add(headerValues);
-                List<String> underlineRow = new LinkedList<>(Arrays.asList("------", "----", "------"));
-                tableValues.add(underlineRow);
-
-                Map<String, WorkflowStepSupportStatus> modifiedSteps = modifiedWorkflows.get(model);
-
-                for (String step : modifiedSteps.keySet()) {
-                    WorkflowStepSupportStatus supportStatus = modifiedSteps.get(step);
-                    List<String> nextRow = new LinkedList<>(Arrays.asList(supportStatus.getAction(), "`" + step + "`", supportStatus.getDescription()));
-                    tableValues.add(nextRow);
+            for (Map.Entry<String, Map<String, WorkflowStepSupportStatus>> model : modifiedWorkflows.entrySet()) {
+                writeLine(out, "### " + model.getKey());
+                out.write(LINE_SEPARATOR);
+
+                writeTableRow(out, "Action", "Step", "Reason");
+                writeTableRow(out, "------", "----", "------");
+
+                for (Map.Entry<String, WorkflowStepSupportStatus> step : model.getValue().entrySet()) {
+                    WorkflowStepSupportStatus supportStatus = step.getValue();
+                    writeTableRow(out, supportStatus.getAction(), "`" + step.getKey() + "`", supportStatus.getDescription());
                 }
 
-                String mdTable = createMarkdownTable(tableValues);
-                wfStepBuilder.append(mdTable);
-                wfStepBuilder.append(System.getProperty("line.separator"));
+                out.write(LINE_SEPARATOR);
             }
         } else {
-            wfStepBuilder.append(MigrationConstants.NO_MODEL_UPDATE_MSG);
-            wfStepBuilder.append(System.getProperty("line.separator"));
+            writeLine(out, MigrationConstants.NO_MODEL_UPDATE_MSG);
         }
-
-        FileUtil.findAndReplaceInFile(reportFile, "\\$\\{WORKFLOW_MODELS_TRANSFORMED\\}", wfStepBuilder.toString());
     }
 
-    private void writePathsDeleted(File reportFile) throws IOException {
-        StringBuilder mdBuilder = new StringBuilder();
-
-        if (changeTracker.getVarPathsDeleted().size() > 0) {
-            List<List<String>> tableValues = new LinkedList<>();
+    private void writePathsDeleted(Writer out) throws IOException {
+        List<String> varPathsDeleted = changeTracker.getVarPathsDeleted();
 
-            List<String> headerValues = new LinkedList<>(Arrays.asList("Action", "Path"));
-            tableValues.add(headerValues);
-            List<String> underlineRow = new LinkedList<>(Arrays.asList("------", "-------"));
-            tableValues.add(underlineRow);
+        if (varPathsDeleted.size() > 0) {
+            writeTableRow(out, "Action", "Path");
+            writeTableRow(out, "------", "-------");
 
-            for (String path : changeTracker.getVarPathsDeleted()) {
-                List<String> nextRow = new LinkedList<>(Arrays.asList("Deleted", path));
-                tableValues.add(nextRow);
+            for (String path : varPathsDeleted) {
+                writeTableRow(out, "Deleted", path);
             }
-
-            String mdTable = createMarkdownTable(tableValues);
-            mdBuilder.append(mdTable);
         } else {
-            mdBuilder.append(MigrationConstants.NO_PATHS_DELETED_MSG);
-            mdBuilder.append(System.getProperty("line.separator"));
+            writeLine(out, MigrationConstants.NO_PATHS_DELETED_MSG);
         }
-
-        FileUtil.findAndReplaceInFile(reportFile, "\\$\\{VAR_PATHS_DELETED\\}", mdBuilder.toString());
     }
 
-    private void writeProcessingProfiles(File reportFile) throws IOException {
-        StringBuilder profileMdBuilder = new StringBuilder();
+    private void writeProcessingProfiles(Writer out) throws IOException {
+        List<ProcessingProfile> profilesCreated = changeTracker.getProcessingProfilesCreated();
 
-        if (changeTracker.getProcessingProfilesCreated().size() > 0) {
-            List<List<String>> tableValues = new LinkedList<>();
+        if (profilesCreated.size() > 0) {
+            writeTableRow(out, "Action", "Profile");
+            writeTableRow(out, "------", "-------");
 
-            List<String> headerValues = new LinkedList<>(Arrays.asList("Action", "Profile"));
-            tableValues.add(headerValues);
-            List<String> underlineRow = new LinkedList<>(Arrays.asList("------", "-------"));
-            tableValues.add(underlineRow);
-
-            for (ProcessingProfile profile : changeTracker.getProcessingProfilesCreated()) {
-                List<String> nextRow = new LinkedList<>(Arrays.asList("Created", profile.getName()));
-                tableValues.add(nextRow);
+            for (ProcessingProfile profile : profilesCreated) {
+                writeTableRow(out, "Created", profile.getName());
             }
-
-            String mdTable = createMarkdownTable(tableValues);
-            profileMdBuilder.append(mdTable);
         } else {
-            profileMdBuilder.append(MigrationConstants.NO_PROFILE_MSG);
-            profileMdBuilder.append(System.getProperty("line.separator"));
+            writeLine(out, MigrationConstants.NO_PROFILE_MSG);
         }
-
-        FileUtil.findAndReplaceInFile(reportFile, "\\$\\{PROCESSING_PROFILES_CREATED\\}", profileMdBuilder.toString());
     }
 
-    private void writeProjects(File reportFile) throws IOException {
-        StringBuilder projectMdBuilder = new StringBuilder();
+    private void writeRenditionsEliminated(Writer out) throws IOException {
+        List<EliminatedRendition> renditionsEliminated = changeTracker.getRenditionsEliminated();
 
-        if (changeTracker.getProjectsCreated().size() > 0) {
-            List<List<String>> tableValues = new LinkedList<>();
+        if (renditionsEliminated.size() > 0) {
+            writeTableRow(out, "Action", "Rendition", "Replaced By", "Profile");
+            writeTableRow(out, "------", "---------", "-----------", "-------");
 
-            List<String> headerValues = new LinkedList<>(Arrays.asList("Action", "Project"));
-            tableValues.add(headerValues);
-            List<String> underlineRow = new LinkedList<>(Arrays.asList("------", "-------"));
-            tableValues.add(underlineRow);
-
-            for (String project : changeTracker.getProjectsCreated()) {
-                List<String> nextRow = new LinkedList<>(Arrays.asList("Created", project));
-                tableValues.add(nextRow);
+            for (EliminatedRendition rendition : renditionsEliminated) {
+                writeTableRow(out, "Eliminated", "`" + rendition.getRendition().getFileName() + "`",
+                        "`" + rendition.getDuplicateOf().getFileName() + "`", rendition.getProfile().getName());
             }
-
-            String mdTable = createMarkdownTable(tableValues);
-            projectMdBuilder.append(mdTable);
         } else {
-            projectMdBuilder.append(MigrationConstants.NO_PROJECT_MSG);
-            projectMdBuilder.append(System.getProperty("line.separator"));
+            writeLine(out, MigrationConstants.NO_RENDITION_ELIMINATED_MSG);
         }
-
-        FileUtil.findAndReplaceInFile(reportFile, "\\$\\{PROJECTS_CREATED\\}", projectMdBuilder.toString());
     }
 
-    private String createMarkdownTable(List<List<String>> tableValues) {
-        StringBuilder table = new StringBuilder();
+    private void writeProjects(Writer out) throws IOException {
+        List<String> projectsCreated = changeTracker.getProjectsCreated();
 
-        for (List<String> row : tableValues) {
-            table.append("|");
+        if (projectsCreated.size() > 0) {
+            writeTableRow(out, "Action", "Project");
+            writeTableRow(out, "------", "-------");
 
-            for (String cell : row) {
-                table.append(" ");
-                table.append(cell);
-                table.append(" |");
+            for (String project : projectsCreated) {
+                writeTableRow(out, "Created", project);
             }
-
-            table.append(System.getProperty("line.separator"));
+        } else {
+            writeLine(out, MigrationConstants.NO_PROJECT_MSG);
         }
-
-        return table.toString();
     }
 
-    private void writeMigrationIssues(File reportFile) throws IOException {
-        StringBuilder issuesBuilder = new StringBuilder();
+    private void writeMigrationIssues(Writer out) throws IOException {
+        Map<String, String> failedMappings = changeTracker.getFailedMappings();
 
-        if (changeTracker.getFailedMappings().size() > 0) {
-            List<List<String>> tableValues = new LinkedList<>();
+        if (failedMappings.size() > 0) {
+            writeTableRow(out, "Action", "Step", "Reason");
+            writeTableRow(out, "------", "----", "------");
 
-            List<String> headerValues = new LinkedList<>(Arrays.asList("Action", "Step", "Reason"));
-            tableValues.add(headerValues);
-            List<String> underlineRow = new LinkedList<>(Arrays.asList("------", "----", "------"));
-            tableValues.add(underlineRow);
-
-            for (Map.Entry<String, String> failureEntry : changeTracker.getFailedMappings().entrySet()) {
-                List<String> nextRow = new LinkedList<>(Arrays.asList("Failed", failureEntry.getKey(), failureEntry.getValue()));
-                tableValues.add(nextRow);
+            for (Map.Entry<String, String> failureEntry : failedMappings.entrySet()) {
+                writeTableRow(out, "Failed", failureEntry.getKey(), failureEntry.getValue());
             }
-
-            String mdTable = createMarkdownTable(tableValues);
-            issuesBuilder.append(mdTable);
         } else {
-            issuesBuilder.append(MigrationConstants.NO_FAILURE_MSG);
-            issuesBuilder.append(System.getProperty("line.separator"));
+            writeLine(out, MigrationConstants.NO_FAILURE_MSG);
+        }
+    }
+
+    private void writeTableRow(Writer out, String... cells) throws IOException {
+        out.write("|");
+
+        for (String cell : cells) {
+            out.write(" ");
+            out.write(String.valueOf(cell));
+            out.write(" |");
         }
 
-        FileUtil.findAndReplaceInFile(reportFile, "\\$\\{MIGRATION_ISSUES\\}", issuesBuilder.toString());
+        out.write(LINE_SEPARATOR);
+    }
+
+    private void writeLine(Writer out, String line) throws IOException {
+        out.write(line);
+        out.write(LINE_SEPARATOR);
     }
 }
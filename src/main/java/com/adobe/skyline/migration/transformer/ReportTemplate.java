@@ -0,0 +1,95 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.transformer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+
+/**
+ * The report template, split once per JVM into literal text and the <code>${NAME}</code> placeholders between it.
+ * Rendering streams the literals and the content of each section to a writer in a single pass, so the cost of a
+ * report grows linearly with its size, and section content is never interpreted as a pattern or placeholder.
+ */
+class ReportTemplate {
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+
+    private final List<String> literals = new ArrayList<>();
+    private final List<String> placeholders = new ArrayList<>();
+
+    ReportTemplate(String template) {
+        int from = 0;
+        int start;
+        while ((start = template.indexOf(PLACEHOLDER_START, from)) >= 0) {
+            int end = template.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (end < 0) {
+                break;
+            }
+            literals.add(template.substring(from, start));
+            placeholders.add(template.substring(start + PLACEHOLDER_START.length(), end));
+            from = end + PLACEHOLDER_END.length();
+        }
+        literals.add(template.substring(from));
+    }
+
+    /**
+     * @return the report template bundled with the tool, which is only read and parsed on first use.
+     */
+    static ReportTemplate getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Writes the template to the given writer, replacing each placeholder with the output of the section registered
+     * under its name.  Placeholders without a section are written unchanged.
+     */
+    void render(Writer out, Map<String, Section> sections) throws IOException {
+        for (int i = 0; i < placeholders.size(); i++) {
+            out.write(literals.get(i));
+
+            String placeholder = placeholders.get(i);
+            Section section = sections.get(placeholder);
+            if (section != null) {
+                section.writeTo(out);
+            } else {
+                out.write(PLACEHOLDER_START + placeholder + PLACEHOLDER_END);
+            }
+        }
+        out.write(literals.get(literals.size() - 1));
+    }
+
+    interface Section {
+        void writeTo(Writer out) throws IOException;
+    }
+
+    private static class Holder {
+        private static final ReportTemplate INSTANCE = load();
+
+        private static ReportTemplate load() {
+            try (InputStream template = ReportTemplate.class.getResourceAsStream("/" + MigrationConstants.REPORT_TEMPLATE_FILENAME)) {
+                return new ReportTemplate(new String(template.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new MigrationRuntimeException("Unable to read the migration report template.", e);
+            }
+        }
+    }
+}
@@ -13,22 +13,30 @@
 package com.adobe.skyline.migration.transformer;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.regex.Pattern;
 
 import com.adobe.skyline.migration.dao.FilterFileDAO;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
 import com.adobe.skyline.migration.model.ChangeTrackingService;
 import com.adobe.skyline.migration.model.workflow.WorkflowProject;
-import com.adobe.skyline.migration.util.file.FileUtil;
+import com.adobe.skyline.migration.util.DocumentCache;
 
 public class VarNodeCleaner {
 
     private FilterFileDAO filterFileDao;
     private ChangeTrackingService changeTrackingService;
+    private DocumentCache documentCache;
 
     public VarNodeCleaner(FilterFileDAO filterFileDao, ChangeTrackingService changeTrackingService) {
+        this(filterFileDao, changeTrackingService, new DocumentCache());
+    }
+
+    public VarNodeCleaner(FilterFileDAO filterFileDao, ChangeTrackingService changeTrackingService, DocumentCache documentCache) {
         this.filterFileDao = filterFileDao;
         this.changeTrackingService = changeTrackingService;
+        this.documentCache = documentCache;
     }
 
     public void cleanNodes(WorkflowProject project) {
@@ -46,16 +54,20 @@ public class VarNodeCleaner {
     }
 
     private void removeFromFilesystem(WorkflowProject project) {
-        File varWorkflowRoot = new File(project.getPath() + "/src/main/content/jcr_root/var/workflow");
-        if (varWorkflowRoot.exists()) {
-            FileUtil.deleteRecursively(varWorkflowRoot);
-            File varRoot = varWorkflowRoot.getParentFile();
-            if (varRoot.listFiles().length == 0) {
-                varRoot.delete();
-                changeTrackingService.trackVarPathDeleted(varRoot.getPath());
-            } else {
-                changeTrackingService.trackVarPathDeleted(varWorkflowRoot.getPath());
+        try {
+            File varWorkflowRoot = new File(project.getPath() + "/src/main/content/jcr_root/var/workflow");
+            if (documentCache.exists(varWorkflowRoot)) {
+                documentCache.delete(varWorkflowRoot);
+                File varRoot = varWorkflowRoot.getParentFile();
+                if (documentCache.list(varRoot).isEmpty()) {
+                    documentCache.delete(varRoot);
+                    changeTrackingService.trackVarPathDeleted(varRoot.getPath());
+                } else {
+                    changeTrackingService.trackVarPathDeleted(varWorkflowRoot.getPath());
+                }
             }
+        } catch (IOException e) {
+            throw new MigrationRuntimeException("Unable to delete the workflow nodes below /var in " + project.getPath(), e);
         }
     }
 }
@@ -0,0 +1,218 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.transformer.processingprofile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.adobe.skyline.migration.util.StringUtil;
+
+/**
+ * Orders mimetype patterns by the sets of mimetypes they match.  Every pattern is a node in a three level tree: the
+ * pattern matching everything at the top, one wildcard per top level type below it (<code>image/.*</code>), and
+ * concrete types such as <code>image/jpeg</code> at the bottom.  A pattern that cannot be placed under a top level type
+ * hangs directly off the top.  One pattern subsumes another if it is the other pattern or one of its ancestors.
+ *
+ * Any other regular expression, such as <code>image/jp.*</code>, is only a leaf of the tree, so the tree never relates
+ * it to the concrete types it matches.  For those, {@link #matches(String, String)} runs the expression against a
+ * concrete type instead, and {@link #canRelate(String, String)} tells whether either answer can be trusted.
+ *
+ * Patterns are normalized and placed in the tree once per JVM, and the lattice is shared by every merger, so a
+ * subsumption query is a walk of at most two parent links.
+ */
+class MimeTypeLattice {
+
+    static final String ANY_MIMETYPE = ".*";
+
+    private static final String TYPE_WILDCARD = "/.*";
+    private static final Pattern LITERAL_TYPE = Pattern.compile("[A-Za-z0-9][A-Za-z0-9!#$&^_+-]*");
+    //Dots and plus signs are read literally, as in image/svg+xml, unless they follow a dot as in image/jp.+
+    private static final Pattern LITERAL_SUBTYPE = Pattern.compile("[A-Za-z0-9](?:[A-Za-z0-9!#&_-]|\\.(?![*+?])|\\+)*");
+
+    private static final MimeTypeLattice INSTANCE = new MimeTypeLattice();
+
+    private final Map<String, List<String>> normalizedValues = new ConcurrentHashMap<>();
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+    private final Map<String, Optional<Pattern>> expressions = new ConcurrentHashMap<>();
+    private final Node top = new Node(null);
+
+    private MimeTypeLattice() {
+        nodes.put(ANY_MIMETYPE, top);
+    }
+
+    static MimeTypeLattice getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The input is a single string but the output is a List.  This is due to the fact that mimetypes are sometimes
+     * specified as a single value and are sometimes specified as an array, depending on the implementation that they
+     * were taken from.
+     */
+    List<String> normalize(String mimeType) {
+        return normalizedValues.computeIfAbsent(mimeType, MimeTypeLattice::normalizeValue);
+    }
+
+    /**
+     * @return whether every mimetype matched by the second pattern is also matched by the first.
+     */
+    boolean subsumes(String pattern, String other) {
+        Node ancestor = getNode(pattern);
+        for (Node node = getNode(other); node != null; node = node.parent) {
+            if (node == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isSubsumedByAny(String pattern, Collection<String> others) {
+        for (String other : others) {
+            if (subsumes(other, pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the pattern, run as a regular expression, matches the concrete type.  A pattern with an
+     * alternation never matches, since normalizing it removed the parentheses that grouped its alternatives.
+     */
+    boolean matches(String pattern, String concreteType) {
+        if (!isConcrete(concreteType)) {
+            return false;
+        }
+        Optional<Pattern> expression = getExpression(pattern);
+        return expression.isPresent() && expression.get().matcher(concreteType).matches();
+    }
+
+    /**
+     * @return whether {@link #subsumes(String, String)} and {@link #matches(String, String)} together tell for certain
+     * how the two patterns are related: either both are placed exactly in the tree, or one is a concrete type and the
+     * other an expression that can be run against it.
+     */
+    boolean canRelate(String pattern, String other) {
+        return (isPlaced(pattern) && isPlaced(other))
+                || (isConcrete(pattern) && getExpression(other).isPresent())
+                || (isConcrete(other) && getExpression(pattern).isPresent());
+    }
+
+    /**
+     * Removes every pattern that is subsumed by another pattern in the same collection, leaving the smallest
+     * collection that matches the same mimetypes.
+     */
+    void removeSubsumed(Collection<String> patterns) {
+        List<String> candidates = new ArrayList<>(patterns);
+        patterns.removeIf(pattern -> {
+            for (String other : candidates) {
+                if (!other.equals(pattern) && subsumes(other, pattern)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    //The pattern matching everything, a top level wildcard or a concrete type, each of which the tree orders exactly
+    private static boolean isPlaced(String pattern) {
+        if (pattern.equals(ANY_MIMETYPE)) {
+            return true;
+        }
+        int slash = pattern.indexOf('/');
+        return slash >= 0 && LITERAL_TYPE.matcher(pattern.substring(0, slash)).matches()
+                && (pattern.substring(slash).equals(TYPE_WILDCARD) || LITERAL_SUBTYPE.matcher(pattern.substring(slash + 1)).matches());
+    }
+
+    private static boolean isConcrete(String pattern) {
+        return isPlaced(pattern) && !pattern.equals(ANY_MIMETYPE) && !pattern.endsWith(TYPE_WILDCARD);
+    }
+
+    private Optional<Pattern> getExpression(String pattern) {
+        return expressions.computeIfAbsent(pattern, MimeTypeLattice::compile);
+    }
+
+    private static Optional<Pattern> compile(String pattern) {
+        if (pattern.indexOf('|') >= 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Pattern.compile(pattern));
+        } catch (PatternSyntaxException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Node getNode(String pattern) {
+        Node node = nodes.get(pattern);
+        if (node == null) {
+            Node created = new Node(getParentNode(pattern));
+            node = nodes.putIfAbsent(pattern, created);
+            if (node == null) {
+                node = created;
+            }
+        }
+        return node;
+    }
+
+    //Patterns with an alternation or a non-literal top level type may match under any type, so they sit below the top
+    private Node getParentNode(String pattern) {
+        int slash = pattern.indexOf('/');
+        if (slash < 0 || pattern.indexOf('|') >= 0 || !LITERAL_TYPE.matcher(pattern.substring(0, slash)).matches()) {
+            return top;
+        }
+
+        String typeWildcard = pattern.substring(0, slash) + TYPE_WILDCARD;
+        if (pattern.equals(typeWildcard)) {
+            return top;
+        }
+        return getNode(typeWildcard);
+    }
+
+    private static List<String> normalizeValue(String mimeType) {
+        List<String> rawTypes;
+
+        if (mimeType.startsWith("[")) {
+            rawTypes = StringUtil.getListFromString(mimeType);
+        } else {
+            rawTypes = Arrays.asList(mimeType);
+        }
+
+        List<String> normalizedTypes = new ArrayList<>(rawTypes.size());
+
+        for (String entry : rawTypes) {
+            normalizedTypes.add(
+                    entry.replace("(", "").replace(")", ""). // Remove parentheses
+                            replace("/*", "/.*") // Insert a dot when missing
+            );
+        }
+
+        return Collections.unmodifiableList(normalizedTypes);
+    }
+
+    private static class Node {
+        private final Node parent;
+
+        Node(Node parent) {
+            this.parent = parent;
+        }
+    }
+}
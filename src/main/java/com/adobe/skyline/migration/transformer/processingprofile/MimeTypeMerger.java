@@ -17,7 +17,6 @@ import com.adobe.skyline.migration.model.ProcessingProfile;
 import com.adobe.skyline.migration.model.RenditionConfig;
 import com.adobe.skyline.migration.model.workflow.Workflow;
 import com.adobe.skyline.migration.model.workflow.WorkflowLauncher;
-import com.adobe.skyline.migration.util.StringUtil;
 
 import java.util.*;
 
@@ -28,9 +27,17 @@ import java.util.*;
  */
 public class MimeTypeMerger {
 
+    private final MimeTypeLattice lattice = MimeTypeLattice.getInstance();
+
     Set<String> launcherIncludes;
     Set<String> launcherExcludes;
 
+    // The includes named by a launcher condition, as opposed to the default that is inferred for a launcher
+    private final Set<String> explicitIncludes = new HashSet<>();
+
+    // Set when some launcher fires for everything that it does not exclude, so the default stands in for all mimetypes
+    private boolean launcherIncludesAll;
+
     public MimeTypeMerger(Workflow workflow) {
         launcherIncludes = new HashSet<>();
         launcherExcludes = new HashSet<>();
@@ -64,6 +71,10 @@ public class MimeTypeMerger {
      * includes always win when we run into contradictory definitions.
      */
     private void extractMimetypesFromLaunchers(Workflow workflow) {
+        if (workflow.getLaunchers().isEmpty()) {
+            launcherIncludesAll = true; // Without a launcher, nothing restricts the renditions
+        }
+
         for (WorkflowLauncher launcher : workflow.getLaunchers()) {
             if (launcher.getConditions() != null && launcher.getConditions().size() > 0) {
                 for (String condition:launcher.getConditions()) {
@@ -74,29 +85,36 @@ public class MimeTypeMerger {
                     } else if (condition.contains("mimeType!=")) {
                         excludeMimeType(mimeType);
                         // If a launcher specifies an exclusion only, it infers inclusion of the default
-                        if (!launcherExcludes.contains(MigrationConstants.DEFAULT_MIMETYPE)) {
-                            launcherIncludes.add(MigrationConstants.DEFAULT_MIMETYPE);
-                        }
+                        includeDefault();
                     } else {
                         // In a case where a launcher specifies a condition other than mimeType, ignore it
-                        if (!launcherExcludes.contains(MigrationConstants.DEFAULT_MIMETYPE)) {
-                            launcherIncludes.add(MigrationConstants.DEFAULT_MIMETYPE);
-                        }
+                        includeDefault();
                     }
                 }
             } else {
                 // If a launcher doesn't specify any condition, it infers inclusion of the default
                 launcherIncludes.add(MigrationConstants.DEFAULT_MIMETYPE);
+                launcherIncludesAll = true;
             }
 
         }
+
+        // Drop any pattern made redundant by a broader one
+        lattice.removeSubsumed(launcherIncludes);
+        lattice.removeSubsumed(launcherExcludes);
     }
 
-    private void includeMimeType(String mimeType) {
-        List<String> mimeTypes = normalizeMimeTypes(mimeType);
+    private void includeDefault() {
+        if (!launcherExcludes.contains(MigrationConstants.DEFAULT_MIMETYPE)) {
+            launcherIncludes.add(MigrationConstants.DEFAULT_MIMETYPE);
+        }
+        launcherIncludesAll = true;
+    }
 
-        for (String type : mimeTypes) {
+    private void includeMimeType(String mimeType) {
+        for (String type : lattice.normalize(mimeType)) {
             launcherIncludes.add(type);
+            explicitIncludes.add(type);
 
             if (launcherExcludes.contains(type)) {
                 launcherExcludes.remove(type);
@@ -105,41 +123,13 @@ public class MimeTypeMerger {
     }
 
     private void excludeMimeType(String mimeType) {
-        List<String> mimeTypes = normalizeMimeTypes(mimeType);
-
-        for (String type : mimeTypes) {
+        for (String type : lattice.normalize(mimeType)) {
             if (!launcherIncludes.contains(type)) {
                 launcherExcludes.add(type);
             }
         }
     }
 
-    /**
-     * The input is a single string but the output is a List.  This is due to the fact that mimetypes are sometimes
-     * specified as a single value and are sometimes specified as an array, depending on the implementation that they
-     * were taken from.
-     */
-    private List<String> normalizeMimeTypes(String mimeType) {
-        List<String> rawTypes;
-
-        if (mimeType.startsWith("[")) {
-            rawTypes = StringUtil.getListFromString(mimeType);
-        } else {
-            rawTypes = Arrays.asList(mimeType);
-        }
-
-        List<String> normalizedTypes = new ArrayList<>();
-
-        for (String entry : rawTypes) {
-            normalizedTypes.add(
-                    entry.replace("(", "").replace(")", ""). // Remove parentheses
-                            replace("/*", "/.*") // Insert a dot when missing
-            );
-        }
-
-        return normalizedTypes;
-    }
-
     /**
      * When considering the interaction between rendition-specified mimetypes and launcher-specified mimetypes, it is important
      * to understand that the launcher configuration is applied first - any asset that does not meet the launcher configuration
@@ -147,12 +137,12 @@ public class MimeTypeMerger {
      * apply the rendition specification as subtractive, meaning that we take the set of renditions specified by the launcher
      * and further restrict it.
      *
-     * As a result, the rendition's excluded mimetypes will be added to the launcher's.  The rendition's included mimetypes
-     * should replace the included mimetypes from the launcher, but only if they are more restrictive.  Determining whether
-     * a mimetype is more restrictive would require building a model of each possible mimetype mapping and their relationships,
-     * for example, image/jpeg is a subset of image/*.  As this would require significant development effort, we are taking
-     * a more basic approach for the initial implementation of this tool and are replacing the includes from the launcher
-     * with the includes from the rendition, if specified, blindly.
+     * As a result, the rendition's excluded mimetypes will be added to the launcher's, and any include that one of them
+     * covers is dropped.  The rendition's included mimetypes replace the included mimetypes from the launcher, but only
+     * where they are more restrictive: image/jpeg from the rendition replaces image/.* from the launcher, while image/.*
+     * from the rendition keeps image/jpeg from the launcher.  A rendition include that no launcher fires for is dropped,
+     * unless some launcher fires for every asset.  The {@link MimeTypeLattice} decides which pattern covers which.  Where
+     * it cannot tell, as for an alternation such as image/(jpeg|png), the rendition include is kept as it is.
      */
     private void mergeRenditionAndLauncherMimeTypes(RenditionConfig rendition) {
         //Clone the values from the launcher
@@ -164,11 +154,10 @@ public class MimeTypeMerger {
             mergedIncludes = new HashSet<>(); //Reset the mergedIncludes as the rendition includes should _replace_ those from the launcher
 
             for (String mimeType : rendition.getIncludeMimeTypes()) {
-                List<String> mimeTypes = normalizeMimeTypes(mimeType);
-
-                for (String type : mimeTypes) {
-                    if (!mergedExcludes.contains(type)) {
-                        mergedIncludes.add(type);
+                for (String type : lattice.normalize(mimeType)) {
+                    // As between launchers, an include wins over an exclude that covers it
+                    if (!lattice.isSubsumedByAny(type, mergedExcludes) || lattice.isSubsumedByAny(type, explicitIncludes)) {
+                        includeNarrowest(type, mergedIncludes);
                     }
                 }
             }
@@ -176,18 +165,41 @@ public class MimeTypeMerger {
 
         //Merge the rendition excludes
         for (String mimeType : rendition.getExcludeMimeTypes()) {
-            List<String> mimeTypes = normalizeMimeTypes(mimeType);
-
-            for (String type : mimeTypes) {
-                if (mergedIncludes.contains(type)) {
-                    mergedIncludes.remove(type);
-                }
-
+            for (String type : lattice.normalize(mimeType)) {
+                mergedIncludes.removeIf(included -> lattice.subsumes(type, included));
                 mergedExcludes.add(type);
             }
         }
 
+        lattice.removeSubsumed(mergedIncludes);
+        lattice.removeSubsumed(mergedExcludes);
+
         rendition.setIncludeMimeTypes(mergedIncludes);
         rendition.setExcludeMimeTypes(mergedExcludes);
     }
-}
\ No newline at end of file
+
+    private void includeNarrowest(String type, Set<String> mergedIncludes) {
+        if (launcherIncludesAll || lattice.isSubsumedByAny(type, launcherIncludes)) {
+            mergedIncludes.add(type);
+            return;
+        }
+
+        boolean included = false;
+        boolean undecided = false;
+        for (String launcherType : launcherIncludes) {
+            if (lattice.subsumes(type, launcherType) || lattice.matches(type, launcherType)) {
+                mergedIncludes.add(launcherType);
+                included = true;
+            } else if (lattice.matches(launcherType, type)) {
+                mergedIncludes.add(type);
+                included = true;
+            } else if (!lattice.canRelate(type, launcherType)) {
+                undecided = true;
+            }
+        }
+
+        if (!included && undecided) {
+            mergedIncludes.add(type);
+        }
+    }
+}
@@ -12,7 +12,12 @@
 
 package com.adobe.skyline.migration.transformer.processingprofile;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.dao.FilterFileDAO;
@@ -23,6 +28,7 @@ import com.adobe.skyline.migration.model.ChangeTrackingService;
 import com.adobe.skyline.migration.model.ProcessingProfile;
 import com.adobe.skyline.migration.model.RenditionConfig;
 import com.adobe.skyline.migration.model.workflow.Workflow;
+import com.adobe.skyline.migration.model.workflow.WorkflowLauncher;
 import com.adobe.skyline.migration.model.workflow.WorkflowModel;
 import com.adobe.skyline.migration.model.workflow.WorkflowProject;
 import com.adobe.skyline.migration.model.workflow.WorkflowStep;
@@ -31,6 +37,9 @@ import com.adobe.skyline.migration.model.workflow.WorkflowStep;
  * The ProcessingProfileCreator leverages ProfileMappers to generate ProcessingProfiles for any supported WorkflowSteps.
  * It also contains logic to merge the mimetype includes and excludes that are found on the workflow launchers and step
  * definitions.
+ *
+ * Identical renditions are only generated once per profile.  Workflows whose launchers watch exactly the same globs
+ * would have their profiles attached to the same folders, so they share a single profile unless sharing is turned off.
  */
 public class ProcessingProfileCreator {
 
@@ -39,19 +48,32 @@ public class ProcessingProfileCreator {
     private FilterFileDAO filterFileDAO;
     private ChangeTrackingService changeTracker;
     private MavenProjectDAO mavenProjectDAO;
+    private boolean shareProfiles;
 
     public ProcessingProfileCreator(ProfileMapperFactory mapperFactory, ProcessingProfileDAO ppDao,
                                     FilterFileDAO filterFileDAO, ChangeTrackingService changeTracker, MavenProjectDAO mavenProjectDAO) {
+        this(mapperFactory, ppDao, filterFileDAO, changeTracker, mavenProjectDAO, true);
+    }
+
+    /**
+     * @param shareProfiles if false, every workflow gets a profile of its own, even where its launchers watch the same
+     *                      globs as another workflow's.
+     */
+    public ProcessingProfileCreator(ProfileMapperFactory mapperFactory, ProcessingProfileDAO ppDao,
+                                    FilterFileDAO filterFileDAO, ChangeTrackingService changeTracker, MavenProjectDAO mavenProjectDAO,
+                                    boolean shareProfiles) {
         this.mapperFactory = mapperFactory;
         this.ppDao = ppDao;
         this.filterFileDAO = filterFileDAO;
         this.changeTracker = changeTracker;
         this.mavenProjectDAO = mavenProjectDAO;
+        this.shareProfiles = shareProfiles;
     }
 
     public void createProfiles(WorkflowProject workflowProject) throws ProjectCreationException {
-        boolean profileCreated = false;
-        boolean projectExists = mavenProjectDAO.projectExists(MigrationConstants.MIGRATION_PROJECT_CONTENT);
+        RenditionDeduplicator deduplicator = new RenditionDeduplicator(changeTracker);
+        List<ProcessingProfile> profiles = new ArrayList<>();
+        Map<Set<String>, ProcessingProfile> profilesByGlobs = new HashMap<>();
 
         for (Workflow workflow : workflowProject.getWorkflows()) {
             if (workflow.getWorkflowModel() != null) {
@@ -62,29 +84,62 @@ public class ProcessingProfileCreator {
                     MimeTypeMerger merger = new MimeTypeMerger(workflow);
                     merger.mergeRenditionMimetypes(profile);
 
-                    //Only create the project if we will actually be writing content to it
-                    if (!projectExists) {
-                        mavenProjectDAO.createProject(MigrationConstants.MIGRATION_PROJECT_CONTENT);
-                        projectExists = true;
+                    Set<String> globs = shareProfiles ? getLauncherGlobs(workflow) : null;
+                    ProcessingProfile shared = globs != null ? profilesByGlobs.get(globs) : null;
+
+                    if (shared != null) {
+                        deduplicator.merge(shared, profile, workflow.getWorkflowModel().getName());
+                    } else {
+                        deduplicator.deduplicate(profile);
+                        profiles.add(profile);
+                        if (globs != null) {
+                            profilesByGlobs.put(globs, profile);
+                        }
                     }
-
-                    changeTracker.trackCreatedProcessingProfile(profile);
-                    ppDao.addProfile(profile);
-                    profileCreated = true;
                 }
             }
         }
 
-        if (profileCreated) {
+        if (profiles.size() > 0) {
+            //Only create the project if we will actually be writing content to it
+            if (!mavenProjectDAO.projectExists(MigrationConstants.MIGRATION_PROJECT_CONTENT)) {
+                mavenProjectDAO.createProject(MigrationConstants.MIGRATION_PROJECT_CONTENT);
+            }
+
+            for (ProcessingProfile profile : profiles) {
+                changeTracker.trackCreatedProcessingProfile(profile);
+                ppDao.addProfile(profile);
+            }
+
             filterFileDAO.addPath(MigrationConstants.PROCESSING_PROFILE_JCR_PATH);
         }
     }
 
+    /**
+     * @return the globs and exclude lists of the workflow's launchers, or null if it has no launchers or a launcher
+     * without a glob, in which case its profile is not shared.
+     */
+    private Set<String> getLauncherGlobs(Workflow workflow) {
+        if (workflow.getLaunchers().isEmpty()) {
+            return null;
+        }
+
+        Set<String> globs = new TreeSet<>();
+        for (WorkflowLauncher launcher : workflow.getLaunchers()) {
+            if (launcher.getGlob() == null) {
+                return null;
+            }
+            globs.add(launcher.getGlob() + "|" + launcher.getExcludeList());
+        }
+        return globs;
+    }
+
     private ProcessingProfile createProfile(Workflow workflow) {
         ProcessingProfile profile = new ProcessingProfile();
         profile.setName("Migrated from " + workflow.getWorkflowModel().getName());
 
         WorkflowModel model = workflow.getWorkflowModel();
+        profile.setModelFile(model.getConfigurationFile());
 
         for (WorkflowStep step : model.getWorkflowSteps()) {
             ProfileMapper mapper = mapperFactory.getMapper(step);
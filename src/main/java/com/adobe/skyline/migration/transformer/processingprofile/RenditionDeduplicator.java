@@ -0,0 +1,95 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.transformer.processingprofile;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.adobe.skyline.migration.model.ChangeTrackingService;
+import com.adobe.skyline.migration.model.EliminatedRendition;
+import com.adobe.skyline.migration.model.ProcessingProfile;
+import com.adobe.skyline.migration.model.RenditionConfig;
+import com.adobe.skyline.migration.model.VideoProfileConfig;
+
+/**
+ * Keeps each processing profile free of renditions that the Asset Compute Service would generate twice.  Renditions are
+ * keyed by everything that determines the generated file other than its name - format, dimensions, quality, video
+ * settings and mimetype filters - and only the first rendition with a given key is kept.  Every rendition that is left
+ * out is tracked, so that the report can name the rendition that replaces it.
+ */
+class RenditionDeduplicator {
+
+    private final ChangeTrackingService changeTracker;
+    private final Map<ProcessingProfile, Map<String, RenditionConfig>> renditionsByProfile = new IdentityHashMap<>();
+
+    RenditionDeduplicator(ChangeTrackingService changeTracker) {
+        this.changeTracker = changeTracker;
+    }
+
+    /**
+     * Removes the renditions that duplicate an earlier rendition of the same profile.
+     */
+    void deduplicate(ProcessingProfile profile) {
+        Map<String, RenditionConfig> renditions = renditionsByProfile.computeIfAbsent(profile, p -> new HashMap<>());
+
+        Iterator<RenditionConfig> iter = profile.getRenditions().iterator();
+        while (iter.hasNext()) {
+            RenditionConfig rendition = iter.next();
+            RenditionConfig kept = renditions.putIfAbsent(getKey(rendition), rendition);
+            if (kept != null) {
+                iter.remove();
+                changeTracker.trackEliminatedRendition(new EliminatedRendition(profile, rendition, kept));
+            }
+        }
+    }
+
+    /**
+     * Adds the renditions of another profile to a shared one, leaving out those that the shared profile already
+     * generates.  The shared profile is named after every workflow model that it was migrated from.
+     */
+    void merge(ProcessingProfile shared, ProcessingProfile other, String modelName) {
+        if (!renditionsByProfile.containsKey(shared)) {
+            deduplicate(shared);
+        }
+        Map<String, RenditionConfig> renditions = renditionsByProfile.get(shared);
+
+        for (RenditionConfig rendition : other.getRenditions()) {
+            RenditionConfig kept = renditions.putIfAbsent(getKey(rendition), rendition);
+            if (kept != null) {
+                changeTracker.trackEliminatedRendition(new EliminatedRendition(shared, rendition, kept));
+            } else {
+                shared.addRendition(rendition);
+            }
+        }
+
+        shared.setName(shared.getName() + ", " + modelName);
+    }
+
+    private static String getKey(RenditionConfig rendition) {
+        StringBuilder key = new StringBuilder(rendition.getRenditionConfigHash());
+
+        if (rendition instanceof VideoProfileConfig) {
+            VideoProfileConfig video = (VideoProfileConfig) rendition;
+            key.append(":video:").append(video.getCodec()).append(':').append(video.getBitRate());
+        }
+
+        //Sorted, so that the same filters give the same key whatever order they were added in
+        key.append(':').append(new TreeSet<>(rendition.getIncludeMimeTypes()));
+        key.append(':').append(new TreeSet<>(rendition.getExcludeMimeTypes()));
+
+        return key.toString();
+    }
+}
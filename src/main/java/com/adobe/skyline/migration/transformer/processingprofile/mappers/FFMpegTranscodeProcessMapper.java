@@ -12,7 +12,6 @@
 
 package com.adobe.skyline.migration.transformer.processingprofile.mappers;
 
-import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.exception.MigrationRuntimeException;
 import com.adobe.skyline.migration.model.ChangeTrackingService;
 import com.adobe.skyline.migration.model.RenditionConfig;
@@ -21,12 +20,9 @@ import com.adobe.skyline.migration.model.workflow.UpdateAssetWorkflowModel;
 import com.adobe.skyline.migration.model.workflow.WorkflowModel;
 import com.adobe.skyline.migration.model.workflow.WorkflowStep;
 import com.adobe.skyline.migration.transformer.processingprofile.ProfileMapper;
+import com.adobe.skyline.migration.transformer.processingprofile.mappers.VideoProfileRegistry.VideoProfile;
 import com.adobe.skyline.migration.util.Logger;
 import com.adobe.skyline.migration.util.StringUtil;
-import com.adobe.skyline.migration.util.XmlUtil;
-import org.w3c.dom.Document;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -34,8 +30,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static com.adobe.skyline.migration.MigrationConstants.CONTENT_XML;
 import static com.adobe.skyline.migration.MigrationConstants.SUPPORTED_CODEC;
 import static com.adobe.skyline.migration.MigrationConstants.SUPPORTED_FORMAT;
 
@@ -48,6 +44,9 @@ public class FFMpegTranscodeProcessMapper implements ProfileMapper {
     private static final String CONFIGS_PROP = "CONFIGS";
     private ChangeTrackingService changeTrackingService;
 
+    //Every update_asset model of a module points at the same video profiles, so they are read once per module
+    private final Map<String, VideoProfileRegistry> registriesByRoot = new ConcurrentHashMap<>();
+
     public FFMpegTranscodeProcessMapper(ChangeTrackingService changeTrackingService) {
         this.changeTrackingService = changeTrackingService;
     }
@@ -105,44 +104,40 @@ public class FFMpegTranscodeProcessMapper implements ProfileMapper {
     }
 
     private RenditionConfig getRenditionFromProfileNode(WorkflowStep step, String profile, String videoProfilePath) throws MigrationRuntimeException {
-        File profileFile = new File(videoProfilePath + File.separator + profile + File.separator + CONTENT_XML);
-        try {
-            Document profileXml = XmlUtil.loadXml(profileFile);
-            Node transcodingDetailsNode = profileXml.getElementsByTagName(MigrationConstants.JCR_CONTENT).item(0);
-            NamedNodeMap transcodingDetailsMap = transcodingDetailsNode.getAttributes();
-            Integer width = transcodingDetailsMap.getNamedItem("width") != null ? Integer.parseInt(transcodingDetailsMap.getNamedItem("width").getTextContent()) : null;
-            Integer height = transcodingDetailsMap.getNamedItem("height") != null ? Integer.parseInt(transcodingDetailsMap.getNamedItem("height").getTextContent()) : null;
-            String codec = transcodingDetailsMap.getNamedItem("videoCodec") != null ? transcodingDetailsMap.getNamedItem("videoCodec").getTextContent() : null;
-            Integer bitRate = transcodingDetailsMap.getNamedItem("videoBitrate") != null ? Integer.parseInt(transcodingDetailsMap.getNamedItem("videoBitrate").getTextContent()) : null;
-            String format = transcodingDetailsMap.getNamedItem("extension") != null ? transcodingDetailsMap.getNamedItem("extension").getTextContent() : null;
-            if (!SUPPORTED_CODEC.equals(codec)) {
-                changeTrackingService.trackFailedMappings("Rendition " + profile + " for " + step.getProcess(), " codec " + codec + " is not supported on AEMaaCS. The supported codecs are " + SUPPORTED_CODEC);
-                return null;
-            }
+        VideoProfileRegistry registry = registriesByRoot.computeIfAbsent(videoProfilePath, path -> new VideoProfileRegistry(new File(path)));
+        VideoProfile videoProfile = registry.getProfile(profile);
+        if (videoProfile == null) {
+            throw new MigrationRuntimeException("There is no video profile named " + profile + " under " + videoProfilePath);
+        }
 
-            if (!SUPPORTED_FORMAT.equals(format)) {
-                changeTrackingService.trackFailedMappings("Rendition " + profile + " for " + step.getProcess(), " format " + format + " is not supported on AEMaaCS. The supported formats are " + SUPPORTED_FORMAT);
-                return null;
-            }
-            Set<String> excludedMimeTypes = new HashSet<>();
-            excludedMimeTypes.add("image/.*");
-            excludedMimeTypes.add("application/.*");
-            Set<String> mimeTypes = new HashSet<>();
-            mimeTypes.add("video/.*");
-            RenditionConfig renditionConfig = RenditionBuilder.buildVideoRendition(width, height, NODE_NAME, RENDITION_PREFIX, mimeTypes, excludedMimeTypes);
-            if (format != null) {
-                renditionConfig.setFormat(format);
-            }
-            VideoProfileConfig videoProfileConfig = (VideoProfileConfig) renditionConfig;
-            if (bitRate != null) {
-                videoProfileConfig.setBitRate(bitRate);
-            }
-            if (codec != null) {
-                videoProfileConfig.setCodec(codec);
-            }
-            return renditionConfig;
-        } catch (Exception e) {
-            throw new MigrationRuntimeException(e);
+        String codec = videoProfile.getCodec();
+        String format = videoProfile.getFormat();
+        if (!SUPPORTED_CODEC.equals(codec)) {
+            changeTrackingService.trackFailedMappings("Rendition " + profile + " for " + step.getProcess(), " codec " + codec + " is not supported on AEMaaCS. The supported codecs are " + SUPPORTED_CODEC);
+            return null;
+        }
+
+        if (!SUPPORTED_FORMAT.equals(format)) {
+            changeTrackingService.trackFailedMappings("Rendition " + profile + " for " + step.getProcess(), " format " + format + " is not supported on AEMaaCS. The supported formats are " + SUPPORTED_FORMAT);
+            return null;
+        }
+
+        if (videoProfile.getWidth() == null || videoProfile.getHeight() == null) {
+            throw new MigrationRuntimeException("The video profile " + profile + " under " + videoProfilePath + " has no width or height.");
+        }
+
+        Set<String> excludedMimeTypes = new HashSet<>();
+        excludedMimeTypes.add("image/.*");
+        excludedMimeTypes.add("application/.*");
+        Set<String> mimeTypes = new HashSet<>();
+        mimeTypes.add("video/.*");
+        RenditionConfig renditionConfig = RenditionBuilder.buildVideoRendition(videoProfile.getWidth(), videoProfile.getHeight(), NODE_NAME, RENDITION_PREFIX, mimeTypes, excludedMimeTypes);
+        renditionConfig.setFormat(format);
+        VideoProfileConfig videoProfileConfig = (VideoProfileConfig) renditionConfig;
+        if (videoProfile.getBitRate() != null) {
+            videoProfileConfig.setBitRate(videoProfile.getBitRate());
         }
+        videoProfileConfig.setCodec(codec);
+        return renditionConfig;
     }
 }
@@ -0,0 +1,123 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.transformer.processingprofile.mappers;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.util.XmlUtil;
+
+/**
+ * The video profiles of one module.  The first lookup streams the <code>jcr:content</code> node of every profile under
+ * the module's video profile root, and every later lookup is answered from memory.  Since every profile has been read,
+ * a name that is not found needs no further look at the disk.  A profile that cannot be read is remembered as well,
+ * and fails each lookup of it with the original error.
+ */
+class VideoProfileRegistry {
+
+    private final File profileRoot;
+
+    private Map<String, VideoProfile> profiles;
+    private Map<String, Exception> failures;
+
+    VideoProfileRegistry(File profileRoot) {
+        this.profileRoot = profileRoot;
+    }
+
+    /**
+     * @return the named profile, or null if there is no profile of that name under the root.
+     */
+    synchronized VideoProfile getProfile(String name) {
+        if (profiles == null) {
+            load();
+        }
+
+        Exception failure = failures.get(name);
+        if (failure != null) {
+            throw new MigrationRuntimeException(failure);
+        }
+        return profiles.get(name);
+    }
+
+    private void load() {
+        profiles = new HashMap<>();
+        failures = new HashMap<>();
+
+        File[] children = profileRoot.listFiles();
+        if (children == null) {
+            return;
+        }
+
+        for (File child : children) {
+            File contentXml = new File(child, MigrationConstants.CONTENT_XML);
+            if (contentXml.isFile()) {
+                try {
+                    Map<String, String> attributes = XmlUtil.readElementAttributes(contentXml, MigrationConstants.JCR_CONTENT);
+                    if (attributes == null) {
+                        throw new MigrationRuntimeException("The video profile at " + contentXml.getPath() + " has no " + MigrationConstants.JCR_CONTENT + " node.");
+                    }
+                    profiles.put(child.getName(), new VideoProfile(attributes));
+                } catch (Exception e) {
+                    failures.put(child.getName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The transcoding settings of a video profile.  Settings that the profile does not specify are null.
+     */
+    static class VideoProfile {
+
+        private final Integer width;
+        private final Integer height;
+        private final String codec;
+        private final Integer bitRate;
+        private final String format;
+
+        VideoProfile(Map<String, String> attributes) {
+            this.width = parseInteger(attributes.get("width"));
+            this.height = parseInteger(attributes.get("height"));
+            this.codec = attributes.get("videoCodec");
+            this.bitRate = parseInteger(attributes.get("videoBitrate"));
+            this.format = attributes.get("extension");
+        }
+
+        Integer getWidth() {
+            return width;
+        }
+
+        Integer getHeight() {
+            return height;
+        }
+
+        String getCodec() {
+            return codec;
+        }
+
+        Integer getBitRate() {
+            return bitRate;
+        }
+
+        String getFormat() {
+            return format;
+        }
+
+        private static Integer parseInteger(String value) {
+            return value != null ? Integer.parseInt(value) : null;
+        }
+    }
+}
@@ -0,0 +1,483 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.TransformerException;
+
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.util.file.FileTransaction;
+import com.adobe.skyline.migration.util.file.FileUtil;
+
+/**
+ * Caches parsed XML documents by canonical path, so that a file is parsed at most once per run.  A cached document is
+ * reused for as long as the file's modification time and size are unchanged.  Documents are shared between callers, so
+ * any modification should be followed by a call to {@link #write(Document, File)}, which keeps the cache current.
+ *
+ * When writes are deferred, the cache acts as a unit of work: written documents and files are only marked pending, and
+ * each one is written exactly once when {@link #flush()} is called.  Deletes are held back in the same way and applied
+ * before the writes.  Until then, {@link #load(File)}, {@link #exists(File)} and {@link #list(File)} answer as if the
+ * pending changes had already been made, so a run that is never flushed sees the same project as one that is.
+ *
+ * A flush is a single {@link FileTransaction}, so either every pending change reaches the disk or none does, and
+ * {@link #rollback()} only has to forget the pending changes.
+ */
+public class DocumentCache {
+
+    private final Map<String, CachedDocument> documents = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<String, PendingFile> pendingFiles = new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<String, File> pendingDeletes = new ConcurrentSkipListMap<>();
+    private final boolean deferWrites;
+    private final File transactionRoot;
+
+    public DocumentCache() {
+        this(false);
+    }
+
+    /**
+     * @param deferWrites if true, documents passed to {@link #write(Document, File)} are held in memory until
+     *                    {@link #flush()} is called, instead of being written straight away.
+     */
+    public DocumentCache(boolean deferWrites) {
+        this(deferWrites, null);
+    }
+
+    /**
+     * @param transactionRoot the directory containing every file that is changed, in which each flush keeps the scratch
+     *                        directory of its {@link FileTransaction}.  Any scratch directory left there by a run that
+     *                        died can then be found with {@link FileTransaction#recover(File)}.  If null, the deepest
+     *                        directory containing the changes of each flush is used.
+     */
+    public DocumentCache(boolean deferWrites, File transactionRoot) {
+        this.deferWrites = deferWrites;
+        this.transactionRoot = transactionRoot;
+    }
+
+    public Document load(File xmlFile) throws IOException, SAXException, ParserConfigurationException {
+        String key = xmlFile.getCanonicalPath();
+
+        PendingFile pending = pendingFiles.get(key);
+        if (pending != null) {
+            return pending.getDocument();
+        } else if (isDeleted(key)) {
+            throw new FileNotFoundException(xmlFile.getPath() + " has been deleted.");
+        }
+
+        FileStamp stamp = FileStamp.of(xmlFile);
+
+        CachedDocument cached = documents.get(key);
+        if (cached != null && cached.stamp.equals(stamp)) {
+            return cached.document;
+        }
+
+        Document document = XmlUtil.loadXml(xmlFile);
+        documents.put(key, new CachedDocument(document, stamp));
+        return document;
+    }
+
+    public void write(Document document, File target) throws TransformerException, IOException {
+        String key = target.getCanonicalPath();
+
+        if (deferWrites) {
+            documents.remove(key);
+            pendingFiles.put(key, new PendingFile(target, document, null));
+        } else {
+            target.getAbsoluteFile().getParentFile().mkdirs();
+            XmlUtil.writeXml(document, target);
+            documents.put(key, new CachedDocument(document, FileStamp.of(target)));
+        }
+    }
+
+    /**
+     * Writes a file that is not necessarily XML, such as a file copied from a template, byte for byte.  If it is XML,
+     * it may be loaded and written again like any other document.
+     */
+    public void write(byte[] content, File target) throws IOException {
+        String key = target.getCanonicalPath();
+
+        if (deferWrites) {
+            documents.remove(key);
+            pendingFiles.put(key, new PendingFile(target, null, content));
+        } else {
+            documents.remove(key);
+            FileUtil.writeAtomically(target, content);
+        }
+    }
+
+    /**
+     * Deletes a file, or a directory with everything below it, including any pending writes to it.
+     */
+    public void delete(File file) throws IOException {
+        String key = file.getCanonicalPath();
+
+        pendingFiles.remove(key);
+        pendingFiles.subMap(key + File.separator, descendantsEnd(key)).clear();
+        documents.keySet().removeIf(path -> path.equals(key) || path.startsWith(key + File.separator));
+
+        if (deferWrites) {
+            pendingDeletes.put(key, file);
+        } else {
+            deleteFromDisk(file);
+        }
+    }
+
+    /**
+     * @return whether the file or directory exists, counting the pending writes and deletes.  A directory exists if
+     * anything is pending below it.
+     */
+    public boolean exists(File file) throws IOException {
+        String key = file.getCanonicalPath();
+
+        if (pendingFiles.containsKey(key) || !pendingFiles.subMap(key + File.separator, descendantsEnd(key)).isEmpty()) {
+            return true;
+        }
+        return !isDeleted(key) && file.exists();
+    }
+
+    /**
+     * @return the names of the directory's children, counting the pending writes and deletes, in name order.
+     */
+    public Set<String> list(File directory) throws IOException {
+        String key = directory.getCanonicalPath();
+        Set<String> names = new TreeSet<>();
+
+        String[] children = isDeleted(key) ? null : directory.list();
+        if (children != null) {
+            for (String child : children) {
+                if (!pendingDeletes.containsKey(key + File.separator + child)) {
+                    names.add(child);
+                }
+            }
+        }
+
+        for (String path : pendingFiles.subMap(key + File.separator, descendantsEnd(key)).keySet()) {
+            String relativePath = path.substring(key.length() + 1);
+            int separator = relativePath.indexOf(File.separatorChar);
+            names.add(separator < 0 ? relativePath : relativePath.substring(0, separator));
+        }
+
+        return names;
+    }
+
+    /**
+     * @return whether the file has been written since the last flush, so that its content on disk is out of date.
+     */
+    public boolean hasPendingWrite(File file) throws IOException {
+        return pendingFiles.containsKey(file.getCanonicalPath());
+    }
+
+    /**
+     * @return the files that will be written on the next flush, in path order.
+     */
+    public List<File> getPendingWrites() {
+        List<File> files = new ArrayList<>(pendingFiles.size());
+        for (PendingFile pending : pendingFiles.values()) {
+            files.add(pending.file);
+        }
+        return files;
+    }
+
+    /**
+     * @return the files and directories that will be deleted on the next flush, in path order.
+     */
+    public List<File> getPendingDeletes() {
+        return new ArrayList<>(pendingDeletes.values());
+    }
+
+    /**
+     * Applies the pending deletes and then writes every file that has been written since the last flush, as one
+     * transaction.  Nothing on disk is changed until every file has been staged, and a failure leaves the files on disk
+     * as they were and the changes still pending.
+     */
+    public void flush() {
+        flush(null);
+    }
+
+    /**
+     * Flushes like {@link #flush()}, but spreads the staging of the files over the given executor.  Each pending file
+     * is a separate file, so they can be staged independently of one another.
+     */
+    public void flush(ExecutorService executor) {
+        List<Map.Entry<String, File>> deletes = new ArrayList<>(pendingDeletes.entrySet());
+        List<Map.Entry<String, PendingFile>> writes = new ArrayList<>(pendingFiles.entrySet());
+        if (deletes.isEmpty() && writes.isEmpty()) {
+            return;
+        }
+
+        FileTransaction transaction;
+        try {
+            transaction = new FileTransaction(transactionRoot != null ? transactionRoot : getCommonRoot(deletes, writes));
+        } catch (IOException e) {
+            throw new MigrationRuntimeException("Unable to create a staging directory for the changed files.", e);
+        }
+
+        try {
+            for (Map.Entry<String, File> delete : deletes) {
+                transaction.delete(delete.getValue());
+            }
+            stage(transaction, writes, executor);
+            transaction.commit();
+        } catch (RuntimeException e) {
+            rollback(transaction, e);
+            throw e;
+        } catch (IOException e) {
+            throw new MigrationRuntimeException("Unable to apply the changed files.  The files on disk have been restored.", e);
+        }
+
+        for (Map.Entry<String, File> delete : deletes) {
+            pendingDeletes.remove(delete.getKey(), delete.getValue());
+        }
+        for (Map.Entry<String, PendingFile> write : writes) {
+            PendingFile pending = write.getValue();
+            pendingFiles.remove(write.getKey(), pending);
+            if (pending.document != null) {
+                try {
+                    documents.put(write.getKey(), new CachedDocument(pending.document, FileStamp.of(pending.file)));
+                } catch (IOException e) {
+                    documents.remove(write.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards every pending write and delete.  Nothing on disk is changed.
+     */
+    public void rollback() {
+        for (String key : pendingFiles.keySet()) {
+            documents.remove(key);
+        }
+        pendingFiles.clear();
+        pendingDeletes.clear();
+    }
+
+    public void invalidate(File xmlFile) throws IOException {
+        String key = xmlFile.getCanonicalPath();
+        documents.remove(key);
+        pendingFiles.remove(key);
+    }
+
+    private boolean isDeleted(String key) {
+        if (pendingDeletes.isEmpty()) {
+            return false;
+        }
+
+        for (File path = new File(key); path != null; path = path.getParentFile()) {
+            if (pendingDeletes.containsKey(path.getPath())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void stage(FileTransaction transaction, List<Map.Entry<String, PendingFile>> writes,
+                              ExecutorService executor) {
+        if (executor == null) {
+            for (Map.Entry<String, PendingFile> write : writes) {
+                try {
+                    stage(transaction, write.getValue());
+                } catch (TransformerException | IOException e) {
+                    throw new MigrationRuntimeException("Unable to write the xml file at " + write.getValue().file.getPath(), e);
+                }
+            }
+            return;
+        }
+
+        //After a failure, the files not yet started are skipped, but the transaction is only rolled back once every
+        //file being written has been finished, so that nothing is written to the scratch directory after it is deleted
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<Future<?>> staged = new ArrayList<>(writes.size());
+        for (Map.Entry<String, PendingFile> write : writes) {
+            staged.add(executor.submit(() -> {
+                if (!cancelled.get()) {
+                    stage(transaction, write.getValue());
+                }
+                return null;
+            }));
+        }
+
+        MigrationRuntimeException failure = null;
+        boolean interrupted = false;
+        for (int i = 0; i < writes.size(); i++) {
+            while (true) {
+                try {
+                    staged.get(i).get();
+                    break;
+                } catch (ExecutionException e) {
+                    cancelled.set(true);
+                    if (failure == null) {
+                        failure = new MigrationRuntimeException("Unable to write the xml file at " + writes.get(i).getValue().file.getPath(), e);
+                    }
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    cancelled.set(true);
+                    if (failure == null) {
+                        failure = new MigrationRuntimeException("Interrupted while writing the xml files.", e);
+                    }
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void stage(FileTransaction transaction, PendingFile pending) throws TransformerException, IOException {
+        Path staged = transaction.stage(pending.file);
+        if (pending.content != null) {
+            Files.write(staged, pending.content);
+        } else {
+            XmlUtil.writeXml(pending.document, staged);
+        }
+    }
+
+    private static void rollback(FileTransaction transaction, RuntimeException failure) {
+        try {
+            transaction.rollback();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /*
+     * The transaction keeps its scratch directory in the deepest existing directory containing every changed path.
+     * The parent of each changed path is used, so that the scratch directory never ends up inside a deleted one.
+     */
+    private static File getCommonRoot(List<Map.Entry<String, File>> deletes, List<Map.Entry<String, PendingFile>> writes) {
+        Path root = null;
+        List<File> changed = new ArrayList<>();
+        for (Map.Entry<String, File> delete : deletes) {
+            changed.add(new File(delete.getKey()));
+        }
+        for (Map.Entry<String, PendingFile> write : writes) {
+            changed.add(new File(write.getKey()));
+        }
+
+        for (File file : changed) {
+            Path parent = file.toPath().getParent();
+            if (root == null) {
+                root = parent;
+            } else {
+                while (!parent.startsWith(root)) {
+                    root = root.getParent();
+                }
+            }
+        }
+
+        File rootDir = root.toFile();
+        while (!rootDir.isDirectory()) {
+            rootDir = rootDir.getParentFile();
+        }
+        return rootDir;
+    }
+
+    private static void deleteFromDisk(File file) {
+        if (file.isDirectory()) {
+            FileUtil.deleteRecursively(file);
+        } else {
+            file.delete();
+        }
+    }
+
+    //Upper bound of the keys below the given directory, all of which start with the directory and a separator
+    private static String descendantsEnd(String key) {
+        return key + File.separator + Character.MAX_VALUE;
+    }
+
+    private static class CachedDocument {
+        private final Document document;
+        private final FileStamp stamp;
+
+        CachedDocument(Document document, FileStamp stamp) {
+            this.document = document;
+            this.stamp = stamp;
+        }
+    }
+
+    private static class PendingFile {
+        private final File file;
+        private final byte[] content;
+        private Document document;
+
+        PendingFile(File file, Document document, byte[] content) {
+            this.file = file;
+            this.document = document;
+            this.content = content;
+        }
+
+        //Files written as bytes are only parsed if something loads them before they are flushed
+        synchronized Document getDocument() throws IOException, SAXException, ParserConfigurationException {
+            if (document == null) {
+                document = XmlUtil.loadXml(content);
+            }
+            return document;
+        }
+    }
+
+    private static class FileStamp {
+        private final FileTime lastModified;
+        private final long size;
+
+        private FileStamp(FileTime lastModified, long size) {
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        static FileStamp of(File file) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            return new FileStamp(attributes.lastModifiedTime(), attributes.size());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof FileStamp)) {
+                return false;
+            }
+            FileStamp other = (FileStamp) o;
+            return lastModified.equals(other.lastModified) && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return lastModified.hashCode() * 31 + Long.hashCode(size);
+        }
+    }
+}
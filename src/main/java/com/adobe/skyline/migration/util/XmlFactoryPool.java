@@ -0,0 +1,136 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+
+/**
+ * Hands out JAXP parsers, serializers and compiled XPath expressions.  The factories are looked up once per JVM, while
+ * builders, transformers and compiled expressions are kept per thread because none of them may be shared between
+ * threads.  Everything returned is reset before it is handed out, and must not be passed on to another thread.  The
+ * StAX input factory is also kept per thread, since the StAX specification does not promise that it is thread safe.
+ */
+public class XmlFactoryPool {
+
+    private static final DocumentBuilderFactory BUILDER_FACTORY = createBuilderFactory();
+    private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+    private static final XPathFactory XPATH_FACTORY = XPathFactory.newInstance();
+
+    private static final ThreadLocal<DocumentBuilder> BUILDER = ThreadLocal.withInitial(XmlFactoryPool::newDocumentBuilder);
+    private static final ThreadLocal<Transformer> TRANSFORMER = ThreadLocal.withInitial(XmlFactoryPool::newTransformer);
+    private static final ThreadLocal<XPath> XPATH = ThreadLocal.withInitial(XmlFactoryPool::newXPath);
+    private static final ThreadLocal<Map<String, XPathExpression>> EXPRESSIONS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY = ThreadLocal.withInitial(XmlFactoryPool::newInputFactory);
+
+    private XmlFactoryPool() {}
+
+    /**
+     * @return this thread's document builder, which ignores comments when parsing.
+     */
+    public static DocumentBuilder getDocumentBuilder() {
+        DocumentBuilder builder = BUILDER.get();
+        builder.reset();
+        return builder;
+    }
+
+    /**
+     * @return this thread's identity transformer, configured to indent its output.
+     */
+    public static Transformer getTransformer() {
+        Transformer transformer = TRANSFORMER.get();
+        transformer.reset();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        return transformer;
+    }
+
+    /**
+     * @return the given expression, compiled once per thread.
+     */
+    public static XPathExpression getXPathExpression(String expression) throws XPathExpressionException {
+        Map<String, XPathExpression> expressions = EXPRESSIONS.get();
+
+        XPathExpression compiled = expressions.get(expression);
+        if (compiled == null) {
+            XPath xPath = XPATH.get();
+            xPath.reset();
+            compiled = xPath.compile(expression);
+            expressions.put(expression, compiled);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * @return this thread's StAX input factory, which neither reads DTDs nor resolves external entities.
+     */
+    public static XMLInputFactory getInputFactory() {
+        return INPUT_FACTORY.get();
+    }
+
+    private static DocumentBuilderFactory createBuilderFactory() {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setIgnoringComments(true);
+        return factory;
+    }
+
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    //The JAXP factories are not guaranteed to be thread safe, so creation is serialized on each factory
+
+    private static DocumentBuilder newDocumentBuilder() {
+        synchronized (BUILDER_FACTORY) {
+            try {
+                return BUILDER_FACTORY.newDocumentBuilder();
+            } catch (ParserConfigurationException e) {
+                throw new MigrationRuntimeException("Unable to create an XML parser.", e);
+            }
+        }
+    }
+
+    private static Transformer newTransformer() {
+        synchronized (TRANSFORMER_FACTORY) {
+            try {
+                return TRANSFORMER_FACTORY.newTransformer();
+            } catch (TransformerConfigurationException e) {
+                throw new MigrationRuntimeException("Unable to create an XML transformer.", e);
+            }
+        }
+    }
+
+    private static XPath newXPath() {
+        synchronized (XPATH_FACTORY) {
+            return XPATH_FACTORY.newXPath();
+        }
+    }
+}
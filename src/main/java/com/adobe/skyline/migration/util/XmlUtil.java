@@ -12,21 +12,30 @@
 
 package com.adobe.skyline.migration.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
+import com.adobe.skyline.migration.util.file.BlankLineFilterOutputStream;
 import com.adobe.skyline.migration.util.file.FileUtil;
 import org.w3c.dom.*;
 import org.xml.sax.SAXException;
@@ -37,28 +46,84 @@ import org.xml.sax.SAXException;
 public class XmlUtil {
 
     public static Document createXml() throws ParserConfigurationException {
-        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        DocumentBuilder db = dbf.newDocumentBuilder();
-        return db.newDocument();
+        return XmlFactoryPool.getDocumentBuilder().newDocument();
     }
 
     public static Document loadXml(File xmlFile) throws IOException, SAXException, ParserConfigurationException {
-        DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-        dbFactory.setIgnoringComments(true);
-        DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-        Document doc = dBuilder.parse(xmlFile);
+        Document doc = XmlFactoryPool.getDocumentBuilder().parse(xmlFile);
         doc.getDocumentElement().normalize();
         return doc;
     }
 
+    public static Document loadXml(byte[] content) throws IOException, SAXException, ParserConfigurationException {
+        Document doc = XmlFactoryPool.getDocumentBuilder().parse(new ByteArrayInputStream(content));
+        doc.getDocumentElement().normalize();
+        return doc;
+    }
+
+    /**
+     * Reads the attributes of the root element and stops, without parsing the rest of the document.
+     *
+     * @return the attribute values keyed by their qualified names, such as <code>jcr:primaryType</code>.
+     */
+    public static Map<String, String> readRootAttributes(File xmlFile) throws IOException, XMLStreamException {
+        Map<String, String> attributes = readElementAttributes(xmlFile, null);
+        if (attributes == null) {
+            throw new XMLStreamException("The xml file at " + xmlFile.getPath() + " has no root element.");
+        }
+        return attributes;
+    }
+
+    /**
+     * Reads the attributes of the first element with the given qualified name, such as <code>jcr:content</code>, and
+     * stops, without parsing the rest of the document.
+     *
+     * @param elementName the qualified name of the element, or null for the root element.
+     * @return the attribute values keyed by their qualified names, or null if there is no such element.
+     */
+    public static Map<String, String> readElementAttributes(File xmlFile, String elementName) throws IOException, XMLStreamException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(xmlFile.toPath()))) {
+            XMLStreamReader reader = XmlFactoryPool.getInputFactory().createXMLStreamReader(in);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT
+                            && (elementName == null || elementName.equals(getQualifiedName(reader.getPrefix(), reader.getLocalName())))) {
+                        Map<String, String> attributes = new HashMap<>();
+                        for (int i = 0; i < reader.getAttributeCount(); i++) {
+                            attributes.put(getQualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)), reader.getAttributeValue(i));
+                        }
+                        return attributes;
+                    }
+                }
+                return null;
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
     public static void writeXml(Document doc, File target) throws TransformerException, IOException {
-        TransformerFactory tFactory = TransformerFactory.newInstance();
-        Transformer transformer = tFactory.newTransformer();
-        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        //Write to a temporary file, then swap the file in at once
+        Path tempFile = FileUtil.createSiblingTempFile(target);
+        try {
+            writeXml(doc, tempFile);
+            FileUtil.moveAtomically(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the document to the given path, replacing its content.
+     */
+    public static void writeXml(Document doc, Path target) throws TransformerException, IOException {
+        Transformer transformer = XmlFactoryPool.getTransformer();
         DOMSource source = new DOMSource(doc);
-        StreamResult result = new StreamResult(target);
-        transformer.transform(source, result);
-        FileUtil.removeEmptyLinesFromFile(target);
+
+        //Drop the blank lines left behind by the indenting transformer while streaming
+        try (OutputStream out = new BlankLineFilterOutputStream(new BufferedOutputStream(Files.newOutputStream(target)))) {
+            transformer.transform(source, new StreamResult(out));
+        }
     }
 
     public static List<Node> getChildElementNodes(Node parentNode) {
@@ -94,4 +159,11 @@ public class XmlUtil {
     public static String getSerializedArrayValueFromList(List<String> list) {
         return "[" + StringUtil.concatenateCollectionToCsv(list) + "]";
     }
+
+    /**
+     * @return the name of a StAX element or attribute as it appears in the document, with its prefix if it has one.
+     */
+    public static String getQualifiedName(String prefix, String localName) {
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util.file;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Drops lines that are empty or contain only whitespace from the bytes passing through it, and ends every remaining
+ * line with a single <code>\n</code>.  Lines may be terminated by <code>\n</code>, <code>\r\n</code> or <code>\r</code>.
+ * Works on any ASCII-compatible encoding such as UTF-8, since multi-byte characters never contain whitespace bytes.
+ */
+public class BlankLineFilterOutputStream extends FilterOutputStream {
+
+    private byte[] line = new byte[256];
+    private int lineLength = 0;
+    private boolean lineIsBlank = true;
+    private boolean lastWasCarriageReturn = false;
+
+    public BlankLineFilterOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (b == '\n') {
+            if (!lastWasCarriageReturn) {
+                endLine();
+            }
+            lastWasCarriageReturn = false;
+        } else if (b == '\r') {
+            endLine();
+            lastWasCarriageReturn = true;
+        } else {
+            lastWasCarriageReturn = false;
+            if (lineLength == line.length) {
+                byte[] grown = new byte[line.length * 2];
+                System.arraycopy(line, 0, grown, 0, lineLength);
+                line = grown;
+            }
+            line[lineLength++] = (byte) b;
+            if ((b & 0xFF) > ' ') {
+                lineIsBlank = false;
+            }
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            write(b[i]);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        endLine();
+        super.close();
+    }
+
+    private void endLine() throws IOException {
+        if (!lineIsBlank) {
+            out.write(line, 0, lineLength);
+            out.write('\n');
+        }
+        lineLength = 0;
+        lineIsBlank = true;
+    }
+}
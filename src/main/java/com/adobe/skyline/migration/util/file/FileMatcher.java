@@ -13,10 +13,27 @@
 package com.adobe.skyline.migration.util.file;
 
 import java.io.File;
+import java.util.List;
 
 /**
- * Matcher interface used by the FileQueryService
+ * Matcher interface used by the FileQueryService.  Implementations are called concurrently and must be thread safe.
  */
 public interface FileMatcher {
     boolean matches (File file);
+
+    /**
+     * Tests the file against this matcher and against others of the same class in a single visit.  Matchers that read
+     * the file override this to read it only once for all of them.
+     *
+     * @param others matchers of the same class as this one.
+     * @return whether the file matches this matcher, followed by whether it matches each of the others, in order.
+     */
+    default boolean[] matchesAll(File file, List<FileMatcher> others) {
+        boolean[] matches = new boolean[others.size() + 1];
+        matches[0] = matches(file);
+        for (int i = 0; i < others.size(); i++) {
+            matches[i + 1] = others.get(i).matches(file);
+        }
+        return matches;
+    }
 }
\ No newline at end of file
@@ -13,17 +13,29 @@
 package com.adobe.skyline.migration.util.file;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import com.adobe.skyline.migration.util.file.matchers.FileNameMatcher;
 import com.adobe.skyline.migration.util.file.matchers.XmlContentMatcher;
 
 /**
- * Service with methods to search through files based on name or content
+ * Service with methods to search through files based on name or content.  Directory trees are walked in parallel, so
+ * matchers passed to this service must be safe to call from several threads at once.
  */
 public class FileQueryService {
 
+    private final ParallelFileWalker walker;
+
+    public FileQueryService() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public FileQueryService(ForkJoinPool pool) {
+        this.walker = new ParallelFileWalker(pool);
+    }
+
     public List<String> findFileByName(String fileName, File pathToSearch) {
         FileMatcher nameMatcher = new FileNameMatcher(fileName);
         return findFilesInDirectoryRecursive(nameMatcher, pathToSearch);
@@ -34,21 +46,15 @@ public class FileQueryService {
         return findFilesInDirectoryRecursive(xmlMatcher, pathToSearch);
     }
 
+    /**
+     * Tests every file under the given path against all of the matchers in a single traversal.  The returned map has
+     * one entry per matcher, in the order given, holding the matching paths in traversal order.
+     */
+    public Map<FileMatcher, List<String>> findFilesMatching(List<FileMatcher> matchers, File pathToSearch) {
+        return walker.walk(pathToSearch, matchers);
+    }
+
     private List<String> findFilesInDirectoryRecursive(FileMatcher matcher, File pathToSearch) {
-        List<String> matchedFilePaths = new ArrayList<>();
-
-        if (pathToSearch.exists()) {
-            if (matcher.matches(pathToSearch)) {
-                matchedFilePaths.add(pathToSearch.getAbsoluteFile().toString());
-            }
-            if (pathToSearch.isDirectory()) {
-                for (File child : pathToSearch.listFiles()) { //Recurse into child directories
-                    List<String> foundInSubDirectory = findFilesInDirectoryRecursive(matcher, child);
-                    matchedFilePaths.addAll(foundInSubDirectory);
-                }
-            }
-        }
-
-        return matchedFilePaths;
+        return walker.walk(pathToSearch, matcher);
     }
-}
\ No newline at end of file
+}
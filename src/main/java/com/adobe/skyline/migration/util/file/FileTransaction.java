@@ -0,0 +1,267 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Applies a set of creates, modifications and deletes to a directory tree all at once.  New content is first written
+ * to files in a scratch directory, which leaves the tree untouched.  On {@link #commit()}, the files and directories to
+ * be deleted are moved into the scratch directory and the staged files are renamed into place, one atomic rename per
+ * file.  If any step fails, everything done so far is undone in reverse order, so the tree is either fully changed or
+ * left as it was.
+ *
+ * The scratch directory is created inside the tree, so that every rename stays on the same file store.  Before each
+ * change to the tree, a commit notes in a journal in the scratch directory how to undo it.  If the process dies midway
+ * through a commit, the scratch directory is left behind with the journal and the original of every file that was
+ * replaced or deleted, and {@link #recover(File)} rolls the tree back from them on the next run.
+ */
+public class FileTransaction {
+
+    private static final String SCRATCH_DIRECTORY_SUFFIX = ".staging";
+    private static final Pattern SCRATCH_DIRECTORY_PATTERN = Pattern.compile(
+            "\\.[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}" + Pattern.quote(SCRATCH_DIRECTORY_SUFFIX));
+    private static final String JOURNAL_FILENAME = "journal";
+    private static final char JOURNAL_SEPARATOR = '\t';
+    private static final char JOURNAL_LINE_END = '\n';
+
+    private final File scratchDirectory;
+    private final Path journal;
+    private final AtomicInteger fileCount = new AtomicInteger();
+
+    private final List<File> deletes = new ArrayList<>();
+    private final Map<File, Path> stagedFiles = new LinkedHashMap<>();
+    private final Deque<Undo> undoLog = new ArrayDeque<>();
+
+    /**
+     * @param root the directory containing every file that the transaction changes.  The scratch directory is
+     *             created below it.
+     */
+    public FileTransaction(File root) throws IOException {
+        this.scratchDirectory = new File(root, "." + UUID.randomUUID() + SCRATCH_DIRECTORY_SUFFIX);
+        this.journal = new File(scratchDirectory, JOURNAL_FILENAME).toPath();
+        Files.createDirectories(scratchDirectory.toPath());
+    }
+
+    /**
+     * Cleans up after the transactions that were left unfinished in the given directory when the process died.  A
+     * transaction that died midway through its commit is rolled back from its journal, and every scratch directory
+     * left behind is deleted.
+     *
+     * @return the scratch directories that were left behind, in name order.
+     */
+    public static List<File> recover(File root) throws IOException {
+        File[] scratchDirectories = root.listFiles((dir, name) -> SCRATCH_DIRECTORY_PATTERN.matcher(name).matches());
+        if (scratchDirectories == null) {
+            return new ArrayList<>();
+        }
+
+        Arrays.sort(scratchDirectories);
+        for (File scratchDirectory : scratchDirectories) {
+            File journal = new File(scratchDirectory, JOURNAL_FILENAME);
+            if (journal.isFile()) {
+                List<Undo> undoLog = readJournal(journal.toPath());
+                for (int i = undoLog.size() - 1; i >= 0; i--) {
+                    undoLog.get(i).apply();
+                }
+            }
+            FileUtil.deleteRecursively(scratchDirectory);
+        }
+        return Arrays.asList(scratchDirectories);
+    }
+
+    /**
+     * @return an empty file in the scratch directory which replaces the target when the transaction is committed.  The
+     * caller writes the new content to it.  Files may be staged from several threads at once.
+     */
+    public Path stage(File target) throws IOException {
+        Path staged = Files.createFile(new File(scratchDirectory, fileCount.incrementAndGet() + ".tmp").toPath());
+        synchronized (stagedFiles) {
+            stagedFiles.put(target.getAbsoluteFile(), staged);
+        }
+        return staged;
+    }
+
+    /**
+     * Deletes a file, or a directory with everything below it, when the transaction is committed.  Deletes are
+     * applied before the staged files are moved into place, so a staged file may be written below a deleted directory.
+     */
+    public synchronized void delete(File file) {
+        deletes.add(file.getAbsoluteFile());
+    }
+
+    /**
+     * Applies the deletes and moves every staged file into place.  If this fails, the tree is restored and the
+     * transaction is rolled back.
+     */
+    public synchronized void commit() throws IOException {
+        try {
+            for (File file : deletes) {
+                if (file.exists()) {
+                    Undo undo = log(new Undo(file, newScratchPath()));
+                    move(file.toPath(), undo.original);
+                    undoLog.push(undo);
+                }
+            }
+
+            for (Map.Entry<File, Path> staged : stagedFiles.entrySet()) {
+                place(staged.getKey(), staged.getValue());
+            }
+        } catch (IOException | RuntimeException e) {
+            rollback(e);
+            throw e;
+        }
+
+        //Once the journal is gone, the commit is complete and will not be rolled back by a recovery
+        Files.deleteIfExists(journal);
+        undoLog.clear();
+        FileUtil.deleteRecursively(scratchDirectory);
+    }
+
+    /**
+     * Undoes every change made to the tree by a failed commit, and discards the staged files.
+     */
+    public synchronized void rollback() throws IOException {
+        IOException failure = new IOException("Unable to restore every file changed by the transaction.");
+        rollback(failure);
+        if (failure.getSuppressed().length > 0) {
+            throw failure;
+        }
+    }
+
+    private void place(File target, Path staged) throws IOException {
+        File missingDirectory = getTopmostMissingDirectory(target);
+        if (missingDirectory != null) {
+            Undo undo = log(new Undo(missingDirectory, null));
+            Files.createDirectories(target.getParentFile().toPath());
+            undoLog.push(undo);
+        }
+
+        //The original stays in place until the new file replaces it, so the target never goes missing
+        Path backup = null;
+        if (target.isFile()) {
+            backup = newScratchPath();
+            try {
+                Files.createLink(backup, target.toPath());
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(target.toPath(), backup, StandardCopyOption.COPY_ATTRIBUTES);
+            }
+        }
+
+        Undo undo = log(new Undo(target, backup));
+        move(staged, target.toPath());
+        undoLog.push(undo);
+    }
+
+    //The journal is written ahead of the change, so undoing must also cope with a change that never happened
+    private Undo log(Undo undo) throws IOException {
+        String entry = undo.file.getPath() + JOURNAL_SEPARATOR + (undo.original != null ? undo.original.toString() : "") + JOURNAL_LINE_END;
+        Files.write(journal, entry.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return undo;
+    }
+
+    //An entry without a line end was cut short by the process dying, so the change it announced was never made
+    private static List<Undo> readJournal(Path journal) throws IOException {
+        String content = new String(Files.readAllBytes(journal), StandardCharsets.UTF_8);
+        List<Undo> undoLog = new ArrayList<>();
+
+        int start = 0;
+        for (int end = content.indexOf(JOURNAL_LINE_END); end >= 0; end = content.indexOf(JOURNAL_LINE_END, start)) {
+            String entry = content.substring(start, end);
+            int separator = entry.indexOf(JOURNAL_SEPARATOR);
+            String original = entry.substring(separator + 1);
+            undoLog.add(new Undo(new File(entry.substring(0, separator)), original.isEmpty() ? null : Paths.get(original)));
+            start = end + 1;
+        }
+        return undoLog;
+    }
+
+    private void rollback(Exception failure) {
+        while (!undoLog.isEmpty()) {
+            Undo undo = undoLog.pop();
+            try {
+                undo.apply();
+            } catch (IOException | RuntimeException e) {
+                failure.addSuppressed(e);
+            }
+        }
+
+        if (scratchDirectory.exists()) {
+            FileUtil.deleteRecursively(scratchDirectory);
+        }
+    }
+
+    private Path newScratchPath() {
+        return new File(scratchDirectory, fileCount.incrementAndGet() + ".bak").toPath();
+    }
+
+    private static File getTopmostMissingDirectory(File target) {
+        File missing = null;
+        for (File dir = target.getParentFile(); dir != null && !dir.exists(); dir = dir.getParentFile()) {
+            missing = dir;
+        }
+        return missing;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Puts a file back the way it was: the original is moved back from the scratch directory, or the file is removed
+     * if there was no original.  An original that is missing was never moved away, so the file is left alone.
+     */
+    private static class Undo {
+        private final File file;
+        private final Path original;
+
+        Undo(File file, Path original) {
+            this.file = file;
+            this.original = original;
+        }
+
+        void apply() throws IOException {
+            if (original != null) {
+                if (Files.exists(original)) {
+                    move(original, file.toPath());
+                }
+            } else if (file.isDirectory()) {
+                FileUtil.deleteRecursively(file);
+            } else {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+    }
+}
@@ -12,18 +12,20 @@
 
 package com.adobe.skyline.migration.util.file;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PrintWriter;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Enumeration;
-import java.util.Scanner;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
 
 /**
  * Utility for file-based CRUD operations
@@ -66,59 +68,108 @@ public class FileUtil {
         }
     }
 
-    //Copies the specifed directory from within the provided jar file to the destination
-    public static void copyDirectoryFromJar(JarFile sourceJar, String dirName, String destDir) throws IOException {
-        //The root directory of the jar does not begin with a slash
-        if (dirName.startsWith("/")) {
-            dirName = dirName.replaceFirst("/", "");
-        }
+    /**
+     * Reads every file below the given directory.
+     *
+     * @return the content of each file, keyed by its path relative to the directory, using / as the separator.
+     */
+    public static Map<String, byte[]> readDirectoryRecursively(File sourceFolder) throws IOException {
+        Map<String, byte[]> files = new TreeMap<>();
+        readDirectoryRecursively(sourceFolder, "", files);
+        return files;
+    }
 
-        Enumeration<JarEntry> entries = sourceJar.entries();
+    public static void removeEmptyLinesFromFile(File in) throws IOException {
+        Path tempFile = createSiblingTempFile(in);
 
-        while (entries.hasMoreElements()) {
-            JarEntry entry = entries.nextElement();
+        try {
+            try (OutputStream out = new BlankLineFilterOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                Files.copy(in.toPath(), out);
+            }
+            moveAtomically(tempFile, in);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
 
-            if (entry.getName().startsWith(dirName + "/") && !entry.isDirectory()) {
-                File destination = new File(destDir + "/" + entry.getName().substring(dirName.length() + 1));
-                destination.getParentFile().mkdirs();
-                try (InputStream in = sourceJar.getInputStream(entry);
-                     FileOutputStream out = new FileOutputStream(destination)){
-                    copyStream(in, out);
-                }
+    /**
+     * @return the hex encoded SHA-256 digest of the file's content.
+     */
+    public static String hash(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+        }
 
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
             }
         }
-    }
 
-    public static void findAndReplaceInFile(File in, String pattern, String replacement) throws IOException {
-        String content = new String(Files.readAllBytes(in.toPath()));
-        content = content.replaceAll(pattern, replacement);
-        Files.write(in.toPath(), content.getBytes());
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
     }
 
-    public static void removeEmptyLinesFromFile(File in) throws IOException {
-        File tempCopy = new File("tempCopy.txt");
-
-        try (Scanner scanner = new Scanner(in); PrintWriter writer = new PrintWriter("tempCopy.txt")) {
-            while (scanner.hasNext()) {
-                String line = scanner.nextLine();
-                if (!line.trim().isEmpty()) {
-                    writer.write(line);
-                    writer.write("\n");
-                }
-            }
+    /**
+     * Writes the content to a temporary file next to the target, creating the target's directory if needed, and then
+     * moves it over the target with {@link #moveAtomically(Path, File)}.
+     */
+    public static void writeAtomically(File target, byte[] content) throws IOException {
+        target.getAbsoluteFile().getParentFile().mkdirs();
+        Path tempFile = createSiblingTempFile(target);
+
+        try {
+            Files.write(tempFile, content);
+            moveAtomically(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
+    }
 
-        in.delete();
-        tempCopy.renameTo(in);
+    /**
+     * Creates an empty, uniquely named file next to the target, so that content can be written to it and then moved
+     * over the target with {@link #moveAtomically(Path, File)}.  Keeping it in the same directory keeps the move on
+     * the same file store.
+     */
+    public static Path createSiblingTempFile(File target) throws IOException {
+        File parent = target.getAbsoluteFile().getParentFile();
+        Path tempFile = new File(parent, "." + target.getName() + "." + UUID.randomUUID() + ".tmp").toPath();
+        return Files.createFile(tempFile);
     }
 
-    private static void copyStream(InputStream in, OutputStream out) throws IOException {
-        int read;
-        byte[] bytes = new byte[1024];
+    /**
+     * Replaces the target with the source file in a single atomic rename, falling back to a plain replace on file
+     * systems that cannot move atomically.
+     */
+    public static void moveAtomically(Path source, File target) throws IOException {
+        try {
+            Files.move(source, target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 
-        while ((read = in.read(bytes)) != -1) {
-            out.write(bytes, 0, read);
+    private static void readDirectoryRecursively(File folder, String relativePath, Map<String, byte[]> files) throws IOException {
+        String[] children = folder.list();
+        if (children == null) {
+            return;
+        }
+
+        for (String child : children) {
+            File file = new File(folder, child);
+            if (file.isDirectory()) {
+                readDirectoryRecursively(file, relativePath + child + "/", files);
+            } else {
+                files.put(relativePath + child, Files.readAllBytes(file.toPath()));
+            }
         }
     }
 }
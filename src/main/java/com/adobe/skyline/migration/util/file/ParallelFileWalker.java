@@ -0,0 +1,175 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util.file;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Walks a directory tree on a fork-join pool, with one task per directory, testing every file against a set of
+ * matchers in a single visit.  Matchers of the same class are tested together through
+ * {@link FileMatcher#matchesAll(File, List)}, so that matchers reading the content of a file read it only once.  Every
+ * task keeps its own matches and the tasks it forked, so the results are flattened exactly once, in the same pre-order
+ * as a single-threaded walk.
+ */
+class ParallelFileWalker {
+
+    private final ForkJoinPool pool;
+
+    ParallelFileWalker(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    List<String> walk(File root, FileMatcher matcher) {
+        return walk(root, Collections.singletonList(matcher)).get(matcher);
+    }
+
+    Map<FileMatcher, List<String>> walk(File root, List<FileMatcher> matchers) {
+        FileMatcher[] matcherArray = matchers.toArray(new FileMatcher[0]);
+        MatcherGroup[] groups = groupByClass(matcherArray);
+
+        List<Match> matches = new ArrayList<>();
+        if (root.exists()) {
+            addMatches(root, groups, matches);
+            if (root.isDirectory()) {
+                DirectoryTask rootTask = new DirectoryTask(root, groups);
+                pool.invoke(rootTask);
+                rootTask.collectInto(matches);
+            }
+        }
+
+        Map<FileMatcher, List<String>> matchedFilePaths = new LinkedHashMap<>();
+        for (FileMatcher matcher : matcherArray) {
+            matchedFilePaths.put(matcher, new ArrayList<>());
+        }
+        for (Match match : matches) {
+            matchedFilePaths.get(matcherArray[match.matcherIndex]).add(match.path);
+        }
+
+        return matchedFilePaths;
+    }
+
+    private static void addMatches(File file, MatcherGroup[] groups, List<Match> matches) {
+        String path = null;
+        for (MatcherGroup group : groups) {
+            boolean[] matched = group.matches(file);
+            for (int i = 0; i < matched.length; i++) {
+                if (matched[i]) {
+                    if (path == null) {
+                        path = file.getAbsoluteFile().toString();
+                    }
+                    matches.add(new Match(group.matcherIndexes[i], path));
+                }
+            }
+        }
+    }
+
+    private static MatcherGroup[] groupByClass(FileMatcher[] matchers) {
+        Map<Class<?>, List<Integer>> indexesByClass = new LinkedHashMap<>();
+        for (int i = 0; i < matchers.length; i++) {
+            indexesByClass.computeIfAbsent(matchers[i].getClass(), k -> new ArrayList<>()).add(i);
+        }
+
+        List<MatcherGroup> groups = new ArrayList<>(indexesByClass.size());
+        for (List<Integer> indexes : indexesByClass.values()) {
+            groups.add(new MatcherGroup(matchers, indexes));
+        }
+        return groups.toArray(new MatcherGroup[0]);
+    }
+
+    //Matchers of one class, which test each file together
+    private static class MatcherGroup {
+        private final FileMatcher first;
+        private final List<FileMatcher> others;
+        private final int[] matcherIndexes;
+
+        MatcherGroup(FileMatcher[] matchers, List<Integer> indexes) {
+            this.first = matchers[indexes.get(0)];
+            this.others = new ArrayList<>(indexes.size() - 1);
+            this.matcherIndexes = new int[indexes.size()];
+            for (int i = 0; i < indexes.size(); i++) {
+                matcherIndexes[i] = indexes.get(i);
+                if (i > 0) {
+                    others.add(matchers[indexes.get(i)]);
+                }
+            }
+        }
+
+        boolean[] matches(File file) {
+            return others.isEmpty() ? new boolean[] {first.matches(file)} : first.matchesAll(file, others);
+        }
+    }
+
+    private static class Match {
+        private final int matcherIndex;
+        private final String path;
+
+        Match(int matcherIndex, String path) {
+            this.matcherIndex = matcherIndex;
+            this.path = path;
+        }
+    }
+
+    private static class DirectoryTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final File directory;
+        private final MatcherGroup[] groups;
+
+        private final List<Match> matches = new ArrayList<>();
+        private final List<DirectoryTask> subdirectories = new ArrayList<>();
+        //Number of this directory's own matches that precede each subdirectory in listing order
+        private final List<Integer> subdirectoryOffsets = new ArrayList<>();
+
+        DirectoryTask(File directory, MatcherGroup[] groups) {
+            this.directory = directory;
+            this.groups = groups;
+        }
+
+        @Override
+        protected void compute() {
+            File[] children = directory.listFiles();
+            if (children == null) {
+                return;
+            }
+
+            for (File child : children) {
+                addMatches(child, groups, matches);
+                if (child.isDirectory()) {
+                    subdirectoryOffsets.add(matches.size());
+                    subdirectories.add(new DirectoryTask(child, groups));
+                }
+            }
+
+            invokeAll(subdirectories);
+        }
+
+        void collectInto(List<Match> results) {
+            int next = 0;
+            for (int i = 0; i < subdirectories.size(); i++) {
+                int offset = subdirectoryOffsets.get(i);
+                results.addAll(matches.subList(next, offset));
+                next = offset;
+                subdirectories.get(i).collectInto(results);
+            }
+            results.addAll(matches.subList(next, matches.size()));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util.file.matchers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Searches the raw bytes of a file for a fixed byte sequence using a precomputed Boyer-Moore-Horspool shift table.
+ * Files are streamed through a direct buffer that is reused per thread, and reading stops at the first hit.  Several
+ * searchers can share a single pass over a file, which then stops once each of them has had its hit.
+ */
+class BytePatternSearcher {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    private final byte[] pattern;
+    private final int[] shift;
+
+    BytePatternSearcher(byte[] pattern) {
+        if (pattern.length == 0 || pattern.length >= BUFFER_SIZE) {
+            throw new IllegalArgumentException("Search patterns must be between 1 and " + (BUFFER_SIZE - 1) + " bytes long.");
+        }
+
+        this.pattern = pattern.clone();
+        this.shift = new int[256];
+
+        int last = pattern.length - 1;
+        for (int i = 0; i < shift.length; i++) {
+            shift[i] = pattern.length;
+        }
+        for (int i = 0; i < last; i++) {
+            shift[pattern[i] & 0xFF] = last - i;
+        }
+    }
+
+    boolean isFoundIn(Path file) throws IOException {
+        return findAllIn(file, new BytePatternSearcher[] {this})[0];
+    }
+
+    /**
+     * Searches the file for the pattern of each of the searchers in a single pass.
+     *
+     * @return whether each searcher's pattern was found, in order.
+     */
+    static boolean[] findAllIn(Path file, BytePatternSearcher[] searchers) throws IOException {
+        boolean[] found = new boolean[searchers.length];
+        int remaining = searchers.length;
+        int tailLength = 0;
+        for (BytePatternSearcher searcher : searchers) {
+            tailLength = Math.max(tailLength, searcher.pattern.length - 1);
+        }
+
+        ByteBuffer buffer = BUFFER.get();
+        buffer.clear();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                for (int i = 0; i < searchers.length; i++) {
+                    if (!found[i] && searchers[i].isFoundIn(buffer)) {
+                        found[i] = true;
+                        remaining--;
+                    }
+                }
+                if (remaining == 0) {
+                    return found;
+                }
+
+                //Carry over the tail that may hold the start of a match spanning two reads
+                int carry = Math.min(tailLength, buffer.limit());
+                buffer.position(buffer.limit() - carry);
+                buffer.compact();
+            }
+        }
+
+        return found;
+    }
+
+    private boolean isFoundIn(ByteBuffer buffer) {
+        int last = pattern.length - 1;
+        int limit = buffer.limit();
+
+        int offset = 0;
+        while (offset + last < limit) {
+            int i = last;
+            while (buffer.get(offset + i) == pattern[i]) {
+                if (i == 0) {
+                    return true;
+                }
+                i--;
+            }
+            offset += shift[buffer.get(offset + last) & 0xFF];
+        }
+
+        return false;
+    }
+}
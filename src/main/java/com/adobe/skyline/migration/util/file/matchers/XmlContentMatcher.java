@@ -16,14 +16,20 @@ import com.adobe.skyline.migration.exception.MigrationRuntimeException;
 import com.adobe.skyline.migration.util.file.FileMatcher;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Scanner;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
+/**
+ * Matches files whose raw content contains the literal text <code>propertyName="propertyValue"</code>.  Several of
+ * these matchers search a file together in a single read.
+ */
 public class XmlContentMatcher implements FileMatcher {
-    private String pattern;
+    private BytePatternSearcher searcher;
 
     public XmlContentMatcher(String propertyName, String propertyValue) {
-        this.pattern = propertyName + "=\"" + propertyValue + "\"";
+        String pattern = propertyName + "=\"" + propertyValue + "\"";
+        this.searcher = new BytePatternSearcher(pattern.getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
@@ -32,11 +38,32 @@ public class XmlContentMatcher implements FileMatcher {
             if (file.isDirectory()) {
                 return false;
             } else {
-                Scanner scanner = new Scanner(file);
-                return (scanner.findWithinHorizon(pattern, 0) != null);
+                return searcher.isFoundIn(file.toPath());
             }
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
+            throw new MigrationRuntimeException(e);
+        }
+    }
+
+    /**
+     * Searches the file for the text of this matcher and of the others in a single read.
+     */
+    @Override
+    public boolean[] matchesAll(File file, List<FileMatcher> others) {
+        if (file.isDirectory()) {
+            return new boolean[others.size() + 1];
+        }
+
+        BytePatternSearcher[] searchers = new BytePatternSearcher[others.size() + 1];
+        searchers[0] = searcher;
+        for (int i = 0; i < others.size(); i++) {
+            searchers[i + 1] = ((XmlContentMatcher) others.get(i)).searcher;
+        }
+
+        try {
+            return BytePatternSearcher.findAllIn(file.toPath(), searchers);
+        } catch (IOException e) {
             throw new MigrationRuntimeException(e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,153 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.dao;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.SkylineMigrationBaseTest;
+import com.adobe.skyline.migration.testutils.TestConstants;
+import com.adobe.skyline.migration.util.file.FileUtil;
+
+public class ContentPackageDAOTest extends SkylineMigrationBaseTest {
+
+    private static final String LAUNCHER_ENTRY = "jcr_root/conf/global/settings/workflow/launcher/config/update_asset_mod/.content.xml";
+    private static final String VAR_MODEL_ENTRY = "jcr_root/var/workflow/models/dam/.content.xml";
+    private static final String BINARY_ENTRY = "jcr_root/content/dam/sample/image.jpg";
+    private static final String CONF_BINARY_ENTRY = "jcr_root/conf/global/settings/workflow/launcher/config/update_asset_mod/icon.png";
+
+    private ContentPackageDAO dao;
+    private File packageFile;
+    private File contentDirectory;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+
+        try {
+            File projectRoot = projectLoader.copyConfProjectToTemp(temp);
+            File moduleContent = Path.of(projectRoot.getPath(), TestConstants.CONF_WORKFLOW_PROJECT_NAME, TestConstants.MAIN_CONTENT_PATH).toFile();
+            writeContent(new File(moduleContent, BINARY_ENTRY), "binary");
+            writeContent(new File(moduleContent, CONF_BINARY_ENTRY), "icon");
+
+            packageFile = new File(temp.newFolder(), "ui.content.zip");
+            zipDirectory(moduleContent, packageFile);
+            contentDirectory = temp.newFolder("content");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        dao = new ContentPackageDAO();
+    }
+
+    @Test
+    public void testWorkflowContentCopied() throws Exception {
+        Set<String> copiedPaths = dao.copyWorkflowContent(packageFile, contentDirectory);
+
+        assertTrue(new File(contentDirectory, "META-INF/vault/filter.xml").isFile());
+        assertTrue(new File(contentDirectory, LAUNCHER_ENTRY).isFile());
+        assertTrue(new File(contentDirectory, VAR_MODEL_ENTRY).isFile());
+        assertFalse(new File(contentDirectory, BINARY_ENTRY).exists());
+        assertTrue(new File(contentDirectory, CONF_BINARY_ENTRY).isFile());
+
+        assertTrue(copiedPaths.contains(LAUNCHER_ENTRY));
+        assertTrue(copiedPaths.contains("jcr_root/var/workflow"));
+        assertTrue(copiedPaths.contains("jcr_root/var/.content.xml"));
+        assertTrue(copiedPaths.contains(CONF_BINARY_ENTRY));
+        assertFalse(copiedPaths.contains(BINARY_ENTRY));
+    }
+
+    @Test
+    public void testMigratedPackageKeepsUncopiedEntries() throws Exception {
+        Set<String> copiedPaths = dao.copyWorkflowContent(packageFile, contentDirectory);
+        writeContent(new File(contentDirectory, LAUNCHER_ENTRY), "<changed/>");
+        writeContent(new File(contentDirectory, "jcr_root/conf/global/settings/created/.content.xml"), "<created/>");
+        FileUtil.deleteRecursively(new File(contentDirectory, "jcr_root/var/workflow"));
+        File target = new File(temp.newFolder(), packageFile.getName());
+
+        dao.writeMigratedPackage(packageFile, contentDirectory, copiedPaths, target);
+
+        try (ZipFile migrated = new ZipFile(target)) {
+            assertEquals("<changed/>", readEntry(migrated, LAUNCHER_ENTRY));
+            assertEquals("<created/>", readEntry(migrated, "jcr_root/conf/global/settings/created/.content.xml"));
+            assertEquals("binary", readEntry(migrated, BINARY_ENTRY));
+            assertEquals("icon", readEntry(migrated, CONF_BINARY_ENTRY));
+            assertNull(migrated.getEntry(VAR_MODEL_ENTRY));
+            assertNotNull(migrated.getEntry("jcr_root/var/.content.xml"));
+            assertNotNull(migrated.getEntry("META-INF/vault/filter.xml"));
+        }
+    }
+
+    @Test
+    public void testNewPackageWritten() throws Exception {
+        writeContent(new File(contentDirectory, "META-INF/vault/filter.xml"), "<workspaceFilter/>");
+        writeContent(new File(contentDirectory, "jcr_root/conf/global/settings/dam/processing/.content.xml"), "<profiles/>");
+        File target = new File(temp.newFolder(), MigrationConstants.MIGRATION_PROJECT_CONTENT + MigrationConstants.PACKAGE_EXTENSION);
+
+        dao.writeNewPackage(contentDirectory, MigrationConstants.MIGRATION_PROJECT_CONTENT, "1.0.0", target);
+
+        try (ZipFile created = new ZipFile(target)) {
+            assertEquals("<profiles/>", readEntry(created, "jcr_root/conf/global/settings/dam/processing/.content.xml"));
+            assertTrue(readEntry(created, "META-INF/vault/properties.xml").contains(MigrationConstants.MIGRATION_PROJECT_CONTENT));
+
+            List<String> files = created.stream().filter(entry -> !entry.isDirectory()).map(ZipEntry::getName).sorted().collect(Collectors.toList());
+            assertArrayEquals(new String[] {"META-INF/vault/filter.xml", "META-INF/vault/properties.xml",
+                    "jcr_root/conf/global/settings/dam/processing/.content.xml"}, files.toArray());
+        }
+    }
+
+    private static String readEntry(ZipFile zip, String name) throws IOException {
+        ZipEntry entry = zip.getEntry(name);
+        assertNotNull(name + " is missing", entry);
+        return new String(zip.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void zipDirectory(File directory, File target) throws IOException {
+        Path root = directory.toPath();
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(target));
+             Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                out.putNextEntry(new ZipEntry(root.relativize(file).toString().replace(File.separatorChar, '/')));
+                out.write(Files.readAllBytes(file));
+                out.closeEntry();
+            }
+        }
+    }
+
+    private static void writeContent(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
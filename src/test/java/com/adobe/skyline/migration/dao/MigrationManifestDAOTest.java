@@ -0,0 +1,76 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.dao;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.SkylineMigrationBaseTest;
+import com.adobe.skyline.migration.model.MigrationManifest;
+import com.adobe.skyline.migration.model.MigrationManifest.FileRecord;
+import com.adobe.skyline.migration.model.MigrationManifest.WorkflowRecord;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MigrationManifestDAOTest extends SkylineMigrationBaseTest {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        File project = temp.newFolder();
+        MigrationManifestDAO dao = new MigrationManifestDAO(project.getPath());
+
+        MigrationManifest manifest = dao.load();
+        FileRecord fileRecord = new FileRecord(1234L, 56L, "abcd");
+        fileRecord.putMatch("launcher", true);
+        fileRecord.putMatch("model", false);
+        manifest.putFileRecord("module/launcher.xml", fileRecord);
+        manifest.restoreFileRecord("module/deleted.xml", new FileRecord(1L, 1L, "ef"));
+        WorkflowRecord workflowRecord = new WorkflowRecord("/var/workflow/models/model");
+        workflowRecord.putInputHash("module/launcher.xml", "abcd");
+        workflowRecord.addProfileDirectory("content/profile");
+        manifest.putWorkflowRecord("module/model.xml", workflowRecord);
+        dao.save(manifest);
+
+        MigrationManifest loaded = dao.load();
+
+        FileRecord loadedFile = loaded.getFileRecord("module/launcher.xml");
+        assertTrue(loadedFile.hasStamp(1234L, 56L));
+        assertEquals("abcd", loadedFile.getHash());
+        assertEquals(Boolean.TRUE, loadedFile.getMatch("launcher"));
+        assertEquals(Boolean.FALSE, loadedFile.getMatch("model"));
+        assertNull(loaded.getFileRecord("module/deleted.xml"));
+
+        WorkflowRecord loadedWorkflow = loaded.getWorkflowRecord("module/model.xml");
+        assertEquals("/var/workflow/models/model", loadedWorkflow.getRuntimeComponent());
+        assertEquals(Collections.singletonMap("module/launcher.xml", "abcd"), loadedWorkflow.getInputHashes());
+        assertEquals(Collections.singletonList("content/profile"), loadedWorkflow.getProfileDirectories());
+    }
+
+    @Test
+    public void testUnreadableManifestIsEmpty() throws Exception {
+        File project = temp.newFolder();
+        Files.write(new File(project, MigrationConstants.MANIFEST_FILENAME).toPath(), "X\tgarbage".getBytes(StandardCharsets.UTF_8));
+
+        MigrationManifest manifest = new MigrationManifestDAO(project.getPath()).load();
+
+        assertTrue(manifest.getWorkflowRecords().isEmpty());
+        assertTrue(manifest.getSeenFileRecords().isEmpty());
+    }
+}
@@ -218,6 +218,44 @@ public class ProcessingProfileDAOTest extends SkylineMigrationBaseTest {
         assertTrue(rendition2Path.exists());
     }
 
+    @Test
+    public void testManyDuplicateRenditionNames() {
+        ProcessingProfile profile = new ProcessingProfile();
+        profile.setName(PROFILE_NAME);
+        for (int i = 0; i < 5; i++) {
+            profile.addRendition(createThumbnailRendition());
+        }
+
+        dao.addProfile(profile);
+
+        File profileDirectory = profile.getProfileDirectory();
+        assertTrue(new File(profileDirectory, "thumbnail").exists());
+        for (int i = 1; i < 5; i++) {
+            assertTrue(new File(profileDirectory, "thumbnail-" + i).exists());
+        }
+        assertFalse(new File(profileDirectory, "thumbnail-5").exists());
+    }
+
+    @Test
+    public void testProfileNameReusedAfterRemove() {
+        ProcessingProfile profile1 = createTestProfile();
+        dao.addProfile(profile1);
+        ProcessingProfile profile2 = createTestProfile();
+        dao.addProfile(profile2);
+
+        assertEquals(profile1.getProfileDirectory().getName() + "-1", profile2.getProfileDirectory().getName());
+
+        dao.removeProfile(profile1.getProfileDirectory());
+        assertFalse(profile1.getProfileDirectory().exists());
+
+        ProcessingProfile profile3 = createTestProfile();
+        dao.addProfile(profile3);
+
+        assertEquals(profile1.getProfileDirectory(), profile3.getProfileDirectory());
+        assertTrue(new File(profile3.getProfileDirectory(), "thumbnail").exists());
+        assertTrue(profile2.getProfileDirectory().exists());
+    }
+
     private ProcessingProfile createTestProfile() {
         Set<String> includedMimeTypes = new HashSet<>();
         includedMimeTypes.add("image/*");
@@ -0,0 +1,53 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.adobe.skyline.migration.MigrationConstants;
+
+public class ProjectTemplatesTest {
+
+    @Test
+    public void testTemplateReadOnce() throws Exception {
+        Map<String, byte[]> first = ProjectTemplates.getTemplate(MigrationConstants.TEMPLATE_PROJECT_CONTENT_PATH);
+        Map<String, byte[]> second = ProjectTemplates.getTemplate(MigrationConstants.TEMPLATE_PROJECT_CONTENT_PATH);
+
+        assertTrue(first.containsKey(MigrationConstants.POM_XML));
+        assertTrue(first.containsKey("src/main/content/META-INF/vault/filter.xml"));
+        assertSame(first.get(MigrationConstants.POM_XML), second.get(MigrationConstants.POM_XML));
+        assertTrue(ProjectTemplates.getTemplate(MigrationConstants.TEMPLATE_PROJECT_APPS_PATH).keySet().stream()
+                .noneMatch(path -> path.contains("jcr_root/conf")));
+    }
+
+    @Test
+    public void testPlaceholdersFilledIn() {
+        Map<String, String> values = new HashMap<>();
+        values.put("PARENT-GROUPID", "com.example");
+        values.put("PARENT-VERSION", "1.0-$NAPSHOT\\");
+
+        String pom = "<groupId>${PARENT-GROUPID}</groupId><version>${PARENT-VERSION}</version>${PARENT-GROUPID}${UNKNOWN}${";
+        byte[] filled = ProjectTemplates.fillIn(pom.getBytes(StandardCharsets.UTF_8), values);
+
+        assertEquals("<groupId>com.example</groupId><version>1.0-$NAPSHOT\\</version>com.example${UNKNOWN}${",
+                new String(filled, StandardCharsets.UTF_8));
+    }
+}
@@ -13,10 +13,16 @@
 package com.adobe.skyline.migration.dao;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -27,6 +33,7 @@ import com.adobe.skyline.migration.SkylineMigrationBaseTest;
 import com.adobe.skyline.migration.exception.CustomerDataException;
 import com.adobe.skyline.migration.model.workflow.WorkflowLauncher;
 import com.adobe.skyline.migration.testutils.TestConstants;
+import com.adobe.skyline.migration.util.DocumentCache;
 import com.adobe.skyline.migration.util.XmlUtil;
 
 public class WorkflowLauncherDAOTest extends SkylineMigrationBaseTest {
@@ -65,6 +72,59 @@ public class WorkflowLauncherDAOTest extends SkylineMigrationBaseTest {
         assertDisabled("scene7_digitalfolder_delivery_shop");
     }
 
+    @Test
+    public void testLauncherRead() throws CustomerDataException {
+        String moduleRoot = Path.of(tempProjectRoot.getPath(), TestConstants.CONF_WORKFLOW_PROJECT_NAME).toString();
+        WorkflowLauncher launcher = dao.getWorkflowLauncher(moduleRoot, getAbsolutePathForConfLauncher("update_asset_create"));
+
+        assertEquals("update_asset_create", launcher.getName());
+        assertEquals("/content/dam(/((?!/subassets)(?!/marketing/seasonal).)*/)renditions/original", launcher.getGlob());
+        assertEquals("event-user-data:changedByWorkflowProcess", launcher.getExcludeList());
+        assertEquals("/var/workflow/models/dam/update_asset", launcher.getModelPath());
+        assertEquals(Collections.singletonList("jcr:content/jcr:mimeType!=video/.*"), launcher.getConditions());
+        assertTrue(launcher.isEnabled());
+    }
+
+    @Test
+    public void testLegacyConditionProperty() throws Exception {
+        File launcherFile = writeLauncher("legacy", "condition=\"[jcr:content/jcr:mimeType==image/png]\" enabled=\"{Boolean}false\"");
+
+        WorkflowLauncher launcher = dao.getWorkflowLauncher(tempProjectRoot.getPath(), launcherFile.getPath());
+
+        assertEquals(Collections.singletonList("jcr:content/jcr:mimeType==image/png"), launcher.getConditions());
+        assertEquals("", launcher.getGlob());
+        assertFalse(launcher.isEnabled());
+    }
+
+    @Test(expected = CustomerDataException.class)
+    public void testMissingConditionsThrowsCustomerDataException() throws Exception {
+        File launcherFile = writeLauncher("unconditional", "glob=\"/content/dam(/.*)\"");
+
+        dao.getWorkflowLauncher(tempProjectRoot.getPath(), launcherFile.getPath());
+    }
+
+    @Test
+    public void testPendingChangesRead() throws Exception {
+        WorkflowLauncherDAO deferredDao = new WorkflowLauncherDAO(new DocumentCache(true));
+        String moduleRoot = Path.of(tempProjectRoot.getPath(), TestConstants.CONF_WORKFLOW_PROJECT_NAME).toString();
+        String launcherPath = getAbsolutePathForConfLauncher("update_asset_create");
+
+        deferredDao.disableLauncher(deferredDao.getWorkflowLauncher(moduleRoot, launcherPath));
+
+        assertFalse(deferredDao.getWorkflowLauncher(moduleRoot, launcherPath).isEnabled());
+        assertTrue(dao.getWorkflowLauncher(moduleRoot, launcherPath).isEnabled());
+    }
+
+    private File writeLauncher(String name, String properties) throws IOException {
+        File launcherFile = new File(tempProjectRoot, name + "/" + MigrationConstants.CONTENT_XML);
+        launcherFile.getParentFile().mkdirs();
+        Files.write(launcherFile.toPath(), ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<jcr:root xmlns:jcr=\"http://www.jcp.org/jcr/1.0\" jcr:primaryType=\"cq:WorkflowLauncher\" " + properties + ">\n"
+                + "    <child/>\n"
+                + "</jcr:root>\n").getBytes(StandardCharsets.UTF_8));
+        return launcherFile;
+    }
+
     private WorkflowLauncher createLauncher(String glob, String name) {
         WorkflowLauncher launcher = new WorkflowLauncher();
 
@@ -95,6 +95,21 @@ public class WorkflowRunnerConfigDAOTest extends SkylineMigrationBaseTest {
         assertEquals(PATH_2 + ":" + PATH_MODEL, patternMappings.get(1));
     }
 
+    @Test
+    public void testConfigAppendedToExistingFile() throws IOException, ParserConfigurationException, SAXException {
+        dao.createConfigByPath(PATH, PATH_MODEL);
+
+        WorkflowRunnerConfigDAO secondRunDao = new WorkflowRunnerConfigDAO(Paths.get(tempProjectRoot.getPath(), MigrationConstants.MIGRATION_PROJECT_APPS).toString());
+        secondRunDao.createConfigByPath(PATH_2, PATH_MODEL);
+
+        File configFile = new File(Paths.get(tempProjectRoot.getPath(), CONFIG_FILE_REL_PATH).toString());
+        List<String> patternMappings = getPatternMappingsFromFile(configFile, MigrationConstants.WORKFLOW_RUNNER_CONFIG_BY_PATH);
+
+        assertEquals(2, patternMappings.size());
+        assertEquals(PATH + ":" + PATH_MODEL, patternMappings.get(0));
+        assertEquals(PATH_2 + ":" + PATH_MODEL, patternMappings.get(1));
+    }
+
     private List<String> getPatternMappingsFromFile(File configFile, String mappingProp) throws ParserConfigurationException, SAXException, IOException {
         Document xmlDoc = XmlUtil.loadXml(configFile);
         Element rootElem = xmlDoc.getDocumentElement();
@@ -0,0 +1,149 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.model.workflow.WorkflowStep;
+import com.adobe.skyline.migration.util.XmlUtil;
+
+public class WorkflowStepReaderTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testStepsMatchDocument() throws Exception {
+        List<Path> contentFiles;
+        try (Stream<Path> paths = Files.walk(Paths.get("src/test/resources"))) {
+            contentFiles = paths.filter(path -> path.getFileName().toString().equals(MigrationConstants.CONTENT_XML))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        int modelsWithSteps = 0;
+        for (Path contentFile : contentFiles) {
+            List<WorkflowStep> expected = readStepsFromDocument(XmlUtil.loadXml(contentFile.toFile()));
+            List<WorkflowStep> actual = WorkflowStepReader.readSteps(contentFile.toFile());
+
+            assertEquals(contentFile.toString(), describe(expected), describe(actual));
+            if (!actual.isEmpty()) {
+                modelsWithSteps++;
+            }
+        }
+
+        assertTrue(modelsWithSteps > 10);
+    }
+
+    @Test
+    public void testStepsRead() throws Exception {
+        File model = writeModel("<jcr:root xmlns:jcr=\"http://www.jcp.org/jcr/1.0\"><jcr:content><model><nodes>"
+                + "<flow>"
+                + "<process jcr:title=\"Process\"><metadata PROCESS=\"com.example.Process\" PROCESS_AUTO_ADVANCE=\"true\"/></process>"
+                + "<external><METADATA EXTERNAL_PROCESS=\"com.example.External\"/><metadata PROCESS=\"ignored\"/></external>"
+                + "<split/>"
+                + "</flow>"
+                + "</nodes></model></jcr:content></jcr:root>");
+
+        List<WorkflowStep> steps = WorkflowStepReader.readSteps(model);
+
+        assertEquals(3, steps.size());
+        assertEquals("process", steps.get(0).getNodeName());
+        assertEquals("com.example.Process", steps.get(0).getProcess());
+        assertEquals("true", steps.get(0).getMetadata().get("PROCESS_AUTO_ADVANCE"));
+        assertEquals("external", steps.get(1).getNodeName());
+        assertEquals("com.example.External", steps.get(1).getProcess());
+        assertNull(steps.get(2).getNodeName());
+        assertNull(steps.get(2).getProcess());
+    }
+
+    @Test
+    public void testModelWithSeveralFlowsHasNoSteps() throws Exception {
+        File model = writeModel("<jcr:root xmlns:jcr=\"http://www.jcp.org/jcr/1.0\">"
+                + "<flow><process><metadata PROCESS=\"com.example.Process\"/></process></flow>"
+                + "<branch><flow/></branch>"
+                + "</jcr:root>");
+
+        assertTrue(WorkflowStepReader.readSteps(model).isEmpty());
+    }
+
+    private File writeModel(String content) throws Exception {
+        File model = temp.newFile();
+        Files.write(model.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return model;
+    }
+
+    //Reads the steps the way WorkflowModelDAO does from a parsed model
+    private List<WorkflowStep> readStepsFromDocument(Document modelXml) {
+        List<WorkflowStep> steps = new ArrayList<>();
+
+        NodeList flowNodes = modelXml.getElementsByTagName(MigrationConstants.FLOW_NODE);
+        if (flowNodes.getLength() != 1) {
+            return steps;
+        }
+
+        for (Node stepNode : XmlUtil.getChildElementNodes(flowNodes.item(0))) {
+            WorkflowStep step = new WorkflowStep();
+            for (Node child : XmlUtil.getChildElementNodes(stepNode)) {
+                if (child.getNodeName().equalsIgnoreCase(MigrationConstants.METADATA_XML_NODE)) {
+                    NamedNodeMap attributes = child.getAttributes();
+                    Map<String, String> metadata = new HashMap<>();
+                    for (int i = 0; i < attributes.getLength(); i++) {
+                        metadata.put(attributes.item(i).getNodeName(), attributes.item(i).getNodeValue());
+                    }
+
+                    step.setNodeName(stepNode.getNodeName());
+                    step.setMetadata(metadata);
+                    step.setProcess(metadata.containsKey(MigrationConstants.PROCESS_PROP)
+                            ? metadata.get(MigrationConstants.PROCESS_PROP) : metadata.get(MigrationConstants.EXTERNAL_PROCESS_PROP));
+                    break;
+                }
+            }
+            steps.add(step);
+        }
+
+        return steps;
+    }
+
+    private List<String> describe(List<WorkflowStep> steps) {
+        List<String> descriptions = new ArrayList<>();
+        for (WorkflowStep step : steps) {
+            descriptions.add(step.getNodeName() + " " + step.getProcess() + " " + (step.getMetadata() == null ? null : new TreeMap<>(step.getMetadata())));
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.main;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.SkylineMigrationBaseTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BatchMigrationRunnerTest extends SkylineMigrationBaseTest {
+
+    @Test
+    public void testFindProjectsInManifest() throws Exception {
+        File manifestDir = temp.newFolder();
+        File manifest = new File(manifestDir, "projects.txt");
+        Files.write(manifest.toPath(), Arrays.asList("# Fleet", "", "  relative/project  ", "/absolute/project"), StandardCharsets.UTF_8);
+
+        List<String> projects = BatchMigrationRunner.findProjects(manifest);
+
+        assertEquals(Arrays.asList(new File(manifestDir.getAbsoluteFile(), "relative/project").getPath(), "/absolute/project"), projects);
+    }
+
+    @Test
+    public void testFindProjectsInDirectory() throws Exception {
+        File parentDir = temp.newFolder();
+        File secondProject = new File(parentDir, "b-project");
+        File firstProject = new File(parentDir, "a-project");
+        assertTrue(secondProject.mkdirs() && firstProject.mkdirs());
+        assertTrue(new File(secondProject, MigrationConstants.POM_XML).createNewFile());
+        assertTrue(new File(firstProject, MigrationConstants.POM_XML).createNewFile());
+        assertTrue(new File(parentDir, "not-a-project").mkdirs());
+
+        List<String> projects = BatchMigrationRunner.findProjects(parentDir);
+
+        assertEquals(Arrays.asList(firstProject.getPath(), secondProject.getPath()), projects);
+    }
+
+    @Test
+    public void testRunMigratesEachProject() throws Exception {
+        File firstProject = projectLoader.copyConfProjectToTemp(temp);
+        File secondProject = projectLoader.copyEtcProjectToTemp(temp);
+        File failingProject = projectLoader.copyMissingWorkflowProjectToTemp(temp);
+        File reportRoot = temp.newFolder();
+
+        BatchMigrationRunner runner = new BatchMigrationRunner(config, reportRoot.getPath(), 2, 2);
+        int failures = runner.run(Arrays.asList(firstProject.getPath(), failingProject.getPath(), secondProject.getPath()));
+
+        assertEquals(1, failures);
+        assertTrue(new File(reportRoot, firstProject.getName() + "/" + MigrationConstants.REPORT_FILENAME).exists());
+        assertTrue(new File(reportRoot, secondProject.getName() + "/" + MigrationConstants.REPORT_FILENAME).exists());
+        assertFalse(new File(reportRoot, failingProject.getName() + "/" + MigrationConstants.REPORT_FILENAME).exists());
+        assertTrue(new File(firstProject, MigrationConstants.MIGRATION_PROJECT_APPS).exists());
+    }
+
+    @Test
+    public void testReportDirectoriesAreUnique() throws Exception {
+        File firstParent = temp.newFolder();
+        File secondParent = temp.newFolder();
+        File firstProject = new File(firstParent, "project");
+        File secondProject = new File(secondParent, "project");
+        File reportRoot = temp.newFolder();
+        assertTrue(projectLoader.copyConfProjectToTemp(temp).renameTo(firstProject));
+        assertTrue(projectLoader.copyConfProjectToTemp(temp).renameTo(secondProject));
+
+        int failures = new BatchMigrationRunner(config, reportRoot.getPath(), 1, 1).run(Arrays.asList(firstProject.getPath(), secondProject.getPath()));
+
+        assertEquals(0, failures);
+        assertTrue(new File(reportRoot, "project/" + MigrationConstants.REPORT_FILENAME).exists());
+        assertTrue(new File(reportRoot, "project-2/" + MigrationConstants.REPORT_FILENAME).exists());
+    }
+
+    @Test
+    public void testProjectNameOfRootPath() {
+        assertEquals("project", BatchMigrationRunner.getProjectName(File.separator));
+        assertEquals("a-project", BatchMigrationRunner.getProjectName(new File("parent", "a-project").getPath()));
+    }
+}
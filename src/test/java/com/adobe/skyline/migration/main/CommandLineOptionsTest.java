@@ -0,0 +1,105 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.main;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CommandLineOptionsTest {
+
+    @Test
+    public void testDefaults() {
+        CommandLineOptions options = new CommandLineOptions(new String[]{"project", "report"});
+
+        assertEquals(Arrays.asList("project", "report"), options.getPositionalArgs());
+        assertEquals(1, options.getThreads());
+    }
+
+    @Test
+    public void testThreadsOption() {
+        CommandLineOptions options = new CommandLineOptions(new String[]{"project", "--threads", "4", "report"});
+
+        assertEquals(Arrays.asList("project", "report"), options.getPositionalArgs());
+        assertEquals(4, options.getThreads());
+    }
+
+    @Test
+    public void testIncrementalOption() {
+        assertFalse(new CommandLineOptions(new String[]{"project"}).isIncremental());
+        assertTrue(new CommandLineOptions(new String[]{"--incremental", "project"}).isIncremental());
+    }
+
+    @Test
+    public void testDryRunOption() {
+        assertFalse(new CommandLineOptions(new String[]{"project"}).isDryRun());
+        assertTrue(new CommandLineOptions(new String[]{"project", "--dry-run"}).isDryRun());
+    }
+
+    @Test
+    public void testBatchOptions() {
+        CommandLineOptions options = new CommandLineOptions(new String[]{"--batch", "projects.txt", "--concurrency", "3", "report"});
+
+        assertTrue(options.isBatch());
+        assertEquals("projects.txt", options.getBatchSource());
+        assertEquals(3, options.getConcurrency());
+        assertEquals(Arrays.asList("report"), options.getPositionalArgs());
+    }
+
+    @Test
+    public void testBatchDefaults() {
+        CommandLineOptions options = new CommandLineOptions(new String[]{"project"});
+
+        assertFalse(options.isBatch());
+        assertEquals(1, options.getConcurrency());
+    }
+
+    @Test
+    public void testPackageOptions() {
+        CommandLineOptions options = new CommandLineOptions(new String[]{"--package", "ui.apps.zip", "--package", "ui.content.zip", "output"});
+
+        assertTrue(options.isPackageMode());
+        assertEquals(Arrays.asList("ui.apps.zip", "ui.content.zip"), options.getPackages());
+        assertEquals(Arrays.asList("output"), options.getPositionalArgs());
+        assertFalse(new CommandLineOptions(new String[]{"project"}).isPackageMode());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPackageOptionNotIncremental() {
+        new CommandLineOptions(new String[]{"--package", "ui.content.zip", "--incremental", "output"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidConcurrency() {
+        new CommandLineOptions(new String[]{"--batch", "projects", "--concurrency", "none"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreadCount() {
+        new CommandLineOptions(new String[]{"--threads", "0", "project"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingThreadCount() {
+        new CommandLineOptions(new String[]{"project", "--threads"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownOption() {
+        new CommandLineOptions(new String[]{"--fast", "project"});
+    }
+}
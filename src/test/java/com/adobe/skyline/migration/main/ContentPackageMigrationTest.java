@@ -0,0 +1,108 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.main;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Test;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.SkylineMigrationBaseTest;
+import com.adobe.skyline.migration.testutils.TestConstants;
+
+public class ContentPackageMigrationTest extends SkylineMigrationBaseTest {
+
+    private static final String LAUNCHER_ENTRY = "jcr_root/conf/global/settings/workflow/launcher/config/update_asset_mod/.content.xml";
+    private static final String BINARY_ENTRY = "jcr_root/content/dam/sample/image.jpg";
+
+    @Test
+    public void testPackagesMigrated() throws Exception {
+        File projectRoot = projectLoader.copyConfProjectToTemp(temp);
+        File moduleContent = Path.of(projectRoot.getPath(), TestConstants.CONF_WORKFLOW_PROJECT_NAME, TestConstants.MAIN_CONTENT_PATH).toFile();
+        Files.write(new File(moduleContent, BINARY_ENTRY).toPath(), "binary".getBytes(StandardCharsets.UTF_8));
+        File packageFile = new File(temp.newFolder(), "ui.content.zip");
+        zipDirectory(moduleContent, packageFile);
+        File outputDir = new File(temp.getRoot(), "output");
+
+        ContentPackageMigration migration = new ContentPackageMigration(config, temp.newFolder().getPath(), 1, false);
+        migration.migrate(Collections.singletonList(packageFile), outputDir);
+
+        String[] packages = outputDir.list();
+        Arrays.sort(packages);
+        assertArrayEquals(new String[] {MigrationConstants.MIGRATION_PROJECT_APPS + ".zip", MigrationConstants.MIGRATION_PROJECT_CONTENT + ".zip",
+                "ui.content.zip"}, packages);
+
+        try (ZipFile migrated = new ZipFile(new File(outputDir, "ui.content.zip"))) {
+            assertTrue(readEntry(migrated, LAUNCHER_ENTRY).contains("enabled=\"{Boolean}false\""));
+            assertEquals("binary", readEntry(migrated, BINARY_ENTRY));
+            assertNull(migrated.getEntry("jcr_root/var/workflow/.content.xml"));
+        }
+
+        try (ZipFile created = new ZipFile(new File(outputDir, MigrationConstants.MIGRATION_PROJECT_CONTENT + ".zip"))) {
+            assertNotNull(created.getEntry("META-INF/vault/filter.xml"));
+            assertNotNull(created.getEntry("jcr_root/conf/global/settings/dam/processing/.content.xml"));
+        }
+    }
+
+    @Test
+    public void testPackageNameEscapedInPoms() throws Exception {
+        File projectRoot = projectLoader.copyConfProjectToTemp(temp);
+        File moduleContent = Path.of(projectRoot.getPath(), TestConstants.CONF_WORKFLOW_PROJECT_NAME, TestConstants.MAIN_CONTENT_PATH).toFile();
+        File packageFile = new File(temp.newFolder(), "ui.content&<1>.zip");
+        zipDirectory(moduleContent, packageFile);
+        File outputDir = new File(temp.getRoot(), "output");
+
+        ContentPackageMigration migration = new ContentPackageMigration(config, temp.newFolder().getPath(), 1, false);
+        migration.migrate(Collections.singletonList(packageFile), outputDir);
+
+        try (ZipFile migrated = new ZipFile(new File(outputDir, packageFile.getName()))) {
+            assertTrue(readEntry(migrated, LAUNCHER_ENTRY).contains("enabled=\"{Boolean}false\""));
+        }
+    }
+
+    private static String readEntry(ZipFile zip, String name) throws IOException {
+        ZipEntry entry = zip.getEntry(name);
+        assertNotNull(name + " is missing", entry);
+        return new String(zip.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void zipDirectory(File directory, File target) throws IOException {
+        Path root = directory.toPath();
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(target));
+             Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                out.putNextEntry(new ZipEntry(root.relativize(file).toString().replace(File.separatorChar, '/')));
+                out.write(Files.readAllBytes(file));
+                out.closeEntry();
+            }
+        }
+    }
+}
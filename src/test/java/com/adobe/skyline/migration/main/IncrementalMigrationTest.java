@@ -0,0 +1,129 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.main;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.SkylineMigrationBaseTest;
+import com.adobe.skyline.migration.dao.MigrationManifestDAO;
+import com.adobe.skyline.migration.dao.ProcessingProfileDAO;
+import com.adobe.skyline.migration.dao.WorkflowLauncherDAO;
+import com.adobe.skyline.migration.dao.WorkflowModelDAO;
+import com.adobe.skyline.migration.dao.WorkflowRunnerConfigDAO;
+import com.adobe.skyline.migration.model.MigrationManifest;
+import com.adobe.skyline.migration.model.workflow.WorkflowProject;
+import com.adobe.skyline.migration.parser.CustomerProjectLoader;
+import com.adobe.skyline.migration.util.DocumentCache;
+import com.adobe.skyline.migration.util.file.FileUtil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalMigrationTest extends SkylineMigrationBaseTest {
+
+    private static final String UPDATE_ASSET_MODEL = "ui.conf.wf/src/main/content/jcr_root/conf/global/settings/workflow/models/dam/update_asset/.content.xml";
+    private static final String MARKETING_MODEL_DIR = "ui.content/src/main/content/jcr_root/conf/global/settings/workflow/models/update_asset_marketing";
+    private static final String MARKETING_LAUNCHER = "ui.content/src/main/content/jcr_root/conf/global/settings/workflow/launcher/config/update-asset-marketing-launcher/.content.xml";
+    private static final String MARKETING_PROFILE_DIR = "aem-cloud-migration.content/src/main/content/jcr_root/conf/global/settings/dam/processing/migrated_from_update_asset_marketing";
+    private static final String MARKETING_RUNTIME_MODEL = "/var/workflow/models/update_asset_marketing";
+
+    @Test
+    public void testUnchangedWorkflowIsSkipped() throws Exception {
+        File project = projectLoader.copyNoLauncherProjectToTemp(temp);
+        migrateIncrementally(project);
+
+        MigrationManifest manifest = new MigrationManifestDAO(project.getPath()).load();
+        List<WorkflowProject> projects = loadProjects(project, manifest);
+
+        assertEquals(1, createIncrementalMigration(project, manifest).skipUnchangedWorkflows(projects));
+        assertTrue(projects.get(0).getWorkflows().isEmpty());
+    }
+
+    @Test
+    public void testChangedWorkflowIsMigrated() throws Exception {
+        File project = projectLoader.copyNoLauncherProjectToTemp(temp);
+        migrateIncrementally(project);
+
+        File model = new File(project, UPDATE_ASSET_MODEL);
+        Files.write(model.toPath(), "<!-- Changed -->\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        MigrationManifest manifest = new MigrationManifestDAO(project.getPath()).load();
+        List<WorkflowProject> projects = loadProjects(project, manifest);
+
+        assertEquals(0, createIncrementalMigration(project, manifest).skipUnchangedWorkflows(projects));
+        assertEquals(1, projects.get(0).getWorkflows().size());
+    }
+
+    @Test
+    public void testRemigratedWorkflowKeepsOutputs() throws Exception {
+        File project = projectLoader.copyConfProjectToTemp(temp);
+        migrateIncrementally(project);
+        File runnerConfig = getRunnerConfigFile(project);
+        String migratedRunnerConfig = new String(Files.readAllBytes(runnerConfig.toPath()), StandardCharsets.UTF_8);
+
+        File launcher = new File(project, MARKETING_LAUNCHER);
+        String launcherXml = new String(Files.readAllBytes(launcher.toPath()), StandardCharsets.UTF_8);
+        Files.write(launcher.toPath(), launcherXml.replace("enabled=\"{Boolean}false\"", "enabled=\"{Boolean}true\"").getBytes(StandardCharsets.UTF_8));
+        migrateIncrementally(project);
+
+        assertEquals(migratedRunnerConfig, new String(Files.readAllBytes(runnerConfig.toPath()), StandardCharsets.UTF_8));
+        assertTrue(new File(project, MARKETING_PROFILE_DIR).isDirectory());
+    }
+
+    @Test
+    public void testDeletedModelOutputsAreRemoved() throws Exception {
+        File project = projectLoader.copyConfProjectToTemp(temp);
+        migrateIncrementally(project);
+        assertTrue(new File(project, MARKETING_PROFILE_DIR).isDirectory());
+
+        FileUtil.deleteRecursively(new File(project, MARKETING_MODEL_DIR));
+        migrateIncrementally(project);
+
+        assertFalse(new File(project, MARKETING_PROFILE_DIR).exists());
+        String runnerConfig = new String(Files.readAllBytes(getRunnerConfigFile(project).toPath()), StandardCharsets.UTF_8);
+        assertFalse(runnerConfig.contains(MARKETING_RUNTIME_MODEL));
+        assertNull(new MigrationManifestDAO(project.getPath()).load().getWorkflowRecord(MARKETING_MODEL_DIR + "/" + MigrationConstants.CONTENT_XML));
+    }
+
+    private void migrateIncrementally(File project) throws Exception {
+        new MigrationOrchestrator(project.getPath(), config, temp.newFolder().getPath(), 1, true).exec();
+    }
+
+    private List<WorkflowProject> loadProjects(File project, MigrationManifest manifest) throws Exception {
+        DocumentCache documentCache = new DocumentCache();
+        CustomerProjectLoader loader = new CustomerProjectLoader(queryService, new WorkflowLauncherDAO(documentCache),
+                new WorkflowModelDAO(documentCache), documentCache, manifest);
+        return loader.getWorkflowProjects(project.getPath());
+    }
+
+    private IncrementalMigration createIncrementalMigration(File project, MigrationManifest manifest) {
+        String contentProjectPath = Paths.get(project.getPath(), MigrationConstants.MIGRATION_PROJECT_CONTENT).toString();
+        String appsProjectPath = Paths.get(project.getPath(), MigrationConstants.MIGRATION_PROJECT_APPS).toString();
+        return new IncrementalMigration(manifest, new WorkflowRunnerConfigDAO(appsProjectPath), new ProcessingProfileDAO(contentProjectPath));
+    }
+
+    private File getRunnerConfigFile(File project) {
+        return Paths.get(project.getPath(), MigrationConstants.MIGRATION_PROJECT_APPS, MigrationConstants.PATH_TO_JCR_ROOT,
+                MigrationConstants.WORKFLOW_RUNNER_CONFIG_PATH, MigrationConstants.WORKFLOW_RUNNER_CONFIG_FILENAME).toFile();
+    }
+}
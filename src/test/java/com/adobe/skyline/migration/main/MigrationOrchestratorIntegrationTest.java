@@ -15,10 +15,19 @@ package com.adobe.skyline.migration.main;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -35,6 +44,7 @@ import com.adobe.skyline.migration.SkylineMigrationBaseTest;
 import com.adobe.skyline.migration.dao.FilterFileDAO;
 import com.adobe.skyline.migration.exception.CustomerDataException;
 import com.adobe.skyline.migration.exception.ProjectCreationException;
+import com.adobe.skyline.migration.testutils.SyntheticProjectGenerator;
 import com.adobe.skyline.migration.testutils.TestConstants;
 import com.adobe.skyline.migration.util.XmlUtil;
 
@@ -146,12 +156,146 @@ public class MigrationOrchestratorIntegrationTest extends SkylineMigrationBaseTe
         validateLegacyProjectReportOutput();
     }
 
+    @Test
+    public void testParallelMigrationMatchesSequential() throws Exception {
+        File sequentialProject = projectLoader.copyConfProjectToTemp(temp);
+        File parallelProject = projectLoader.copyConfProjectToTemp(temp);
+        File parallelReportDir = temp.newFolder();
+
+        new MigrationOrchestrator(sequentialProject.getPath(), config, reportOutputDir.getPath()).exec();
+        new MigrationOrchestrator(parallelProject.getPath(), config, parallelReportDir.getPath(), 4).exec();
+
+        assertSameTree(sequentialProject, parallelProject);
+
+        String sequentialReport = new String(Files.readAllBytes(new File(reportOutputDir, MigrationConstants.REPORT_FILENAME).toPath()), StandardCharsets.UTF_8);
+        String parallelReport = new String(Files.readAllBytes(new File(parallelReportDir, MigrationConstants.REPORT_FILENAME).toPath()), StandardCharsets.UTF_8);
+        assertEquals(sequentialReport.replace(sequentialProject.getPath(), ""), parallelReport.replace(parallelProject.getPath(), ""));
+    }
+
+    @Test
+    public void testSyntheticProjectIsDeterministic() throws Exception {
+        File firstProject = temp.newFolder();
+        File secondProject = temp.newFolder();
+
+        createSyntheticProjectGenerator().generate(firstProject);
+        createSyntheticProjectGenerator().generate(secondProject);
+
+        assertSameTree(firstProject, secondProject);
+    }
+
+    @Test
+    public void testSyntheticProjectParallelMigrationMatchesSequential() throws Exception {
+        assertParallelMigrationMatchesSequential(createSyntheticProjectGenerator());
+    }
+
+    @Test
+    public void testLargeSyntheticProjectParallelMigrationMatchesSequential() throws Exception {
+        SyntheticProjectGenerator generator = createSyntheticProjectGenerator();
+        generator.setModules(24);
+        generator.setNoiseFilesPerModule(200);
+        generator.setBinaryFilesPerModule(20);
+        assertParallelMigrationMatchesSequential(generator);
+    }
+
+    @Test
+    public void testDryRunLeavesProjectUnchanged() throws Exception {
+        File pristineProject = projectLoader.copyConfProjectToTemp(temp);
+        File dryRunProject = projectLoader.copyConfProjectToTemp(temp);
+        File migratedProject = projectLoader.copyConfProjectToTemp(temp);
+        File dryRunReportDir = temp.newFolder();
+
+        new MigrationOrchestrator(dryRunProject.getPath(), config, dryRunReportDir.getPath(), 1, false, true).exec();
+        new MigrationOrchestrator(migratedProject.getPath(), config, reportOutputDir.getPath()).exec();
+
+        assertSameTree(pristineProject, dryRunProject);
+
+        String dryRunReport = new String(Files.readAllBytes(new File(dryRunReportDir, MigrationConstants.REPORT_FILENAME).toPath()), StandardCharsets.UTF_8);
+        String migrationReport = new String(Files.readAllBytes(new File(reportOutputDir, MigrationConstants.REPORT_FILENAME).toPath()), StandardCharsets.UTF_8);
+        assertEquals(migrationReport.replace(migratedProject.getPath(), ""), dryRunReport.replace(dryRunProject.getPath(), ""));
+
+        //Every file that the migration creates or changes is planned, and nothing else
+        Set<String> writtenFiles = new TreeSet<>();
+        for (Path file : listRelativePaths(migratedProject.toPath())) {
+            File pristine = pristineProject.toPath().resolve(file).toFile();
+            File migrated = migratedProject.toPath().resolve(file).toFile();
+            if (migrated.isFile() && (!pristine.exists() || !Arrays.equals(Files.readAllBytes(pristine.toPath()), Files.readAllBytes(migrated.toPath())))) {
+                writtenFiles.add(file.toString().replace(File.separatorChar, '/'));
+            }
+        }
+
+        String plan = new String(Files.readAllBytes(new File(dryRunReportDir, MigrationConstants.PLAN_NAME + "." + MigrationConstants.PLAN_EXTENSION).toPath()), StandardCharsets.UTF_8);
+        Set<String> plannedWrites = new TreeSet<>();
+        List<String> plannedDeletes = new ArrayList<>();
+        Matcher operation = Pattern.compile("\\{\"action\": \"(\\w+)\", \"path\": \"([^\"]*)\"}").matcher(plan);
+        while (operation.find()) {
+            if (operation.group(1).equals("delete")) {
+                plannedDeletes.add(operation.group(2));
+            } else {
+                plannedWrites.add(operation.group(2));
+            }
+        }
+
+        assertEquals(writtenFiles, plannedWrites);
+        assertEquals(Arrays.asList("ui.content/src/main/content/jcr_root/var/workflow"), plannedDeletes);
+        assertFalse(new File(migratedProject, "ui.content/src/main/content/jcr_root/var/workflow").exists());
+        assertTrue(new File(pristineProject, "ui.content/src/main/content/jcr_root/var/workflow").exists());
+    }
+
     @Test(expected = CustomerDataException.class)
     public void testNoWorkflowProjectThrowsCustomerDataException() throws ProjectCreationException, CustomerDataException {
         File testProject  = projectLoader.copyMissingWorkflowProjectToTemp(temp);
         new MigrationOrchestrator(testProject.getPath(), config, reportOutputDir.getPath()).exec();
     }
 
+    private void assertParallelMigrationMatchesSequential(SyntheticProjectGenerator generator) throws Exception {
+        File sequentialProject = temp.newFolder();
+        File parallelProject = temp.newFolder();
+        File parallelReportDir = temp.newFolder();
+        generator.generate(sequentialProject);
+        generator.generate(parallelProject);
+
+        new MigrationOrchestrator(sequentialProject.getPath(), config, reportOutputDir.getPath()).exec();
+        new MigrationOrchestrator(parallelProject.getPath(), config, parallelReportDir.getPath(), 4).exec();
+
+        assertSameTree(sequentialProject, parallelProject);
+        assertTrue(new File(sequentialProject, "ui.content.0/src/main/content/jcr_root/conf/global/settings/workflow/launcher/config/ui-content-0-launcher-0/.content.xml").exists());
+
+        String sequentialReport = new String(Files.readAllBytes(new File(reportOutputDir, MigrationConstants.REPORT_FILENAME).toPath()), StandardCharsets.UTF_8);
+        String parallelReport = new String(Files.readAllBytes(new File(parallelReportDir, MigrationConstants.REPORT_FILENAME).toPath()), StandardCharsets.UTF_8);
+        assertEquals(sequentialReport.replace(sequentialProject.getPath(), ""), parallelReport.replace(parallelProject.getPath(), ""));
+    }
+
+    private SyntheticProjectGenerator createSyntheticProjectGenerator() {
+        SyntheticProjectGenerator generator = new SyntheticProjectGenerator();
+        generator.setSeed(42);
+        generator.setModules(3);
+        generator.setLaunchersPerModule(3);
+        generator.setModelsPerModule(3);
+        generator.setStepsPerModel(12);
+        generator.setNoiseFilesPerModule(20);
+        generator.setBinaryFilesPerModule(4);
+        return generator;
+    }
+
+    private void assertSameTree(File expectedRoot, File actualRoot) throws IOException {
+        List<Path> expectedFiles = listRelativePaths(expectedRoot.toPath());
+        assertEquals(expectedFiles, listRelativePaths(actualRoot.toPath()));
+
+        for (Path file : expectedFiles) {
+            File expected = expectedRoot.toPath().resolve(file).toFile();
+            if (expected.isFile()) {
+                assertTrue("Content differs for " + file, Arrays.equals(Files.readAllBytes(expected.toPath()),
+                        Files.readAllBytes(actualRoot.toPath().resolve(file))));
+            }
+        }
+    }
+
+    private List<Path> listRelativePaths(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.map(root::relativize).sorted().collect(Collectors.toList());
+        }
+    }
+
     private void assertLauncherEnabled(String launcherPath) {
         assertEnabledState(launcherPath, MigrationConstants.TRUE_VALUE);
     }
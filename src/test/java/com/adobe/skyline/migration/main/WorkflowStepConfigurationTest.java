@@ -18,6 +18,7 @@ import org.junit.Test;
 import com.adobe.skyline.migration.model.WorkflowStepSupportStatus;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class WorkflowStepConfigurationTest {
@@ -38,4 +39,39 @@ public class WorkflowStepConfigurationTest {
     public void testUnknownSupportedStatus() {
         assertEquals(WorkflowStepSupportStatus.UNKNOWN, config.getStepSupportedStatus("com.customer.custom.WorkflowStep"));
     }
+
+    @Test
+    public void testStepClassification() {
+        String required = "com.day.cq.dam.core.impl.process.DamUpdateAssetWorkflowCompletedProcess";
+        assertEquals(WorkflowStepSupportStatus.REQUIRED, config.getStepSupportedStatus(required));
+        assertTrue(config.isStepEnabledOnSkyline(required));
+        assertTrue(config.isOptionalStep(required));
+
+        String supported = "com.day.cq.wcm.workflow.process.CreateVersionProcess";
+        assertEquals(WorkflowStepSupportStatus.SUPPORTED, config.getStepSupportedStatus(supported));
+        assertTrue(config.isStepEnabledOnSkyline(supported));
+        assertFalse(config.isOptionalStep(supported));
+
+        String migrated = "com.day.cq.dam.core.process.CreateWebEnabledImageProcess";
+        assertEquals(WorkflowStepSupportStatus.NUI_MIGRATED, config.getStepSupportedStatus(migrated));
+        assertFalse(config.isStepEnabledOnSkyline(migrated));
+        assertFalse(config.isOptionalStep(migrated));
+    }
+
+    @Test
+    public void testUnknownStepEnabled() {
+        String custom = "com.customer.custom.WorkflowStep";
+        assertTrue(config.isStepEnabledOnSkyline(custom));
+        assertFalse(config.isOptionalStep(custom));
+        assertTrue(config.isStepEnabledOnSkyline(null));
+        assertFalse(config.isOptionalStep(null));
+    }
+
+    @Test
+    public void testInstancesAgree() {
+        WorkflowStepConfiguration other = new WorkflowStepConfiguration();
+        String unsupported = "com.day.cq.dam.core.process.CommandLineProcess";
+        assertEquals(config.getStepSupportedStatus(unsupported), other.getStepSupportedStatus(unsupported));
+        assertEquals(WorkflowStepSupportStatus.UNSUPPORTED, other.getStepSupportedStatus(unsupported));
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ChangeTrackingServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int STEPS_PER_MODEL = 500;
+
+    @Test
+    public void testConcurrentStepTracking() throws Exception {
+        ChangeTrackingService changeTracker = new ChangeTrackingService();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int worker = t;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < STEPS_PER_MODEL; i++) {
+                        //Every worker writes to its own model and to a model shared by all of them
+                        changeTracker.trackModifiedWorkflowStep("/model/" + worker, "step" + i, WorkflowStepSupportStatus.UNSUPPORTED);
+                        changeTracker.trackModifiedWorkflowStep("/model/shared", "step" + worker + "-" + i, WorkflowStepSupportStatus.UNSUPPORTED);
+                        changeTracker.trackLauncherDisabled("launcher" + worker + "-" + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, Map<String, WorkflowStepSupportStatus>> modifiedSteps = changeTracker.getModifiedWorkflowSteps();
+        assertEquals(THREADS + 1, modifiedSteps.size());
+        assertEquals(STEPS_PER_MODEL * THREADS, modifiedSteps.get("/model/shared").size());
+        for (int t = 0; t < THREADS; t++) {
+            List<String> steps = new ArrayList<>(modifiedSteps.get("/model/" + t).keySet());
+            assertEquals("step0", steps.get(0));
+            assertEquals("step" + (STEPS_PER_MODEL - 1), steps.get(STEPS_PER_MODEL - 1));
+        }
+        assertEquals(STEPS_PER_MODEL * THREADS, changeTracker.getDisabledLaunchers().size());
+    }
+
+    @Test
+    public void testSnapshotsFollowTrackingOrder() {
+        ChangeTrackingService changeTracker = new ChangeTrackingService();
+        List<String> expectedGlobs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            changeTracker.trackWorkflowRunnerConfigAdded("/content/dam/folder" + i, "/model/" + i);
+            expectedGlobs.add("/content/dam/folder" + i);
+        }
+        changeTracker.trackModifiedWorkflowStep("/model/z", "second", WorkflowStepSupportStatus.UNSUPPORTED);
+        changeTracker.trackModifiedWorkflowStep("/model/y", "only", WorkflowStepSupportStatus.UNSUPPORTED);
+        changeTracker.trackModifiedWorkflowStep("/model/z", "first", WorkflowStepSupportStatus.REQUIRED);
+        changeTracker.trackLauncherDisabled("launcherB");
+        changeTracker.trackLauncherDisabled("launcherA");
+
+        assertEquals(expectedGlobs, new ArrayList<>(changeTracker.getWorkflowRunnerConfigsAdded().keySet()));
+        assertEquals(Arrays.asList("/model/z", "/model/y"), new ArrayList<>(changeTracker.getModifiedWorkflowSteps().keySet()));
+        assertEquals(Arrays.asList("second", "first"), new ArrayList<>(changeTracker.getModifiedWorkflowSteps().get("/model/z").keySet()));
+        assertEquals(Arrays.asList("launcherB", "launcherA"), changeTracker.getDisabledLaunchers());
+    }
+
+    @Test
+    public void testTrackAllKeepsOrder() {
+        ChangeTrackingService first = new ChangeTrackingService();
+        first.trackModifiedWorkflowStep("/model/a", "step1", WorkflowStepSupportStatus.UNSUPPORTED);
+        first.trackLauncherDisabled("launcher1");
+        ChangeTrackingService second = new ChangeTrackingService();
+        second.trackModifiedWorkflowStep("/model/a", "step2", WorkflowStepSupportStatus.REQUIRED);
+        second.trackLauncherDisabled("launcher2");
+
+        ChangeTrackingService merged = new ChangeTrackingService();
+        merged.trackAll(first);
+        merged.trackAll(second);
+
+        assertEquals(Arrays.asList("step1", "step2"), new ArrayList<>(merged.getModifiedWorkflowSteps().get("/model/a").keySet()));
+        assertEquals(Arrays.asList("launcher1", "launcher2"), merged.getDisabledLaunchers());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotsAreImmutable() {
+        ChangeTrackingService changeTracker = new ChangeTrackingService();
+        changeTracker.getDisabledLaunchers().add("launcher");
+    }
+}
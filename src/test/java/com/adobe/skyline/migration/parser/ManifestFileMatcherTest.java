@@ -0,0 +1,149 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.parser;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.adobe.skyline.migration.SkylineMigrationBaseTest;
+import com.adobe.skyline.migration.model.MigrationManifest;
+import com.adobe.skyline.migration.util.file.FileMatcher;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ManifestFileMatcherTest extends SkylineMigrationBaseTest {
+
+    @Test
+    public void testUnchangedFileIsNotMatchedAgain() throws Exception {
+        File root = temp.newFolder();
+        File file = writeFile(root, "launcher");
+        MigrationManifest manifest = new MigrationManifest(root.toPath());
+        AtomicInteger calls = new AtomicInteger();
+
+        assertTrue(new ManifestFileMatcher("test", countingMatcher(calls), manifest).matches(file));
+        assertTrue(new ManifestFileMatcher("test", countingMatcher(calls), manifest).matches(file));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testTouchedFileWithSameContentIsNotMatchedAgain() throws Exception {
+        File root = temp.newFolder();
+        File file = writeFile(root, "launcher");
+        MigrationManifest manifest = new MigrationManifest(root.toPath());
+        AtomicInteger calls = new AtomicInteger();
+
+        new ManifestFileMatcher("test", countingMatcher(calls), manifest).matches(file);
+        assertTrue(file.setLastModified(file.lastModified() - 60000));
+        assertTrue(new ManifestFileMatcher("test", countingMatcher(calls), manifest).matches(file));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testChangedFileIsMatchedAgain() throws Exception {
+        File root = temp.newFolder();
+        File file = writeFile(root, "launcher");
+        MigrationManifest manifest = new MigrationManifest(root.toPath());
+        AtomicInteger calls = new AtomicInteger();
+
+        new ManifestFileMatcher("test", countingMatcher(calls), manifest).matches(file);
+        writeFile(root, "model");
+        assertFalse(new ManifestFileMatcher("test", countingMatcher(calls), manifest).matches(file));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testWrappedMatchersTestedTogether() throws Exception {
+        File root = temp.newFolder();
+        File file = writeFile(root, "launcher");
+        MigrationManifest manifest = new MigrationManifest(root.toPath());
+        AtomicInteger calls = new AtomicInteger();
+
+        ManifestFileMatcher launchers = manifestMatcher("launchers", calls, "launcher", manifest);
+        ManifestFileMatcher models = manifestMatcher("models", calls, "model", manifest);
+        assertArrayEquals(new boolean[] {true, false}, launchers.matchesAll(file, Collections.singletonList(models)));
+        assertEquals(1, calls.get());
+
+        ManifestFileMatcher scripts = manifestMatcher("scripts", calls, "script", manifest);
+        boolean[] matches = launchers.matchesAll(file, Arrays.asList(models, scripts));
+        assertArrayEquals(new boolean[] {true, false, false}, matches);
+        assertEquals(2, calls.get());
+    }
+
+    private File writeFile(File root, String content) throws Exception {
+        File file = new File(root, ".content.xml");
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private ManifestFileMatcher manifestMatcher(String name, AtomicInteger passes, String content,
+                                                MigrationManifest manifest) {
+        return new ManifestFileMatcher(name, new PassMatcher(passes, content), manifest);
+    }
+
+    private FileMatcher countingMatcher(AtomicInteger calls) {
+        return file -> {
+            calls.incrementAndGet();
+            try {
+                return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).equals("launcher");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    //Counts the passes over a file, testing any number of matchers of its kind in one
+    private static class PassMatcher implements FileMatcher {
+
+        private final AtomicInteger passes;
+        private final String content;
+
+        PassMatcher(AtomicInteger passes, String content) {
+            this.passes = passes;
+            this.content = content;
+        }
+
+        @Override
+        public boolean matches(File file) {
+            return matchesAll(file, Collections.emptyList())[0];
+        }
+
+        @Override
+        public boolean[] matchesAll(File file, List<FileMatcher> others) {
+            passes.incrementAndGet();
+            try {
+                String fileContent = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+                boolean[] matches = new boolean[others.size() + 1];
+                matches[0] = fileContent.equals(content);
+                for (int i = 0; i < others.size(); i++) {
+                    matches[i + 1] = fileContent.equals(((PassMatcher) others.get(i)).content);
+                }
+                return matches;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.testutils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Generates a Maven reactor modeled on the archetype test projects, at whatever scale is needed for scale tests and
+ * benchmarks.  Each content package module holds workflow launchers, workflow models (under /conf, with their runtime
+ * copies under /var), video profiles, and non-workflow noise: JCR nodes under /conf and /content, and binary renditions
+ * under /content/dam.
+ *
+ * The output is determined entirely by the seed and the knobs, so the same settings always produce the same files.
+ * Workflow steps are drawn from workflowSteps.properties in a mix of NUI_MIGRATED, UNSUPPORTED and SUPPORTED processes
+ * plus custom ones.  The first model of each module is a DAM Update Asset model, the only kind that may be transcoded.
+ */
+public class SyntheticProjectGenerator {
+
+    public static final String GROUP_ID = "com.adobe.synthetic";
+    public static final String ARTIFACT_ID = "synthetic";
+    public static final String VERSION = "1.0-SNAPSHOT";
+    public static final String UPDATE_ASSET_MODEL_PATH = "/conf/global/settings/workflow/models/dam/update_asset";
+
+    private static final String JCR_ROOT = "src/main/content/jcr_root";
+    private static final String FILTER_XML = "src/main/content/META-INF/vault/filter.xml";
+    private static final String CONF_MODELS = "conf/global/settings/workflow/models";
+    private static final String CONF_LAUNCHERS = "conf/global/settings/workflow/launcher/config";
+    private static final String VAR_MODELS = "var/workflow/models";
+    private static final String UPDATE_ASSET_MODEL = "dam/update_asset";
+    private static final String TRANSCODE_PROCESS = "com.day.cq.dam.video.FFMpegTranscodeProcess";
+    private static final String COMPLETED_PROCESS = "com.day.cq.dam.core.impl.process.DamUpdateAssetWorkflowCompletedProcess";
+
+    //Step configurations of the processes the profile mappers read, as found in the archetype DAM Update Asset model
+    private static final Map<String, String> MAPPED_STEP_METADATA = new HashMap<>();
+    static {
+        MAPPED_STEP_METADATA.put("com.day.cq.dam.video.FFMpegThumbnailProcess",
+                "PROCESS_ARGS=\"count:4,index:2,[140:100],[48:48],[319:319]\"");
+        MAPPED_STEP_METADATA.put(TRANSCODE_PROCESS,
+                "PROCESS_ARGS=\"profile:format_ogg,profile:format_hp\"");
+        MAPPED_STEP_METADATA.put("com.day.cq.dam.core.process.CreatePdfPreviewProcess",
+                "MAX_HEIGHT=\"2048\" MAX_WIDTH=\"2048\" MIME_TYPES=\"[application/pdf,application/postscript,application/illustrator]\"");
+        MAPPED_STEP_METADATA.put("com.day.cq.dam.core.process.CreateWebEnabledImageProcess",
+                "HEIGHT=\"1280\" WIDTH=\"1280\" QUALITY=\"90\" MIME_TYPE=\"image/jpeg\" KEEP_FORMAT_LIST=\"image/pjpeg,image/jpeg,image/png\" SKIP=\"audio/mpeg,video/(.*)\"");
+        String thumbnails = "CONFIGS=\"[140:100:false,48:48:false,319:319:false]\" CREATE_FPO_MIMETYPES=\"[image/pjpeg,image/jpeg,image/png]\" "
+                + "FPO_QUALITY=\"10\" HEIGHT=\"1280\" MIME_TYPE=\"image/jpeg\" QUALITY=\"90\" SKIP=\"[audio/mpeg,video/(.*)]\" WIDTH=\"1280\"";
+        MAPPED_STEP_METADATA.put("com.day.cq.dam.core.process.ThumbnailProcess", thumbnails);
+        MAPPED_STEP_METADATA.put("com.day.cq.dam.core.impl.process.ThumbnailProcess", thumbnails);
+    }
+
+    private static final String[] LAUNCHER_CONDITIONS = {
+            "",
+            "jcr:content/jcr:mimeType==image/.*",
+            "jcr:content/jcr:mimeType!=video/.*",
+            "jcr:content/jcr:mimeType==application/pdf",
+            "jcr:content/jcr:mimeType==[image/png,image/jpeg]"
+    };
+
+    private static final String[][] VIDEO_PROFILES = {
+            {"format_ogg", "ogg", "theora"},
+            {"format_hp", "mp4", "h264"}
+    };
+
+    private long seed = 0;
+    private int modules = 1;
+    private int launchersPerModule = 2;
+    private int modelsPerModule = 2;
+    private int stepsPerModel = 10;
+    private int noiseFilesPerModule = 50;
+    private int binaryFilesPerModule = 10;
+    private int binaryFileSize = 4096;
+    private int depth = 3;
+
+    private Random random;
+    private Map<String, List<String>> stepsBySupportStatus;
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public void setModules(int modules) {
+        this.modules = modules;
+    }
+
+    public void setLaunchersPerModule(int launchersPerModule) {
+        this.launchersPerModule = launchersPerModule;
+    }
+
+    /**
+     * @param modelsPerModule the number of workflow models in each module, at least one.
+     */
+    public void setModelsPerModule(int modelsPerModule) {
+        this.modelsPerModule = modelsPerModule;
+    }
+
+    public void setStepsPerModel(int stepsPerModel) {
+        this.stepsPerModel = stepsPerModel;
+    }
+
+    public void setNoiseFilesPerModule(int noiseFilesPerModule) {
+        this.noiseFilesPerModule = noiseFilesPerModule;
+    }
+
+    public void setBinaryFilesPerModule(int binaryFilesPerModule) {
+        this.binaryFilesPerModule = binaryFilesPerModule;
+    }
+
+    public void setBinaryFileSize(int binaryFileSize) {
+        this.binaryFileSize = binaryFileSize;
+    }
+
+    /**
+     * @param depth the number of folders that noise nodes are nested in, below their site root.
+     */
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * @return the module names, in reactor order, that {@link #generate(File)} creates with the current settings.
+     */
+    public List<String> getModuleNames() {
+        List<String> moduleNames = new ArrayList<>();
+        for (int m = 0; m < modules; m++) {
+            moduleNames.add("ui.content." + m);
+        }
+        return moduleNames;
+    }
+
+    /**
+     * Writes the reactor into the given directory.
+     */
+    public void generate(File projectRoot) throws IOException {
+        random = new Random(seed);
+        stepsBySupportStatus = loadStepsBySupportStatus();
+
+        writeReactorPom(projectRoot);
+        for (String moduleName : getModuleNames()) {
+            generateModule(new File(projectRoot, moduleName), moduleName);
+        }
+    }
+
+    private void writeReactorPom(File projectRoot) throws IOException {
+        StringBuilder pom = new StringBuilder();
+        pom.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        pom.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" ");
+        pom.append("xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 http://maven.apache.org/maven-v4_0_0.xsd\">\n");
+        pom.append("    <modelVersion>4.0.0</modelVersion>\n");
+        pom.append("    <groupId>").append(GROUP_ID).append("</groupId>\n");
+        pom.append("    <artifactId>").append(ARTIFACT_ID).append("</artifactId>\n");
+        pom.append("    <packaging>pom</packaging>\n");
+        pom.append("    <version>").append(VERSION).append("</version>\n");
+        pom.append("    <modules>\n");
+        for (String moduleName : getModuleNames()) {
+            pom.append("        <module>").append(moduleName).append("</module>\n");
+        }
+        pom.append("    </modules>\n");
+        pom.append("</project>\n");
+
+        write(new File(projectRoot, "pom.xml"), pom.toString());
+    }
+
+    private void generateModule(File moduleRoot, String moduleName) throws IOException {
+        String site = moduleName.replace('.', '-');
+        File jcrRoot = new File(moduleRoot, JCR_ROOT);
+
+        write(new File(moduleRoot, "pom.xml"), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "    <modelVersion>4.0.0</modelVersion>\n"
+                + "    <parent>\n"
+                + "        <groupId>" + GROUP_ID + "</groupId>\n"
+                + "        <artifactId>" + ARTIFACT_ID + "</artifactId>\n"
+                + "        <version>" + VERSION + "</version>\n"
+                + "    </parent>\n"
+                + "    <artifactId>" + ARTIFACT_ID + "." + moduleName + "</artifactId>\n"
+                + "    <packaging>content-package</packaging>\n"
+                + "</project>\n");
+
+        write(new File(moduleRoot, FILTER_XML), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<workspaceFilter version=\"1.0\">\n"
+                + "    <filter root=\"/conf/global/settings/workflow\"/>\n"
+                + "    <filter root=\"/conf/global/settings/dam/video\"/>\n"
+                + "    <filter root=\"/conf/" + site + "\" mode=\"merge\"/>\n"
+                + "    <filter root=\"/content/" + site + "\" mode=\"merge\"/>\n"
+                + "    <filter root=\"/content/dam/" + site + "\" mode=\"merge\"/>\n"
+                + "    <filter root=\"/var/workflow/models\" mode=\"merge\"/>\n"
+                + "</workspaceFilter>\n");
+
+        List<String> modelNames = new ArrayList<>();
+        for (int i = 0; i < modelsPerModule; i++) {
+            String modelName = i == 0 ? UPDATE_ASSET_MODEL : site + "-model-" + i;
+            modelNames.add(modelName);
+            writeModel(jcrRoot, modelName);
+        }
+
+        for (int i = 0; i < launchersPerModule; i++) {
+            writeLauncher(jcrRoot, site + "-launcher-" + i, modelNames.get(i % modelNames.size()), site);
+        }
+
+        for (String[] profile : VIDEO_PROFILES) {
+            write(new File(jcrRoot, "conf/global/settings/dam/video/" + profile[0] + "/.content.xml"),
+                    "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                    + "<jcr:root xmlns:jcr=\"http://www.jcp.org/jcr/1.0\" jcr:primaryType=\"cq:Page\">\n"
+                    + "    <jcr:content jcr:primaryType=\"nt:unstructured\" width=\"320\" height=\"240\" extension=\""
+                    + profile[1] + "\" videoCodec=\"" + profile[2] + "\" videoBitrate=\"4096\"/>\n"
+                    + "</jcr:root>\n");
+        }
+
+        for (int i = 0; i < noiseFilesPerModule; i++) {
+            //Half of the noise sits under /conf, which is searched for workflow files, and half under /content
+            String siteRoot = (i % 2 == 0 ? "conf/" : "content/") + site;
+            writeNoiseNode(new File(jcrRoot, siteRoot + nestedFolders(i) + "/node" + i + "/.content.xml"), i);
+        }
+
+        for (int i = 0; i < binaryFilesPerModule; i++) {
+            File asset = new File(jcrRoot, "content/dam/" + site + nestedFolders(i) + "/asset" + i + ".jpg");
+            writeNoiseNode(new File(asset, ".content.xml"), i);
+            byte[] binary = new byte[binaryFileSize];
+            random.nextBytes(binary);
+            File original = new File(asset, "_jcr_content/renditions/original");
+            original.getParentFile().mkdirs();
+            Files.write(original.toPath(), binary);
+        }
+    }
+
+    private void writeModel(File jcrRoot, String modelName) throws IOException {
+        boolean updateAsset = modelName.equals(UPDATE_ASSET_MODEL);
+
+        StringBuilder model = new StringBuilder();
+        model.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        model.append("<jcr:root xmlns:sling=\"http://sling.apache.org/jcr/sling/1.0\" xmlns:cq=\"http://www.day.com/jcr/cq/1.0\" ");
+        model.append("xmlns:jcr=\"http://www.jcp.org/jcr/1.0\" xmlns:nt=\"http://www.jcp.org/jcr/nt/1.0\"\n");
+        model.append("    jcr:primaryType=\"cq:Page\">\n");
+        model.append("    <jcr:content\n");
+        model.append("        cq:template=\"/libs/cq/workflow/templates/model\"\n");
+        model.append("        jcr:primaryType=\"cq:PageContent\"\n");
+        model.append("        jcr:title=\"").append(modelName).append("\"\n");
+        model.append("        sling:resourceType=\"cq/workflow/components/pages/model\"\n");
+        model.append("        transient=\"true\">\n");
+        model.append("        <flow\n");
+        model.append("            jcr:primaryType=\"nt:unstructured\"\n");
+        model.append("            sling:resourceType=\"foundation/components/parsys\">\n");
+
+        boolean complete = random.nextBoolean();
+        int steps = complete ? stepsPerModel - 1 : stepsPerModel;
+        for (int i = 0; i < steps; i++) {
+            appendStep(model, "process" + i, nextProcess(updateAsset));
+        }
+        if (complete) {
+            appendStep(model, "damupdateassetworkflowcompletedprocess", COMPLETED_PROCESS);
+        }
+
+        model.append("        </flow>\n");
+        model.append("    </jcr:content>\n");
+        model.append("</jcr:root>\n");
+        write(new File(jcrRoot, CONF_MODELS + "/" + modelName + "/.content.xml"), model.toString());
+
+        write(new File(jcrRoot, VAR_MODELS + "/" + modelName + ".xml"), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<jcr:root xmlns:sling=\"http://sling.apache.org/jcr/sling/1.0\" xmlns:cq=\"http://www.day.com/jcr/cq/1.0\" "
+                + "xmlns:jcr=\"http://www.jcp.org/jcr/1.0\" xmlns:nt=\"http://www.jcp.org/jcr/nt/1.0\"\n"
+                + "    jcr:primaryType=\"cq:WorkflowModel\"\n"
+                + "    sling:resourceType=\"cq/workflow/components/model\"\n"
+                + "    title=\"" + modelName + "\">\n"
+                + "    <metaData\n"
+                + "        cq:generatingPage=\"/conf/global/settings/workflow/models/" + modelName + "/jcr:content\"\n"
+                + "        jcr:primaryType=\"nt:unstructured\"/>\n"
+                + "</jcr:root>\n");
+    }
+
+    private void appendStep(StringBuilder model, String nodeName, String process) {
+        model.append("            <").append(nodeName).append("\n");
+        model.append("                jcr:primaryType=\"nt:unstructured\"\n");
+        model.append("                jcr:title=\"").append(process.substring(process.lastIndexOf('.') + 1)).append("\"\n");
+        model.append("                sling:resourceType=\"cq/workflow/components/model/process\">\n");
+        model.append("                <metaData\n");
+        model.append("                    jcr:primaryType=\"nt:unstructured\"\n");
+        model.append("                    PROCESS=\"").append(process).append("\"\n");
+        if (MAPPED_STEP_METADATA.containsKey(process)) {
+            model.append("                    ").append(MAPPED_STEP_METADATA.get(process)).append("\n");
+        }
+        model.append("                    PROCESS_AUTO_ADVANCE=\"true\"/>\n");
+        model.append("            </").append(nodeName).append(">\n");
+    }
+
+    private String nextProcess(boolean updateAsset) {
+        int roll = random.nextInt(100);
+
+        List<String> candidates;
+        if (roll < 35) {
+            candidates = stepsBySupportStatus.get("NUI_MIGRATED");
+        } else if (roll < 65) {
+            candidates = stepsBySupportStatus.get("UNSUPPORTED");
+        } else if (roll < 85) {
+            candidates = stepsBySupportStatus.get("SUPPORTED");
+        } else {
+            return "com.example.workflow.CustomProcess" + random.nextInt(10);
+        }
+
+        String process = candidates.get(random.nextInt(candidates.size()));
+        //Transcoding steps are only mapped for DAM Update Asset models
+        return process.equals(TRANSCODE_PROCESS) && !updateAsset ? candidates.get(0) : process;
+    }
+
+    private void writeLauncher(File jcrRoot, String launcherName, String modelName, String site) throws IOException {
+        String condition = LAUNCHER_CONDITIONS[random.nextInt(LAUNCHER_CONDITIONS.length)];
+
+        write(new File(jcrRoot, CONF_LAUNCHERS + "/" + launcherName + "/.content.xml"), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<jcr:root xmlns:cq=\"http://www.day.com/jcr/cq/1.0\" xmlns:jcr=\"http://www.jcp.org/jcr/1.0\"\n"
+                + "    jcr:primaryType=\"cq:WorkflowLauncher\"\n"
+                + "    conditions=\"[" + condition + "]\"\n"
+                + "    description=\"" + launcherName + "\"\n"
+                + "    enabled=\"{Boolean}true\"\n"
+                + "    eventType=\"{Long}" + (random.nextBoolean() ? 1 : 16) + "\"\n"
+                + "    excludeList=\"event-user-data:changedByWorkflowProcess\"\n"
+                + "    glob=\"/content/dam/" + site + "(/.*/)renditions/original\"\n"
+                + "    nodetype=\"nt:file\"\n"
+                + "    runModes=\"author\"\n"
+                + "    workflow=\"/var/workflow/models/" + modelName + "\"/>\n");
+    }
+
+    private void writeNoiseNode(File file, int index) throws IOException {
+        write(file, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<jcr:root xmlns:sling=\"http://sling.apache.org/jcr/sling/1.0\" xmlns:cq=\"http://www.day.com/jcr/cq/1.0\" "
+                + "xmlns:jcr=\"http://www.jcp.org/jcr/1.0\" xmlns:nt=\"http://www.jcp.org/jcr/nt/1.0\"\n"
+                + "    jcr:primaryType=\"cq:Page\">\n"
+                + "    <jcr:content\n"
+                + "        jcr:primaryType=\"cq:PageContent\"\n"
+                + "        jcr:title=\"Node " + index + "\"\n"
+                + "        sling:resourceType=\"synthetic/components/page\"\n"
+                + "        value=\"" + Long.toHexString(random.nextLong()) + "\"/>\n"
+                + "</jcr:root>\n");
+    }
+
+    //Spread the nodes over folders nested to the configured depth, ten wide at each level
+    private String nestedFolders(int index) {
+        StringBuilder folders = new StringBuilder();
+        for (int level = 0; level < depth; level++) {
+            folders.append("/folder").append(index % 10);
+            index /= 10;
+        }
+        return folders.toString();
+    }
+
+    private Map<String, List<String>> loadStepsBySupportStatus() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream("workflowSteps.properties")) {
+            properties.load(stream);
+        }
+
+        Map<String, List<String>> steps = new HashMap<>();
+        for (String status : Arrays.asList("NUI_MIGRATED", "UNSUPPORTED", "SUPPORTED")) {
+            steps.put(status, Arrays.asList(properties.getProperty(status).split(",")));
+        }
+        return steps;
+    }
+
+    private static void write(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
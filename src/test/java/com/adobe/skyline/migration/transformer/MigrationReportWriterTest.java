@@ -15,6 +15,7 @@ package com.adobe.skyline.migration.transformer;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Scanner;
 
@@ -25,7 +26,9 @@ import org.junit.rules.TemporaryFolder;
 
 import com.adobe.skyline.migration.MigrationConstants;
 import com.adobe.skyline.migration.model.ChangeTrackingService;
+import com.adobe.skyline.migration.model.EliminatedRendition;
 import com.adobe.skyline.migration.model.ProcessingProfile;
+import com.adobe.skyline.migration.model.RenditionConfig;
 
 import static com.adobe.skyline.migration.model.WorkflowStepSupportStatus.DMS7_OOTB;
 import static com.adobe.skyline.migration.model.WorkflowStepSupportStatus.NUI_MIGRATED;
@@ -299,6 +302,41 @@ public class MigrationReportWriterTest {
         assertTrue(matched1 && matched2);
     }
 
+    @Test
+    public void testRenditionsEliminatedWritten() throws FileNotFoundException {
+        ProcessingProfile profile = new ProcessingProfile();
+        profile.setName("profile1");
+
+        RenditionConfig kept = new RenditionConfig();
+        kept.setFileName("cqdam.kept.png");
+        RenditionConfig eliminated = new RenditionConfig();
+        eliminated.setFileName("cqdam.eliminated.png");
+        changeTracker.trackEliminatedRendition(new EliminatedRendition(profile, eliminated, kept));
+
+        writer.write(temp.getRoot());
+
+        File migrationReport = new File(temp.getRoot(), MigrationConstants.REPORT_FILENAME);
+        Scanner scanner = new Scanner(migrationReport);
+
+        boolean matched = false;
+
+        while (scanner.hasNext()) {
+            String line = scanner.nextLine();
+
+            if (line.equals("## Duplicate Renditions")) {
+                skipLines(scanner, 4);
+
+                assertEquals("| Eliminated | `cqdam.eliminated.png` | `cqdam.kept.png` | profile1 |", scanner.nextLine());
+                assertFalse(scanner.nextLine().startsWith("|"));
+                matched = true;
+
+                break;
+            }
+        }
+
+        assertTrue(matched);
+    }
+
     @Test
     public void testProjectsWritten() throws FileNotFoundException {
         changeTracker.trackProjectCreated("project1");
@@ -369,6 +407,11 @@ public class MigrationReportWriterTest {
                 assertEquals(MigrationConstants.NO_PROFILE_MSG, scanner.nextLine());
             }
 
+            if (line.equals("## Duplicate Renditions")) {
+                skipLines(scanner, 2);
+                assertEquals(MigrationConstants.NO_RENDITION_ELIMINATED_MSG, scanner.nextLine());
+            }
+
             if (line.equals("## Maven Projects Added and Modified")) {
                 skipLines(scanner, 2);
                 assertEquals(MigrationConstants.NO_PROJECT_MSG, scanner.nextLine());
@@ -376,6 +419,17 @@ public class MigrationReportWriterTest {
         }
     }
 
+    @Test
+    public void testReplacementCharactersWrittenLiterally() throws IOException {
+        changeTracker.trackWorkflowRunnerConfigAdded("/content/dam/$1(/.*)", "C:\\models\\model1");
+
+        writer.write(temp.getRoot());
+
+        String report = new String(Files.readAllBytes(new File(temp.getRoot(), MigrationConstants.REPORT_FILENAME).toPath()), StandardCharsets.UTF_8);
+        assertTrue(report.contains("| Created | `/content/dam/$1(/.*)` | `C:\\models\\model1` |"));
+        assertFalse(report.contains("${"));
+    }
+
     private void skipLines(Scanner scanner, int numLines) {
         for (int i = 0; i < numLines; i++) {
             scanner.nextLine();
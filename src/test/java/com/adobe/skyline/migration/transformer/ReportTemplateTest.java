@@ -0,0 +1,66 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.transformer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ReportTemplateTest {
+
+    @Test
+    public void testSectionsRenderedInPlace() throws IOException {
+        ReportTemplate template = new ReportTemplate("# Title\n${FIRST}\nmiddle ${SECOND} end\n");
+
+        Map<String, ReportTemplate.Section> sections = new HashMap<>();
+        sections.put("FIRST", out -> out.write("one"));
+        sections.put("SECOND", out -> out.write("two"));
+
+        assertEquals("# Title\none\nmiddle two end\n", render(template, sections));
+    }
+
+    @Test
+    public void testSectionContentWrittenLiterally() throws IOException {
+        ReportTemplate template = new ReportTemplate("${FIRST}|${SECOND}");
+
+        Map<String, ReportTemplate.Section> sections = new HashMap<>();
+        sections.put("FIRST", out -> out.write("$1 \\d ${SECOND}"));
+        sections.put("SECOND", out -> out.write("two"));
+
+        assertEquals("$1 \\d ${SECOND}|two", render(template, sections));
+    }
+
+    @Test
+    public void testUnknownAndUnterminatedPlaceholdersKept() throws IOException {
+        ReportTemplate template = new ReportTemplate("${UNKNOWN} and ${OPEN");
+
+        assertEquals("${UNKNOWN} and ${OPEN", render(template, new HashMap<>()));
+    }
+
+    @Test
+    public void testBundledTemplateLoadedOnce() {
+        assertSame(ReportTemplate.getInstance(), ReportTemplate.getInstance());
+    }
+
+    private String render(ReportTemplate template, Map<String, ReportTemplate.Section> sections) throws IOException {
+        StringWriter out = new StringWriter();
+        template.render(out, sections);
+        return out.toString();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.transformer.processingprofile;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MimeTypeLatticeTest {
+
+    private final MimeTypeLattice lattice = MimeTypeLattice.getInstance();
+
+    @Test
+    public void testNormalization() {
+        assertEquals(Arrays.asList("image/.*"), lattice.normalize("image/(*)"));
+        assertEquals(Arrays.asList("audio/mpeg", "video/.*"), lattice.normalize("[audio/mpeg, video/(.*)]"));
+        assertSame(lattice.normalize("[audio/mpeg, video/(.*)]"), lattice.normalize("[audio/mpeg, video/(.*)]"));
+    }
+
+    @Test
+    public void testSubsumption() {
+        assertTrue(lattice.subsumes("image/.*", "image/jpeg"));
+        assertTrue(lattice.subsumes("image/jpeg", "image/jpeg"));
+        assertTrue(lattice.subsumes(MimeTypeLattice.ANY_MIMETYPE, "application/pdf"));
+        assertTrue(lattice.subsumes(MimeTypeLattice.ANY_MIMETYPE, "image/.*"));
+        assertFalse(lattice.subsumes("image/jpeg", "image/.*"));
+        assertFalse(lattice.subsumes("image/.*", "video/mp4"));
+        assertFalse(lattice.subsumes("image/.*", "image/jpeg|video/mp4"));
+        assertFalse(lattice.subsumes("image/.*", ".*/jpeg"));
+    }
+
+    @Test
+    public void testExpressionsMatchedAgainstConcreteTypes() {
+        assertFalse(lattice.subsumes("image/jp.*", "image/jpeg"));
+        assertTrue(lattice.matches("image/jp.*", "image/jpeg"));
+        assertFalse(lattice.matches("image/jp.*", "image/png"));
+        assertFalse(lattice.matches("image/jpeg", "image/jp.*"));
+        assertTrue(lattice.matches("image/svg.xml", "image/svg+xml"));
+        assertTrue(lattice.canRelate("image/jp.*", "image/png"));
+        assertTrue(lattice.canRelate("image/.*", "video/mp4"));
+    }
+
+    @Test
+    public void testAlternationsCannotBeRelated() {
+        String alternation = lattice.normalize("image/(jpeg|png)").get(0);
+
+        assertFalse(lattice.matches(alternation, "image/jpeg"));
+        assertFalse(lattice.canRelate(alternation, "image/jpeg"));
+        assertFalse(lattice.canRelate("image/jp.*", "image/gi.*"));
+    }
+
+    @Test
+    public void testSubsumedPatternsRemoved() {
+        Set<String> patterns = new HashSet<>(Arrays.asList("image/.*", "image/jpeg", "image/png", "video/mp4", "audio/.*"));
+        lattice.removeSubsumed(patterns);
+        assertEquals(new HashSet<>(Arrays.asList("image/.*", "video/mp4", "audio/.*")), patterns);
+    }
+}
@@ -19,6 +19,7 @@ import com.adobe.skyline.migration.dao.MavenProjectDAO;
 import com.adobe.skyline.migration.dao.ProcessingProfileDAO;
 import com.adobe.skyline.migration.exception.ProjectCreationException;
 import com.adobe.skyline.migration.model.ChangeTrackingService;
+import com.adobe.skyline.migration.model.EliminatedRendition;
 import com.adobe.skyline.migration.model.ProcessingProfile;
 import com.adobe.skyline.migration.model.workflow.*;
 import com.adobe.skyline.migration.testutils.matchers.ProcessingProfileMatcher;
@@ -31,6 +32,7 @@ import org.junit.Test;
 import org.mockito.Mock;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -282,6 +284,113 @@ public class ProcessingProfileCreatorTest extends SkylineMigrationBaseTest {
         verify(ppDao).addProfile(argThat(profMatcher));
     }
 
+    @Test
+    public void testBroaderRenditionIncludeKeepsLauncherInclude() throws ProjectCreationException {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("jcr:content/jcr:mimeType==image/jpeg"); // Process JPEGs only
+        WorkflowLauncher launcher = new WorkflowLauncher();
+        launcher.setConditions(conditions);
+
+        WorkflowStep step = getWebEnabledWorkflowStep();
+        step.getMetadata().put("KEEP_FORMAT_LIST", "image/*, application/pdf"); // Broader than the launcher
+        WorkflowModel model = wrapStepInModel(step);
+
+        Workflow workflow = new Workflow();
+        workflow.setWorkflowModel(model);
+        workflow.addLauncher(launcher);
+
+        //Not wrapped with the helper, whose extra launcher would fire for every asset
+        List<Workflow> workflows = new ArrayList<>();
+        workflows.add(workflow);
+        WorkflowProject project = new WorkflowProject();
+        project.setWorkflows(workflows);
+
+        creator.createProfiles(project);
+
+        //The launcher never fires for PDFs, and image/.* would widen the launcher's include
+        RenditionConfigMatcher renMatcher = new RenditionConfigMatcher();
+        renMatcher.expectIncludedMimetype("image/jpeg");
+        renMatcher.expectNonIncludedMimetype("image/.*");
+        renMatcher.expectNonIncludedMimetype("application/pdf");
+
+        ProcessingProfileMatcher profMatcher = new ProcessingProfileMatcher();
+        profMatcher.expectRendition(renMatcher);
+        profMatcher.expectNumRenditions(1);
+
+        verify(ppDao).addProfile(argThat(profMatcher));
+    }
+
+    @Test
+    public void testRegexRenditionIncludeNarrowedToLauncherTypes() throws ProjectCreationException {
+        WorkflowProject project = wrapRenditionIncludeInProject("image/jp.*", "jcr:content/jcr:mimeType==[image/jpeg,image/png]");
+
+        creator.createProfiles(project);
+
+        //The expression matches the launcher's image/jpeg but not its image/png
+        RenditionConfigMatcher renMatcher = new RenditionConfigMatcher();
+        renMatcher.expectIncludedMimetype("image/jpeg");
+        renMatcher.expectNonIncludedMimetype("image/png");
+        renMatcher.expectNonIncludedMimetype("image/jp.*");
+
+        ProcessingProfileMatcher profMatcher = new ProcessingProfileMatcher();
+        profMatcher.expectRendition(renMatcher);
+        profMatcher.expectNumRenditions(1);
+
+        verify(ppDao).addProfile(argThat(profMatcher));
+    }
+
+    @Test
+    public void testAlternationRenditionIncludeKept() throws ProjectCreationException {
+        WorkflowProject project = wrapRenditionIncludeInProject("image/(jpeg|png)", "jcr:content/jcr:mimeType==[image/jpeg,image/png]");
+
+        creator.createProfiles(project);
+
+        //The lattice cannot relate the alternation to the launcher's types, so the include is kept as it was given
+        RenditionConfigMatcher renMatcher = new RenditionConfigMatcher();
+        renMatcher.expectIncludedMimetype("image/jpeg|png");
+
+        ProcessingProfileMatcher profMatcher = new ProcessingProfileMatcher();
+        profMatcher.expectRendition(renMatcher);
+        profMatcher.expectNumRenditions(1);
+
+        verify(ppDao).addProfile(argThat(profMatcher));
+    }
+
+    @Test
+    public void testRenditionIncludeCoveredByLauncherExcludeDropped() throws ProjectCreationException {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("jcr:content/jcr:mimeType!=video/.*"); // Process everything but videos
+        WorkflowLauncher launcher = new WorkflowLauncher();
+        launcher.setConditions(conditions);
+
+        WorkflowStep step = getWebEnabledWorkflowStep();
+        step.getMetadata().put("KEEP_FORMAT_LIST", "video/mp4, application/pdf, image/png, image/.*");
+        step.getMetadata().put("SKIP", "image/*");
+        WorkflowModel model = wrapStepInModel(step);
+
+        Workflow workflow = new Workflow();
+        workflow.setWorkflowModel(model);
+        workflow.addLauncher(launcher);
+
+        WorkflowProject project = wrapWorkflowInProject(workflow);
+
+        creator.createProfiles(project);
+
+        RenditionConfigMatcher renMatcher = new RenditionConfigMatcher();
+        renMatcher.expectIncludedMimetype("application/pdf");
+        renMatcher.expectNonIncludedMimetype("video/mp4");
+        renMatcher.expectNonIncludedMimetype("image/png");
+        renMatcher.expectNonIncludedMimetype("image/.*");
+        renMatcher.expectExcludedMimetype("video/.*");
+        renMatcher.expectExcludedMimetype("image/.*");
+
+        ProcessingProfileMatcher profMatcher = new ProcessingProfileMatcher();
+        profMatcher.expectRendition(renMatcher);
+        profMatcher.expectNumRenditions(1);
+
+        verify(ppDao).addProfile(argThat(profMatcher));
+    }
+
     @Test
     public void testSingleProfileCreatedPerWorkflow() throws ProjectCreationException {
         WorkflowStep step1 = getPdfPreviewWorkflowStep();
@@ -300,6 +409,62 @@ public class ProcessingProfileCreatorTest extends SkylineMigrationBaseTest {
         verify(ppDao, times(1)).addProfile(any());
     }
 
+    @Test
+    public void testDuplicateRenditionsEliminated() throws ProjectCreationException {
+        WorkflowStep step1 = getPdfPreviewWorkflowStep();
+        WorkflowModel model = wrapStepInModel(step1);
+
+        WorkflowStep step2 = getPdfPreviewWorkflowStep();
+        model.getWorkflowSteps().add(step2);
+
+        Workflow workflow = new Workflow();
+        workflow.setWorkflowModel(model);
+
+        WorkflowProject project = wrapWorkflowInProject(workflow);
+
+        creator.createProfiles(project);
+
+        ProcessingProfileMatcher profMatcher = new ProcessingProfileMatcher();
+        profMatcher.expectNumRenditions(1);
+
+        verify(ppDao).addProfile(argThat(profMatcher));
+
+        List<EliminatedRendition> eliminated = changeTracker.getRenditionsEliminated();
+        assertEquals(1, eliminated.size());
+        assertSame(changeTracker.getProcessingProfilesCreated().get(0), eliminated.get(0).getProfile());
+        assertSame(eliminated.get(0).getProfile().getRenditions().get(0), eliminated.get(0).getDuplicateOf());
+    }
+
+    @Test
+    public void testProfileSharedByWorkflowsWithSameGlobs() throws ProjectCreationException {
+        WorkflowProject project = getWorkflowsWithSameGlobs();
+
+        creator.createProfiles(project);
+
+        RenditionConfigMatcher pdfMatcher = new RenditionConfigMatcher();
+        pdfMatcher.expectName("cqdam.preview.png");
+
+        ProcessingProfileMatcher profMatcher = new ProcessingProfileMatcher();
+        profMatcher.expectName("Migrated from " + WORKFLOW_NAME + ", Second Workflow");
+        profMatcher.expectRendition(pdfMatcher);
+        profMatcher.expectNumRenditions(2);
+
+        verify(ppDao, times(1)).addProfile(argThat(profMatcher));
+        assertEquals(1, changeTracker.getProcessingProfilesCreated().size());
+        assertEquals(1, changeTracker.getRenditionsEliminated().size());
+    }
+
+    @Test
+    public void testProfilesNotSharedWhenSharingDisabled() throws ProjectCreationException {
+        ProcessingProfileCreator unsharedCreator = new ProcessingProfileCreator(new ProfileMapperFactoryImpl(null), ppDao,
+                ffDao, changeTracker, mavenProjectDAO, false);
+
+        unsharedCreator.createProfiles(getWorkflowsWithSameGlobs());
+
+        verify(ppDao, times(2)).addProfile(any());
+        assertEquals(0, changeTracker.getRenditionsEliminated().size());
+    }
+
     @Test
     public void testNullWorkflowModelSkipped() throws ProjectCreationException {
         Workflow workflow = new Workflow();
@@ -392,6 +557,23 @@ public class ProcessingProfileCreatorTest extends SkylineMigrationBaseTest {
         return step;
     }
 
+    //A workflow with a single launcher, so that no launcher fires for every asset
+    private WorkflowProject wrapRenditionIncludeInProject(String renditionInclude, String launcherCondition) {
+        WorkflowLauncher launcher = new WorkflowLauncher();
+        launcher.setConditions(new ArrayList<>(Arrays.asList(launcherCondition)));
+
+        WorkflowStep step = getWebEnabledWorkflowStep();
+        step.getMetadata().put("KEEP_FORMAT_LIST", renditionInclude);
+
+        Workflow workflow = new Workflow();
+        workflow.setWorkflowModel(wrapStepInModel(step));
+        workflow.addLauncher(launcher);
+
+        WorkflowProject project = new WorkflowProject();
+        project.setWorkflows(new ArrayList<>(Arrays.asList(workflow)));
+        return project;
+    }
+
     private WorkflowProject wrapStepInProject(WorkflowStep step) {
         WorkflowModel model = wrapStepInModel(step);
 
@@ -411,6 +593,31 @@ public class ProcessingProfileCreatorTest extends SkylineMigrationBaseTest {
         return model;
     }
 
+    private WorkflowProject getWorkflowsWithSameGlobs() {
+        List<Workflow> workflows = new ArrayList<>();
+
+        //Both workflows generate the same PDF preview, and the second one also generates a web rendition
+        WorkflowModel model1 = wrapStepInModel(getPdfPreviewWorkflowStep());
+        WorkflowModel model2 = wrapStepInModel(getPdfPreviewWorkflowStep());
+        model2.setName("Second Workflow");
+        model2.getWorkflowSteps().add(getWebEnabledWorkflowStep());
+
+        for (WorkflowModel model : Arrays.asList(model1, model2)) {
+            WorkflowLauncher launcher = new WorkflowLauncher();
+            launcher.setGlob("/content/dam(/.*/)renditions/original");
+            launcher.setConditions(new ArrayList<>());
+
+            Workflow workflow = new Workflow();
+            workflow.setWorkflowModel(model);
+            workflow.addLauncher(launcher);
+            workflows.add(workflow);
+        }
+
+        WorkflowProject project = new WorkflowProject();
+        project.setWorkflows(workflows);
+        return project;
+    }
+
     private WorkflowProject wrapWorkflowInProject(Workflow workflow) {
         WorkflowLauncher launcher = new WorkflowLauncher();
         workflow.addLauncher(launcher);
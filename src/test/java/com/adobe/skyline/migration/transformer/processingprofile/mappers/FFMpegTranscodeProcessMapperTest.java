@@ -63,6 +63,22 @@ public class FFMpegTranscodeProcessMapperTest {
         validateRenditions(renditions);
     }
 
+    @Test
+    public void testMissingProfileSkipsStep() {
+        Map<String, String> processMetadata = new HashMap<>();
+        processMetadata.put("CONFIGS", "[profile:format_hp,profile:format_missing]");
+        WorkflowStep step = new WorkflowStep();
+        step.setMetadata(processMetadata);
+        UpdateAssetWorkflowModel workflowModel = new UpdateAssetWorkflowModel();
+        workflowModel.setVideoProfilePath(getClass().getClassLoader().getResource("archetype17").getPath() + "/ui.content/src/main/content/jcr_root/conf/global/settings/dam/video");
+
+        assertTrue(mapper.mapToRenditions(workflowModel, step).isEmpty());
+
+        //The profiles that do exist are still served to later steps
+        processMetadata.put("CONFIGS", "[profile:format_hp]");
+        validateRenditions(mapper.mapToRenditions(workflowModel, step));
+    }
+
     private void validateRenditions(List<RenditionConfig> renditions) {
         assertEquals(1, renditions.size());
         RenditionConfig firstRendition = renditions.get(0);
@@ -0,0 +1,81 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.transformer.processingprofile.mappers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.adobe.skyline.migration.MigrationConstants;
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.transformer.processingprofile.mappers.VideoProfileRegistry.VideoProfile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class VideoProfileRegistryTest {
+
+    private static final String VIDEO_PROFILE_ROOT = "archetype17/ui.content/src/main/content/jcr_root/conf/global/settings/dam/video";
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testProfileRead() {
+        VideoProfileRegistry registry = new VideoProfileRegistry(new File(getClass().getClassLoader().getResource(VIDEO_PROFILE_ROOT).getPath()));
+
+        VideoProfile profile = registry.getProfile("format_hp");
+        assertEquals(Integer.valueOf(320), profile.getWidth());
+        assertEquals(Integer.valueOf(240), profile.getHeight());
+        assertEquals("h264", profile.getCodec());
+        assertEquals(Integer.valueOf(4096), profile.getBitRate());
+        assertEquals("mp4", profile.getFormat());
+
+        assertSame(profile, registry.getProfile("format_hp"));
+        assertNull(registry.getProfile("format_missing"));
+    }
+
+    @Test
+    public void testProfilesReadOnce() throws IOException {
+        File profileRoot = temp.newFolder();
+        FileUtils.copyDirectory(new File(getClass().getClassLoader().getResource(VIDEO_PROFILE_ROOT).getPath()), profileRoot);
+
+        VideoProfileRegistry registry = new VideoProfileRegistry(profileRoot);
+        assertNull(registry.getProfile("format_new"));
+
+        //Profiles added after the first lookup are not seen, as the registry never looks at the disk again
+        FileUtils.copyDirectory(new File(profileRoot, "format_hp"), new File(profileRoot, "format_new"));
+        FileUtils.deleteDirectory(new File(profileRoot, "format_ogg"));
+
+        assertNull(registry.getProfile("format_new"));
+        assertEquals("ogg", registry.getProfile("format_ogg").getFormat());
+    }
+
+    @Test(expected = MigrationRuntimeException.class)
+    public void testUnreadableProfileFailsLookup() throws IOException {
+        File profileRoot = temp.newFolder();
+        File profile = new File(profileRoot, "format_broken");
+        profile.mkdirs();
+        String content = "<jcr:root xmlns:jcr=\"http://www.jcp.org/jcr/1.0\"><jcr:content width=\"wide\"/></jcr:root>";
+        Files.write(new File(profile, MigrationConstants.CONTENT_XML).toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+        new VideoProfileRegistry(profileRoot).getProfile("format_broken");
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Document;
+
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+
+public class DocumentCacheTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private DocumentCache cache;
+    private File xmlFile;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new DocumentCache();
+        xmlFile = temp.newFile("test.xml");
+        writeContent(xmlFile, "<root value=\"one\"/>");
+    }
+
+    @Test
+    public void testDocumentParsedOnce() throws Exception {
+        Document first = cache.load(xmlFile);
+        Document second = cache.load(new File(xmlFile.getParentFile(), "./test.xml"));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testDocumentReloadedAfterExternalChange() throws Exception {
+        Document first = cache.load(xmlFile);
+
+        writeContent(xmlFile, "<root value=\"changed\"/>");
+        Document second = cache.load(xmlFile);
+
+        assertNotSame(first, second);
+        assertEquals("changed", second.getDocumentElement().getAttribute("value"));
+    }
+
+    @Test
+    public void testWriteKeepsCachedDocument() throws Exception {
+        Document doc = cache.load(xmlFile);
+        doc.getDocumentElement().setAttribute("value", "two");
+        cache.write(doc, xmlFile);
+
+        assertSame(doc, cache.load(xmlFile));
+        assertEquals("two", XmlUtil.loadXml(xmlFile).getDocumentElement().getAttribute("value"));
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        Document first = cache.load(xmlFile);
+        cache.invalidate(xmlFile);
+
+        assertNotSame(first, cache.load(xmlFile));
+    }
+
+    @Test
+    public void testDeferredWritesHeldUntilFlush() throws Exception {
+        DocumentCache deferredCache = new DocumentCache(true);
+        Document doc = deferredCache.load(xmlFile);
+
+        doc.getDocumentElement().setAttribute("value", "two");
+        deferredCache.write(doc, xmlFile);
+        doc.getDocumentElement().setAttribute("value", "three");
+        deferredCache.write(doc, xmlFile);
+
+        assertEquals("one", XmlUtil.loadXml(xmlFile).getDocumentElement().getAttribute("value"));
+        assertSame(doc, deferredCache.load(xmlFile));
+
+        deferredCache.flush();
+
+        assertEquals("three", XmlUtil.loadXml(xmlFile).getDocumentElement().getAttribute("value"));
+        assertSame(doc, deferredCache.load(xmlFile));
+    }
+
+    @Test
+    public void testDeferredFilesVisibleBeforeFlush() throws Exception {
+        DocumentCache deferredCache = new DocumentCache(true);
+        File newFile = new File(temp.getRoot(), "created/child/new.xml");
+
+        deferredCache.write("<root value=\"new\"/>".getBytes(StandardCharsets.UTF_8), newFile);
+
+        assertFalse(newFile.getParentFile().exists());
+        assertTrue(deferredCache.exists(newFile));
+        assertTrue(deferredCache.exists(new File(temp.getRoot(), "created")));
+        assertEquals(new TreeSet<>(Arrays.asList("created", "test.xml")), deferredCache.list(temp.getRoot()));
+        assertEquals("new", deferredCache.load(newFile).getDocumentElement().getAttribute("value"));
+        assertEquals(Collections.singletonList(newFile), deferredCache.getPendingWrites());
+
+        deferredCache.flush();
+
+        assertEquals("<root value=\"new\"/>", new String(Files.readAllBytes(newFile.toPath()), StandardCharsets.UTF_8));
+        assertTrue(deferredCache.getPendingWrites().isEmpty());
+    }
+
+    @Test
+    public void testDeferredDeleteHeldUntilFlush() throws Exception {
+        DocumentCache deferredCache = new DocumentCache(true);
+        File directory = temp.newFolder("directory");
+        File existingFile = new File(directory, "existing.xml");
+        writeContent(existingFile, "<root/>");
+        Document doc = deferredCache.load(xmlFile);
+        deferredCache.write(doc, new File(directory, "pending.xml"));
+
+        deferredCache.delete(directory);
+
+        assertTrue(existingFile.exists());
+        assertFalse(deferredCache.exists(existingFile));
+        assertFalse(deferredCache.exists(directory));
+        assertEquals(Collections.singleton("test.xml"), deferredCache.list(temp.getRoot()));
+        assertTrue(deferredCache.getPendingWrites().isEmpty());
+        assertEquals(Collections.singletonList(directory), deferredCache.getPendingDeletes());
+
+        deferredCache.flush();
+
+        assertFalse(directory.exists());
+    }
+
+    @Test
+    public void testFailedFlushLeavesFilesUnchanged() throws Exception {
+        DocumentCache deferredCache = new DocumentCache(true);
+        Document doc = deferredCache.load(xmlFile);
+        File blocker = temp.newFile("blocker");
+
+        doc.getDocumentElement().setAttribute("value", "two");
+        deferredCache.write(doc, xmlFile);
+        deferredCache.write("<root/>".getBytes(StandardCharsets.UTF_8), new File(blocker, "child.xml"));
+
+        try {
+            deferredCache.flush();
+            fail("The flush should fail, since the blocker is not a directory.");
+        } catch (MigrationRuntimeException e) {
+            //Expected
+        }
+
+        assertEquals("one", XmlUtil.loadXml(xmlFile).getDocumentElement().getAttribute("value"));
+        assertEquals(new TreeSet<>(Arrays.asList("blocker", "test.xml")), new TreeSet<>(Arrays.asList(temp.getRoot().list())));
+        assertEquals(2, deferredCache.getPendingWrites().size());
+    }
+
+    @Test
+    public void testRollbackDiscardsPendingChanges() throws Exception {
+        DocumentCache deferredCache = new DocumentCache(true);
+        Document doc = deferredCache.load(xmlFile);
+
+        doc.getDocumentElement().setAttribute("value", "two");
+        deferredCache.write(doc, xmlFile);
+        deferredCache.delete(xmlFile);
+        deferredCache.rollback();
+
+        assertTrue(deferredCache.getPendingWrites().isEmpty());
+        assertTrue(deferredCache.getPendingDeletes().isEmpty());
+        assertTrue(deferredCache.exists(xmlFile));
+        assertEquals("one", deferredCache.load(xmlFile).getDocumentElement().getAttribute("value"));
+    }
+
+    private void writeContent(File file, String content) throws Exception {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.xpath.XPathExpression;
+
+import org.junit.Test;
+
+public class XmlFactoryPoolTest {
+
+    @Test
+    public void testObjectsReusedPerThread() throws Exception {
+        assertSame(XmlFactoryPool.getDocumentBuilder(), XmlFactoryPool.getDocumentBuilder());
+        assertSame(XmlFactoryPool.getTransformer(), XmlFactoryPool.getTransformer());
+        assertSame(XmlFactoryPool.getXPathExpression("/project"), XmlFactoryPool.getXPathExpression("/project"));
+    }
+
+    @Test
+    public void testObjectsNotSharedAcrossThreads() throws Exception {
+        DocumentBuilder builder = XmlFactoryPool.getDocumentBuilder();
+        XPathExpression expression = XmlFactoryPool.getXPathExpression("/project");
+
+        DocumentBuilder otherBuilder = CompletableFuture.supplyAsync(XmlFactoryPool::getDocumentBuilder).get();
+        XPathExpression otherExpression = CompletableFuture.supplyAsync(() -> {
+            try {
+                return XmlFactoryPool.getXPathExpression("/project");
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }).get();
+
+        assertNotSame(builder, otherBuilder);
+        assertNotSame(expression, otherExpression);
+    }
+
+    @Test
+    public void testTransformerResetBetweenUses() {
+        Transformer transformer = XmlFactoryPool.getTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "no");
+        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+
+        Transformer reused = XmlFactoryPool.getTransformer();
+        assertEquals("yes", reused.getOutputProperty(OutputKeys.INDENT));
+        assertEquals("no", reused.getOutputProperty(OutputKeys.OMIT_XML_DECLARATION));
+    }
+}
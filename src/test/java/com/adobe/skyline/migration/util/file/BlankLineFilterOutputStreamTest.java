@@ -0,0 +1,68 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util.file;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class BlankLineFilterOutputStreamTest {
+
+    @Test
+    public void testBlankLinesDropped() throws IOException {
+        assertEquals("<a>\n  <b/>\n</a>\n", filter("<a>\n\n   \n  <b/>\n\t\n</a>\n\n"));
+    }
+
+    @Test
+    public void testLineEndingsNormalized() throws IOException {
+        assertEquals("one\ntwo\nthree\nfour\n", filter("one\r\ntwo\rthree\r\n\r\nfour"));
+    }
+
+    @Test
+    public void testCarriageReturnSplitAcrossWrites() throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (OutputStream out = new BlankLineFilterOutputStream(result)) {
+            out.write("one\r".getBytes(StandardCharsets.UTF_8));
+            out.write("\ntwo".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals("one\ntwo\n", result.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testLongAndMultiByteLinesKept() throws IOException {
+        StringBuilder longLine = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            longLine.append("été ");
+        }
+        assertEquals(longLine + "\n", filter("\n" + longLine + "\n \n"));
+    }
+
+    @Test
+    public void testEmptyInput() throws IOException {
+        assertEquals("", filter(""));
+        assertEquals("", filter(" \n\r\n\t"));
+    }
+
+    private String filter(String input) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (OutputStream out = new BlankLineFilterOutputStream(result)) {
+            out.write(input.getBytes(StandardCharsets.UTF_8));
+        }
+        return result.toString(StandardCharsets.UTF_8);
+    }
+}
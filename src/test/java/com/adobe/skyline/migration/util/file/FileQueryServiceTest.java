@@ -17,12 +17,20 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
 import com.adobe.skyline.migration.SkylineMigrationBaseTest;
 import com.adobe.skyline.migration.testutils.TestConstants;
+import com.adobe.skyline.migration.util.file.matchers.FileNameMatcher;
+import com.adobe.skyline.migration.util.file.matchers.XmlContentMatcher;
 
 public class FileQueryServiceTest extends SkylineMigrationBaseTest {
 
@@ -69,4 +77,90 @@ public class FileQueryServiceTest extends SkylineMigrationBaseTest {
         List<String> result = queryService.findFilesByNodeProperty("jcr:primaryType", "cq:WorkflowLauncher", projectFile);
         assertEquals("Not all files found.", 13, result.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testMultipleMatchersInSinglePass() {
+        File projectFile = projectLoader.copyConfProjectToTemp(temp);
+        FileMatcher launcherMatcher = new XmlContentMatcher("jcr:primaryType", "cq:WorkflowLauncher");
+        FileMatcher nameMatcher = new FileNameMatcher("workflow");
+
+        Map<FileMatcher, List<String>> result = queryService.findFilesMatching(Arrays.asList(launcherMatcher, nameMatcher), projectFile);
+
+        assertEquals(2, result.size());
+        assertEquals(queryService.findFilesByNodeProperty("jcr:primaryType", "cq:WorkflowLauncher", projectFile), result.get(launcherMatcher));
+        assertEquals(queryService.findFileByName("workflow", projectFile), result.get(nameMatcher));
+    }
+
+    @Test
+    public void testMatchersOfOneClassShareAVisit() {
+        File projectFile = projectLoader.copyConfProjectToTemp(temp);
+        FileMatcher launcherMatcher = new XmlContentMatcher("jcr:primaryType", "cq:WorkflowLauncher");
+        FileMatcher nameMatcher = new FileNameMatcher("workflow");
+        FileMatcher modelMatcher = new XmlContentMatcher("sling:resourceType", "cq/workflow/components/pages/model");
+
+        Map<FileMatcher, List<String>> result = queryService.findFilesMatching(Arrays.asList(launcherMatcher, nameMatcher, modelMatcher), projectFile);
+
+        assertEquals(queryService.findFilesByNodeProperty("jcr:primaryType", "cq:WorkflowLauncher", projectFile), result.get(launcherMatcher));
+        assertEquals(queryService.findFileByName("workflow", projectFile), result.get(nameMatcher));
+        assertEquals(queryService.findFilesByNodeProperty("sling:resourceType", "cq/workflow/components/pages/model", projectFile), result.get(modelMatcher));
+
+        AtomicInteger visits = new AtomicInteger();
+        List<String> visited = new ParallelFileWalker(new ForkJoinPool(4)).walk(projectFile, new VisitCountingMatcher(visits));
+        visits.set(0);
+        new ParallelFileWalker(new ForkJoinPool(4)).walk(projectFile, Arrays.asList(new VisitCountingMatcher(visits), new VisitCountingMatcher(visits)));
+        assertEquals(visited.size(), visits.get());
+    }
+
+    @Test
+    public void testParallelSearchKeepsSequentialOrder() {
+        File projectFile = projectLoader.copyConfProjectToTemp(temp);
+        FileMatcher anyFile = file -> true;
+
+        List<String> expected = new ArrayList<>();
+        walkSequentially(projectFile, expected);
+
+        FileQueryService parallelService = new FileQueryService(new ForkJoinPool(4));
+        List<String> result = parallelService.findFileByName(".content.xml", projectFile);
+        List<String> expectedContentXml = new ArrayList<>();
+        for (String path : expected) {
+            if (new File(path).getName().equals(".content.xml")) {
+                expectedContentXml.add(path);
+            }
+        }
+
+        assertEquals(expectedContentXml, result);
+        assertEquals(expected, new ParallelFileWalker(new ForkJoinPool(4)).walk(projectFile, anyFile));
+    }
+
+    //Matches every file, counting each visit once however many matchers of its class are tested in it
+    private static class VisitCountingMatcher implements FileMatcher {
+
+        private final AtomicInteger visits;
+
+        VisitCountingMatcher(AtomicInteger visits) {
+            this.visits = visits;
+        }
+
+        @Override
+        public boolean matches(File file) {
+            return matchesAll(file, Collections.emptyList())[0];
+        }
+
+        @Override
+        public boolean[] matchesAll(File file, List<FileMatcher> others) {
+            visits.incrementAndGet();
+            boolean[] matches = new boolean[others.size() + 1];
+            Arrays.fill(matches, true);
+            return matches;
+        }
+    }
+
+    private void walkSequentially(File file, List<String> paths) {
+        paths.add(file.getAbsoluteFile().toString());
+        if (file.isDirectory()) {
+            for (File child : file.listFiles()) {
+                walkSequentially(child, paths);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileTransactionTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File root;
+    private File existingFile;
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        root = temp.newFolder("root");
+        existingFile = new File(root, "existing.txt");
+        writeContent(existingFile, "original");
+        directory = new File(root, "directory");
+        writeContent(new File(directory, "child.txt"), "child");
+    }
+
+    @Test
+    public void testNothingChangedUntilCommit() throws Exception {
+        FileTransaction transaction = new FileTransaction(root);
+        File newFile = new File(root, "created/new.txt");
+
+        Files.write(transaction.stage(existingFile), "changed".getBytes(StandardCharsets.UTF_8));
+        Files.write(transaction.stage(newFile), "new".getBytes(StandardCharsets.UTF_8));
+        transaction.delete(directory);
+
+        assertEquals("original", readContent(existingFile));
+        assertFalse(newFile.getParentFile().exists());
+        assertTrue(directory.exists());
+
+        transaction.commit();
+
+        assertEquals("changed", readContent(existingFile));
+        assertEquals("new", readContent(newFile));
+        assertFalse(directory.exists());
+        assertArrayEquals(new String[] {"created", "existing.txt"}, sortedChildren(root));
+    }
+
+    @Test
+    public void testFileStagedBelowDeletedDirectory() throws Exception {
+        FileTransaction transaction = new FileTransaction(root);
+        File replacement = new File(directory, "replacement.txt");
+
+        transaction.delete(directory);
+        Files.write(transaction.stage(replacement), "replacement".getBytes(StandardCharsets.UTF_8));
+        transaction.commit();
+
+        assertArrayEquals(new String[] {"replacement.txt"}, sortedChildren(directory));
+        assertEquals("replacement", readContent(replacement));
+    }
+
+    @Test
+    public void testFailedCommitRestoresTree() throws Exception {
+        File blocker = new File(root, "blocker");
+        writeContent(blocker, "a file, not a directory");
+
+        FileTransaction transaction = new FileTransaction(root);
+        transaction.delete(directory);
+        Files.write(transaction.stage(existingFile), "changed".getBytes(StandardCharsets.UTF_8));
+        Files.write(transaction.stage(new File(root, "created/new.txt")), "new".getBytes(StandardCharsets.UTF_8));
+        Files.write(transaction.stage(new File(blocker, "child.txt")), "unreachable".getBytes(StandardCharsets.UTF_8));
+
+        try {
+            transaction.commit();
+            fail("The commit should fail, since the blocker is not a directory.");
+        } catch (IOException e) {
+            //Expected
+        }
+
+        assertEquals("original", readContent(existingFile));
+        assertEquals("child", readContent(new File(directory, "child.txt")));
+        assertArrayEquals(new String[] {"blocker", "directory", "existing.txt"}, sortedChildren(root));
+    }
+
+    @Test
+    public void testRollbackDiscardsStagedFiles() throws Exception {
+        FileTransaction transaction = new FileTransaction(root);
+        Files.write(transaction.stage(existingFile), "changed".getBytes(StandardCharsets.UTF_8));
+
+        transaction.rollback();
+
+        assertEquals("original", readContent(existingFile));
+        assertArrayEquals(new String[] {"directory", "existing.txt"}, sortedChildren(root));
+    }
+
+    @Test
+    public void testRecoverRollsBackInterruptedCommit() throws Exception {
+        //The state a commit leaves behind when the process dies just before deleting the directory
+        File scratchDirectory = new File(root, "." + UUID.randomUUID() + ".staging");
+        File backup = new File(scratchDirectory, "1.bak");
+        File createdDirectory = new File(root, "created");
+        writeContent(backup, "original");
+        writeContent(existingFile, "changed");
+        writeContent(new File(createdDirectory, "new.txt"), "new");
+        writeContent(new File(scratchDirectory, "journal"), createdDirectory.getPath() + "\t\n"
+                + existingFile.getPath() + "\t" + backup.getPath() + "\n"
+                + directory.getPath() + "\t" + new File(scratchDirectory, "2.b"));
+
+        List<File> recovered = FileTransaction.recover(root);
+
+        assertEquals(Collections.singletonList(scratchDirectory), recovered);
+        assertEquals("original", readContent(existingFile));
+        assertEquals("child", readContent(new File(directory, "child.txt")));
+        assertArrayEquals(new String[] {"directory", "existing.txt"}, sortedChildren(root));
+    }
+
+    @Test
+    public void testRecoverRemovesUncommittedScratchDirectory() throws Exception {
+        FileTransaction transaction = new FileTransaction(root);
+        Files.write(transaction.stage(existingFile), "changed".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(1, FileTransaction.recover(root).size());
+
+        assertEquals("original", readContent(existingFile));
+        assertArrayEquals(new String[] {"directory", "existing.txt"}, sortedChildren(root));
+        assertTrue(FileTransaction.recover(root).isEmpty());
+    }
+
+    private static String[] sortedChildren(File dir) {
+        String[] children = dir.list();
+        Arrays.sort(children);
+        return children;
+    }
+
+    private static String readContent(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private static void writeContent(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -48,4 +48,17 @@ public class FileUtilTest extends SkylineMigrationBaseTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testEmptyLineRemovalLeavesNoTempFiles() throws IOException {
+        File folder = temp.newFolder();
+        File target = new File(folder, "testEmptyLines.xml");
+        File testFile = new File(getClass().getClassLoader().getResource("testEmptyLines.xml").getPath());
+        Files.copy(testFile.toPath(), target.toPath());
+
+        FileUtil.removeEmptyLinesFromFile(target);
+
+        assertArrayEquals(new String[] {"testEmptyLines.xml"}, folder.list());
+        assertFalse(new File("tempCopy.txt").exists());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ Copyright 2026 Adobe. All rights reserved.
+ This file is licensed to you under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License. You may obtain a copy
+ of the License at http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software distributed under
+ the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR REPRESENTATIONS
+ OF ANY KIND, either express or implied. See the License for the specific language
+ governing permissions and limitations under the License.
+ */
+
+package com.adobe.skyline.migration.util.file.matchers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.adobe.skyline.migration.exception.MigrationRuntimeException;
+import com.adobe.skyline.migration.util.file.FileMatcher;
+
+public class XmlContentMatcherTest {
+
+    private static final String LAUNCHER_PROPERTY = "jcr:primaryType=\"cq:WorkflowLauncher\"";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private XmlContentMatcher matcher = new XmlContentMatcher("jcr:primaryType", "cq:WorkflowLauncher");
+
+    @Test
+    public void testPropertyFound() throws IOException {
+        File file = writeFile("<jcr:root xmlns:jcr=\"http://www.jcp.org/jcr/1.0\" " + LAUNCHER_PROPERTY + "/>");
+        assertTrue(matcher.matches(file));
+    }
+
+    @Test
+    public void testOtherValueNotMatched() throws IOException {
+        File file = writeFile("<jcr:root jcr:primaryType=\"cq:WorkflowModel\" enabled=\"cq:WorkflowLauncher\"/>");
+        assertFalse(matcher.matches(file));
+    }
+
+    @Test
+    public void testPatternIsNotARegex() throws IOException {
+        XmlContentMatcher dotMatcher = new XmlContentMatcher("a.b", "c");
+        assertFalse(dotMatcher.matches(writeFile("<root aXb=\"c\"/>")));
+        assertTrue(dotMatcher.matches(writeFile("<root a.b=\"c\"/>")));
+    }
+
+    @Test
+    public void testMatchAcrossReadBoundaries() throws IOException {
+        //Place the pattern at every offset around the 64K read buffer boundary
+        for (int offset = 65536 - LAUNCHER_PROPERTY.length(); offset <= 65536; offset++) {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < offset; i++) {
+                content.append(' ');
+            }
+            content.append(LAUNCHER_PROPERTY);
+            content.append("   ");
+
+            assertTrue("Missed match at offset " + offset, matcher.matches(writeFile(content.toString())));
+        }
+    }
+
+    @Test
+    public void testAllPatternsSearchedInOnePass() throws IOException {
+        XmlContentMatcher modelMatcher = new XmlContentMatcher("jcr:primaryType", "cq:WorkflowModel");
+        XmlContentMatcher enabledMatcher = new XmlContentMatcher("enabled", "true");
+        List<FileMatcher> others = Arrays.asList(modelMatcher, enabledMatcher);
+
+        File launcher = writeFile("<jcr:root " + LAUNCHER_PROPERTY + " enabled=\"true\"/>");
+        assertArrayEquals(new boolean[] {true, false, true}, matcher.matchesAll(launcher, others));
+
+        File model = writeFile("<jcr:root jcr:primaryType=\"cq:WorkflowModel\"/>");
+        assertArrayEquals(new boolean[] {false, true, false}, matcher.matchesAll(model, others));
+
+        assertArrayEquals(new boolean[] {false, false, false}, matcher.matchesAll(temp.newFolder(), others));
+    }
+
+    @Test
+    public void testEmptyFileAndDirectoryNotMatched() throws IOException {
+        assertFalse(matcher.matches(writeFile("")));
+        assertFalse(matcher.matches(temp.newFolder()));
+    }
+
+    @Test(expected = MigrationRuntimeException.class)
+    public void testMissingFile() {
+        matcher.matches(new File(temp.getRoot(), "missing.xml"));
+    }
+
+    private File writeFile(String content) throws IOException {
+        File file = temp.newFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}